@@ -0,0 +1,20 @@
+package com.teamtacles.teamtacles_api.changebus;
+
+/**
+ * Propagates entity changes to every node of the application, so the in-process caches and event
+ * streams of each node also see the writes made by the others.
+ *
+ * A notification published inside a transaction is delivered only if and after it commits; outside
+ * of a transaction it is delivered right away. Every node, including the one that published it,
+ * receives the notification as a {@link ChangeNotification} application event.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public interface ChangeBus {
+
+    String PROPERTY = "teamtacles.change-bus.type";
+
+    void publish(ChangeNotification notification);
+}
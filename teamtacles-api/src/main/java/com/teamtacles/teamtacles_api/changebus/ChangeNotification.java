@@ -0,0 +1,51 @@
+package com.teamtacles.teamtacles_api.changebus;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.teamtacles.teamtacles_api.dto.response.TaskEventDTO;
+import com.teamtacles.teamtacles_api.model.enums.ChangeType;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A change propagated by the {@link ChangeBus} to every node, and published on each of them as a
+ * Spring application event for the local caches and subscribers ({@code @EventListener}).
+ * Kept small, since a PostgreSQL notification payload is limited to 8000 bytes.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ChangeNotification {
+    private ChangeType type;
+    private Long id;
+    private List<TaskEventDTO> tasks;
+    private List<String> tokenIds;
+
+    public static ChangeNotification userRoles(Long userId) {
+        return new ChangeNotification(ChangeType.USER_ROLES, userId, null, null);
+    }
+
+    public static ChangeNotification projectMembership(Long projectId) {
+        return new ChangeNotification(ChangeType.PROJECT_MEMBERSHIP, projectId, null, null);
+    }
+
+    public static ChangeNotification tasks(Long projectId, List<TaskEventDTO> tasks) {
+        return new ChangeNotification(ChangeType.TASK, projectId, tasks, null);
+    }
+
+    public static ChangeNotification tokensRevoked(List<String> tokenIds) {
+        return new ChangeNotification(ChangeType.TOKENS_REVOKED, null, null, tokenIds);
+    }
+
+    public static ChangeNotification reset() {
+        return new ChangeNotification(ChangeType.RESET, null, null, null);
+    }
+}
@@ -0,0 +1,41 @@
+package com.teamtacles.teamtacles_api.changebus;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Single-node {@link ChangeBus} that delivers the notifications only within this process.
+ * Used by the tests (H2) and by deployments with a single replica.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Component
+@ConditionalOnProperty(name = ChangeBus.PROPERTY, havingValue = "memory")
+public class InMemoryChangeBus implements ChangeBus {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public InMemoryChangeBus(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public void publish(ChangeNotification notification) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eventPublisher.publishEvent(notification);
+            return;
+        }
+        // mesma semântica do NOTIFY: entregue somente após o commit
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                eventPublisher.publishEvent(notification);
+            }
+        });
+    }
+}
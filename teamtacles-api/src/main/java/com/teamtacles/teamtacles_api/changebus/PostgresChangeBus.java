@@ -0,0 +1,167 @@
+package com.teamtacles.teamtacles_api.changebus;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * {@link ChangeBus} backed by PostgreSQL {@code LISTEN/NOTIFY}, so no message broker is needed.
+ *
+ * Notifications are sent with {@code pg_notify} on the connection of the current transaction, and
+ * PostgreSQL itself delivers them only when it commits. Each node keeps one dedicated connection,
+ * outside of the pool, listening on the channel; a single thread reads it and publishes every
+ * notification received as a local {@link ChangeNotification} event. When the listener connection
+ * is lost, the notifications sent meanwhile are lost too, so after reconnecting a local
+ * {@link ChangeNotification#reset() reset} is published for the caches to start over.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Component
+@ConditionalOnProperty(name = ChangeBus.PROPERTY, havingValue = "postgres", matchIfMissing = true)
+public class PostgresChangeBus implements ChangeBus, SmartLifecycle {
+
+    public static final String CHANNEL = "teamtacles_changes";
+
+    private static final Logger logger = LoggerFactory.getLogger(PostgresChangeBus.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSourceProperties dataSourceProperties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final Duration pollTimeout;
+    private final Duration reconnectDelay;
+
+    private volatile boolean running;
+    private volatile Connection listenerConnection;
+    private Thread listenerThread;
+
+    public PostgresChangeBus(JdbcTemplate jdbcTemplate, DataSourceProperties dataSourceProperties, ApplicationEventPublisher eventPublisher, ObjectMapper objectMapper,
+        @Value("${teamtacles.change-bus.poll-timeout:10s}") Duration pollTimeout,
+        @Value("${teamtacles.change-bus.reconnect-delay:5s}") Duration reconnectDelay) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSourceProperties = dataSourceProperties;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.pollTimeout = pollTimeout;
+        this.reconnectDelay = reconnectDelay;
+    }
+
+    @Override
+    public void publish(ChangeNotification notification) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(notification);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialize change notification.", ex);
+        }
+        // na conexão da transação atual (se houver): o PostgreSQL só entrega a notificação no commit
+        jdbcTemplate.query("SELECT pg_notify(?, ?)", rs -> null, CHANNEL, payload);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        listenerThread = Thread.ofPlatform().daemon().name("change-bus-listener").start(this::listen);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        closeListenerConnection();
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listen() {
+        boolean reconnecting = false;
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword())) {
+                listenerConnection = connection;
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                logger.info("Listening for changes on channel {}.", CHANNEL);
+                if (reconnecting) {
+                    eventPublisher.publishEvent(ChangeNotification.reset());
+                }
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications((int) pollTimeout.toMillis());
+                    if (notifications == null || notifications.length == 0) {
+                        // sem notificações: confirma que a conexão continua viva
+                        try (Statement statement = connection.createStatement()) {
+                            statement.execute("SELECT 1");
+                        }
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        dispatch(notification.getParameter());
+                    }
+                }
+            } catch (SQLException ex) {
+                if (!running) {
+                    return;
+                }
+                logger.warn("Change bus listener connection lost, reconnecting in {}: {}", reconnectDelay, ex.getMessage());
+                reconnecting = true;
+                try {
+                    Thread.sleep(reconnectDelay);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            } finally {
+                listenerConnection = null;
+            }
+        }
+    }
+
+    private void dispatch(String payload) {
+        try {
+            eventPublisher.publishEvent(objectMapper.readValue(payload, ChangeNotification.class));
+        } catch (JsonProcessingException ex) {
+            logger.warn("Ignoring malformed change notification: {}", payload);
+        } catch (RuntimeException ex) {
+            // um consumidor com erro não pode derrubar o listener
+            logger.error("Change notification consumer failed: ", ex);
+        }
+    }
+
+    private void closeListenerConnection() {
+        Connection connection = listenerConnection;
+        if (connection != null) {
+            try {
+                connection.close();
+            } catch (SQLException ex) {
+                logger.debug("Error closing the change bus listener connection: {}", ex.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.teamtacles.teamtacles_api.concurrent;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import com.teamtacles.teamtacles_api.exception.ServiceBusyException;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+
+/**
+ * Fixed pool of threads with a bounded queue, for work that must not pile up nor share threads
+ * with unrelated work. At most {@code threads} tasks run at a time and at most {@code queueCapacity}
+ * wait for a thread; beyond that the task is refused with a {@link ServiceBusyException} (503)
+ * right away.
+ *
+ * It deliberately does not implement {@link java.util.concurrent.Executor}: a bean of that type
+ * would replace the application task executor of Spring Boot. Pass {@code boundedExecutor::execute}
+ * where an Executor is needed.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class BoundedExecutor implements MeterBinder {
+
+    private final String name;
+    private final String busyMessage;
+    private final ThreadPoolExecutor executor;
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * @param name The name of the pool, used in the thread names and as the name tag of its metrics.
+     * @param threads The number of threads.
+     * @param queueCapacity The number of tasks that can wait for a thread; 0 hands each task directly to a free thread.
+     * @param busyMessage The message of the ServiceBusyException thrown when the pool is full.
+     */
+    public BoundedExecutor(String name, int threads, int queueCapacity, String busyMessage) {
+        this.name = name;
+        this.busyMessage = busyMessage;
+        BlockingQueue<Runnable> queue = queueCapacity > 0 ? new ArrayBlockingQueue<>(queueCapacity) : new SynchronousQueue<>();
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, queue,
+            runnable -> Thread.ofPlatform().daemon().name(name + "-" + threadCount.incrementAndGet()).unstarted(runnable),
+            new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Runs a task on the pool.
+     *
+     * @param task The task.
+     * @throws ServiceBusyException if every thread is busy and the queue is full.
+     */
+    public void execute(Runnable task) {
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException ex) {
+            rejected.increment();
+            throw new ServiceBusyException(busyMessage);
+        }
+    }
+
+    /**
+     * Runs an operation on the pool.
+     *
+     * @param operation The operation.
+     * @return A future completed with the result of the operation.
+     * @throws ServiceBusyException if every thread is busy and the queue is full.
+     */
+    public <T> CompletableFuture<T> supplyAsync(Supplier<T> operation) {
+        return CompletableFuture.supplyAsync(operation, this::execute);
+    }
+
+    public int queueSize() {
+        return executor.getQueue().size();
+    }
+
+    public long rejectedCount() {
+        return rejected.sum();
+    }
+
+    // executor_queued_tasks{name="..."}, executor_active_threads, ... e as tarefas recusadas
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        new ExecutorServiceMetrics(executor, name, Tags.empty()).bindTo(registry);
+        FunctionCounter.builder("teamtacles.executor.rejected", rejected, LongAdder::sum)
+            .tag("name", name)
+            .description("Tasks refused because every thread was busy and the queue was full")
+            .register(registry);
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
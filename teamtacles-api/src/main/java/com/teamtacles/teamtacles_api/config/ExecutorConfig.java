@@ -0,0 +1,28 @@
+package com.teamtacles.teamtacles_api.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.teamtacles.teamtacles_api.concurrent.BoundedExecutor;
+
+@Configuration
+public class ExecutorConfig {
+
+    public static final String TOKEN_ISSUING_EXECUTOR = "tokenIssuing";
+    public static final String TASK_EXPORT_EXECUTOR = "taskExport";
+
+    // emissão dos tokens após o BCrypt (banco e assinatura RSA): pool próprio, fora do executor das requisições assíncronas
+    @Bean(name = TOKEN_ISSUING_EXECUTOR, destroyMethod = "shutdown")
+    public BoundedExecutor tokenIssuingExecutor(
+            @Value("${teamtacles.security.token-issuing.threads:4}") int threads,
+            @Value("${teamtacles.security.token-issuing.queue-capacity:64}") int queueCapacity) {
+        return new BoundedExecutor(TOKEN_ISSUING_EXECUTOR, threads, queueCapacity, "Too many concurrent logins, please try again in a moment.");
+    }
+
+    // uma thread por exportação em andamento; a fila só absorve a troca entre o fim de uma exportação e o início da próxima
+    @Bean(name = TASK_EXPORT_EXECUTOR, destroyMethod = "shutdown")
+    public BoundedExecutor taskExportExecutor(@Value("${teamtacles.task-export.max-concurrent:4}") int maxConcurrent) {
+        return new BoundedExecutor(TASK_EXPORT_EXECUTOR, maxConcurrent, maxConcurrent, "Too many concurrent exports, please try again later.");
+    }
+}
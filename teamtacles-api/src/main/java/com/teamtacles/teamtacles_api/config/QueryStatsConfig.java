@@ -0,0 +1,66 @@
+package com.teamtacles.teamtacles_api.config;
+
+import java.time.Duration;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+
+import com.teamtacles.teamtacles_api.monitoring.QueryStats;
+import com.teamtacles.teamtacles_api.monitoring.QueryStatsFilter;
+import com.teamtacles.teamtacles_api.monitoring.QueryStatsIntegrator;
+import com.teamtacles.teamtacles_api.monitoring.QueryStatsListener;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+@Configuration
+public class QueryStatsConfig {
+
+    // estático: o post-processor precisa existir antes do DataSource ser criado
+    @Bean
+    public static BeanPostProcessor queryStatsDataSourcePostProcessor(
+            @Value("${teamtacles.monitoring.slow-query-threshold:500ms}") Duration slowQueryThreshold) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                        .name(beanName)
+                        .listener(new QueryStatsListener(slowQueryThreshold))
+                        .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer queryStatsHibernatePropertiesCustomizer() {
+        return properties -> properties.put("hibernate.integrator_provider",
+            (IntegratorProvider) () -> List.of(new QueryStatsIntegrator()));
+    }
+
+    // o executor de tarefas da aplicação roda o trabalho assíncrono das requisições (StreamingResponseBody, Callable)
+    @Bean
+    public TaskDecorator queryStatsTaskDecorator() {
+        return QueryStats::propagate;
+    }
+
+    // antes dos filtros do Spring Security, para contar também a consulta do usuário autenticado
+    @Bean
+    public FilterRegistrationBean<QueryStatsFilter> queryStatsFilter() {
+        FilterRegistrationBean<QueryStatsFilter> registration = new FilterRegistrationBean<>(new QueryStatsFilter());
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1);
+        return registration;
+    }
+}
@@ -0,0 +1,95 @@
+package com.teamtacles.teamtacles_api.config;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.jcache.MissingCacheStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.teamtacles.teamtacles_api.monitoring.CacheMetrics;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Hibernate second-level cache, kept in Caffeine through JCache.
+ *
+ * Holds the reference data read by almost every request: the roles, the users with their roles
+ * and the team of each project. Hibernate keeps the regions up to date with the writes made on
+ * this node; the writes made on other nodes arrive through the change bus
+ * (SecondLevelCacheInvalidator), and the TTL bounds the staleness of anything missed.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    public static final String ROLE_REGION = "role";
+    public static final String USER_REGION = "user";
+    public static final String USER_ROLES_REGION = "user.roles";
+    public static final String PROJECT_TEAM_REGION = "project.team";
+    public static final String QUERY_RESULTS_REGION = "default-query-results-region";
+    public static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    public static final List<String> REGIONS = List.of(ROLE_REGION, USER_REGION, USER_ROLES_REGION,
+        PROJECT_TEAM_REGION, QUERY_RESULTS_REGION, UPDATE_TIMESTAMPS_REGION);
+
+    // um CacheManager por contexto: contextos de teste no mesmo processo não compartilham regiões
+    @Bean
+    public CacheManager secondLevelCacheManager(
+            @Value("${teamtacles.second-level-cache.maximum-size:10000}") long maximumSize,
+            @Value("${teamtacles.second-level-cache.ttl:10m}") Duration ttl) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+            .getCacheManager(URI.create("teamtacles:second-level-cache:" + UUID.randomUUID()), getClass().getClassLoader());
+        for (String region : REGIONS) {
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setNativeStatisticsEnabled(true);
+            configuration.setMaximumSize(OptionalLong.of(maximumSize));
+            // os timestamps de atualização das tabelas não podem expirar antes dos resultados de consulta
+            if (!UPDATE_TIMESTAMPS_REGION.equals(region)) {
+                configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.MILLISECONDS.toNanos(ttl.toMillis())));
+            }
+            cacheManager.createCache(region, configuration);
+        }
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheHibernatePropertiesCustomizer(CacheManager secondLevelCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+            // uma região não declarada aqui é erro de configuração, não uma região criada sem limites
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, MissingCacheStrategy.FAIL.getExternalRepresentation());
+        };
+    }
+
+    // uma métrica por região, com o prefixo hibernate. (cache="hibernate.user", ...)
+    @Bean
+    public MeterBinder secondLevelCacheMetrics(CacheManager secondLevelCacheManager) {
+        return registry -> {
+            for (String region : REGIONS) {
+                Cache<?, ?> cache = secondLevelCacheManager.getCache(region).unwrap(Cache.class);
+                CacheMetrics.monitor(registry, cache, "hibernate." + region);
+            }
+        };
+    }
+}
@@ -0,0 +1,79 @@
+package com.teamtacles.teamtacles_api.config;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.teamtacles.teamtacles_api.changebus.ChangeNotification;
+import com.teamtacles.teamtacles_api.model.Project;
+import com.teamtacles.teamtacles_api.model.User;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Evicts from the second-level cache the data changed on other nodes, as announced by the change bus.
+ *
+ * Runs before the other consumers of the change bus, so the authentication cache never reloads a
+ * user from a region that still holds its old roles.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Component
+public class SecondLevelCacheInvalidator {
+
+    private static final String USER_ROLES_COLLECTION = User.class.getName() + ".roles";
+    private static final String PROJECT_TEAM_COLLECTION = Project.class.getName() + ".team";
+
+    private final Cache cache;
+    private final Map<String, LongAdder> invalidations = new ConcurrentHashMap<>();
+
+    public SecondLevelCacheInvalidator(EntityManagerFactory entityManagerFactory) {
+        this.cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    }
+
+    /**
+     * Applies a change received from the change bus: a role change evicts the user and its roles,
+     * a membership change evicts the team of the project, and a reset empties every region.
+     *
+     * @param notification The change notification.
+     */
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onChange(ChangeNotification notification) {
+        switch (notification.getType()) {
+            case USER_ROLES -> {
+                cache.evictEntityData(User.class, notification.getId());
+                cache.evictCollectionData(USER_ROLES_COLLECTION, notification.getId());
+                countInvalidation(SecondLevelCacheConfig.USER_REGION);
+                countInvalidation(SecondLevelCacheConfig.USER_ROLES_REGION);
+            }
+            case PROJECT_MEMBERSHIP -> {
+                cache.evictCollectionData(PROJECT_TEAM_COLLECTION, notification.getId());
+                countInvalidation(SecondLevelCacheConfig.PROJECT_TEAM_REGION);
+            }
+            case RESET -> {
+                cache.evictAllRegions();
+                SecondLevelCacheConfig.REGIONS.forEach(this::countInvalidation);
+            }
+            default -> { }
+        }
+    }
+
+    public long invalidationCount(String region) {
+        LongAdder count = invalidations.get(region);
+        return count != null ? count.sum() : 0;
+    }
+
+    private void countInvalidation(String region) {
+        invalidations.computeIfAbsent(region, name -> new LongAdder()).increment();
+    }
+}
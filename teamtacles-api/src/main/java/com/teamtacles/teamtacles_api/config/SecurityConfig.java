@@ -3,34 +3,44 @@ package com.teamtacles.teamtacles_api.config;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
 import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 
 import com.nimbusds.jose.jwk.JWKSet;
 import com.nimbusds.jose.jwk.RSAKey;
 import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import com.teamtacles.teamtacles_api.security.CachingJwtDecoder;
 import com.teamtacles.teamtacles_api.security.CustomJwtAuthenticationConverter;
 
 import java.security.interfaces.RSAPrivateKey;
 import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
 
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity
 public class SecurityConfig {
 
+    public static final String METRICS_ROLE = "METRICS";
+
     @Value("${jwt.public.key}") 
     private RSAPublicKey key;
     @Value("${jwt.private.key}")
@@ -41,7 +51,37 @@ public class SecurityConfig {
         return new CustomJwtAuthenticationConverter();
     } 
 
+    // /actuator/** tem cadeia própria: health é público, prometheus exige o usuário do scraper (HTTP Basic);
+    // sem senha configurada nenhum usuário é criado e o endpoint responde sempre 401
+    @Bean
+    @Order(1)
+    public SecurityFilterChain actuatorFilterChain(HttpSecurity http, PasswordEncoder passwordEncoder,
+        @Value("${teamtacles.monitoring.scraper.username:prometheus}") String username,
+        @Value("${teamtacles.monitoring.scraper.password:}") String password) throws Exception {
+
+        InMemoryUserDetailsManager scrapers = new InMemoryUserDetailsManager();
+        if (!password.isBlank()) {
+            scrapers.createUser(User.withUsername(username)
+                .password(passwordEncoder.encode(password))
+                .roles(METRICS_ROLE)
+                .build());
+        }
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider(passwordEncoder);
+        provider.setUserDetailsService(scrapers);
+
+        http.securityMatcher("/actuator/**")
+                .csrf(csrf -> csrf.disable())
+                .authorizeHttpRequests(auth -> auth.requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/prometheus").hasRole(METRICS_ROLE)
+                        .anyRequest().denyAll())
+                .httpBasic(Customizer.withDefaults())
+                .authenticationManager(new ProviderManager(provider))
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS));
+        return http.build();
+    }
+
     @Bean
+    @Order(2)
     public SecurityFilterChain filterChain(HttpSecurity http, 
         CustomJwtAuthenticationConverter customJwtAuthenticationConverter) throws AuthenticationCredentialsNotFoundException, AccessDeniedException, Exception {
 
@@ -49,21 +89,26 @@ public class SecurityConfig {
                 .headers(headers -> headers.frameOptions().sameOrigin()) //
                 .authorizeHttpRequests(auth ->  auth.requestMatchers("/api/auth/**").permitAll()
                         .requestMatchers("/api/user/register").permitAll()
-                        .requestMatchers("/swagger-ui.html", "/swagger-ui/**", "/v3/api-docs/**").permitAll().anyRequest().authenticated())
+                        .requestMatchers("/swagger-ui.html", "/swagger-ui/**", "/v3/api-docs/**").permitAll()
+                        .anyRequest().authenticated())
                 .oauth2ResourceServer(
                         conf -> conf.jwt(jwt -> jwt.jwtAuthenticationConverter(customJwtAuthenticationConverter)))
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS));
         return http.build();  
     }
 
+    // custo configurável: ver BCryptCostBenchmark; hashes de outro custo são refeitos no login (PasswordHasher)
     @Bean
-    PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    PasswordEncoder passwordEncoder(@Value("${teamtacles.security.password.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 
+    // os tokens já verificados ficam em cache até o exp: a assinatura RS256 é verificada uma vez por token
     @Bean
-    JwtDecoder jwtDecoder() {
-        return NimbusJwtDecoder.withPublicKey(this.key).build();
+    CachingJwtDecoder jwtDecoder(@Value("${teamtacles.security.jwt-cache.maximum-size:10000}") long maximumSize,
+        @Value("${teamtacles.security.jwt-cache.maximum-ttl:1h}") Duration maximumTtl) {
+        JwtDecoder decoder = NimbusJwtDecoder.withPublicKey(this.key).build();
+        return new CachingJwtDecoder(decoder, maximumSize, maximumTtl);
     }
 
     @Bean
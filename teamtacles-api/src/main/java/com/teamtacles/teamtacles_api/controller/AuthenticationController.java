@@ -1,5 +1,9 @@
 package com.teamtacles.teamtacles_api.controller;
 
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -7,16 +11,20 @@ import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.RequestBody;
 
 import com.teamtacles.teamtacles_api.dto.authentication.AuthenticationDTO;
+import com.teamtacles.teamtacles_api.dto.authentication.RefreshTokenRequestDTO;
+import com.teamtacles.teamtacles_api.dto.authentication.TokenResponseDTO;
 import com.teamtacles.teamtacles_api.service.AuthenticationService;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.validation.Valid;
 
 /**
  * REST controller for handling user authentication operations in the TeamTacles application.
- * This controller provides an endpoint for users to authenticate and receive a JWT token.
+ * This controller provides endpoints for users to authenticate and receive a JWT token,
+ * to renew it with a refresh token and to log out.
  *
  * @author TeamTacles 
  * @version 1.0
@@ -34,21 +42,60 @@ public class AuthenticationController {
 
     /**
      * Authenticates a user based on the provided username and password.
-     * Upon successful authentication, a JSON Web Token (JWT) is returned, which can then be used
-     * to access protected resources within the application.
+     * Upon successful authentication, a short-lived JSON Web Token (JWT) is returned, which can then be used
+     * to access protected resources within the application, together with a refresh token to renew it.
+     * The request thread is released while the password is verified on the password hashing pool.
      *
      * @param request The AuthenticationDTO containing the user's credentials (username and password).
-     * @return A String representing the JWT token if authentication is successful.
+     * @return A future completed with the JWT token and the refresh token if authentication is successful.
      */
-    @Operation(summary = "Authenticate User", description = "Authenticates a user using the provided username and password, and returns a JWT token.")
+    @Operation(summary = "Authenticate User", description = "Authenticates a user using the provided username and password, and returns a JWT token and a refresh token.")
     @ApiResponses(value = {
-        @ApiResponse(responseCode = "200", description = "Authentication successful, returns JWT token."),
-        @ApiResponse(responseCode = "404", description = "Not found: Muser not found."),
-        @ApiResponse(responseCode = "500", description = "Internal Server Error: Unmapped error.")
+        @ApiResponse(responseCode = "200", description = "Authentication successful, returns JWT token and refresh token."),
+        @ApiResponse(responseCode = "401", description = "Unauthorized: Invalid username or password."),
+        @ApiResponse(responseCode = "500", description = "Internal Server Error: Unmapped error."),
+        @ApiResponse(responseCode = "503", description = "Service Unavailable: Too many concurrent logins, retry after the Retry-After delay.")
     })
     @PostMapping("authenticate")
-    public String authenticate(@RequestBody @Parameter(description = "User credentials for authentication (username and password).") AuthenticationDTO request) {
+    public CompletableFuture<TokenResponseDTO> authenticate(@RequestBody @Parameter(description = "User credentials for authentication (username and password).") AuthenticationDTO request) {
         UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(request.getUserName(), request.getPassword());
         return authenticationService.authenticate(authentication);
     }
-}
\ No newline at end of file
+
+    /**
+     * Exchanges a refresh token for a new JWT token and a new refresh token.
+     * The refresh token can be used only once; using it again revokes the whole session.
+     *
+     * @param request The RefreshTokenRequestDTO containing the refresh token.
+     * @return A ResponseEntity containing the new tokens.
+     */
+    @Operation(summary = "Refresh Token", description = "Exchanges a refresh token for a new JWT token and a new refresh token. A refresh token already used revokes the session.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Tokens renewed successfully."),
+        @ApiResponse(responseCode = "400", description = "Bad request: Refresh token missing."),
+        @ApiResponse(responseCode = "401", description = "Unauthorized: Refresh token invalid, expired, revoked or already used."),
+        @ApiResponse(responseCode = "500", description = "Internal Server Error: Unmapped error.")
+    })
+    @PostMapping("refresh")
+    public ResponseEntity<TokenResponseDTO> refresh(@RequestBody @Valid @Parameter(description = "The refresh token to exchange.") RefreshTokenRequestDTO request) {
+        return ResponseEntity.ok(authenticationService.refresh(request.getRefreshToken()));
+    }
+
+    /**
+     * Logs out, revoking the refresh token and the JWT tokens issued with it.
+     *
+     * @param request The RefreshTokenRequestDTO containing the refresh token of the session.
+     * @return A ResponseEntity with no content.
+     */
+    @Operation(summary = "Logout", description = "Revokes the refresh token and the JWT tokens issued with it.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "Session revoked successfully."),
+        @ApiResponse(responseCode = "400", description = "Bad request: Refresh token missing."),
+        @ApiResponse(responseCode = "500", description = "Internal Server Error: Unmapped error.")
+    })
+    @PostMapping("logout")
+    public ResponseEntity<Void> logout(@RequestBody @Valid @Parameter(description = "The refresh token of the session.") RefreshTokenRequestDTO request) {
+        authenticationService.logout(request.getRefreshToken());
+        return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
+    }
+}
@@ -0,0 +1,72 @@
+package com.teamtacles.teamtacles_api.controller;
+
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.teamtacles.teamtacles_api.dto.response.CacheStatsResponseDTO;
+import com.teamtacles.teamtacles_api.service.CacheStatsService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+/**
+ * REST controller exposing operational information about the application caches.
+ * Restricted to administrators.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@RestController
+@RequestMapping("/api/cache")
+public class CacheController {
+
+    private final CacheStatsService cacheStatsService;
+
+    public CacheController(CacheStatsService cacheStatsService) {
+        this.cacheStatsService = cacheStatsService;
+    }
+
+    /**
+     * Retrieves the hit, miss, eviction and invalidation counters of every application cache.
+     *
+     * @return A ResponseEntity containing the list of CacheStatsResponseDTO and an HTTP status of 200 (OK).
+     */
+    @Operation(summary = "Get cache statistics", description = "Retrieves hit, miss, eviction and invalidation counters of the application caches. Only accessible by administrators.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved the cache statistics."),
+        @ApiResponse(responseCode = "401", description = "Unauthorized: Authentication required or invalid token."),
+        @ApiResponse(responseCode = "403", description = "Forbidden: User does not have the necessary 'ADMIN' role to access this resource."),
+        @ApiResponse(responseCode = "500", description = "Internal Server Error: Unmapped error.")
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/stats")
+    public ResponseEntity<List<CacheStatsResponseDTO>> getCacheStats() {
+        return ResponseEntity.status(HttpStatus.OK).body(cacheStatsService.getCacheStats());
+    }
+
+    /**
+     * Retrieves the hit, miss, eviction and invalidation counters of every region of the Hibernate second-level cache.
+     *
+     * @return A ResponseEntity containing the list of CacheStatsResponseDTO and an HTTP status of 200 (OK).
+     */
+    @Operation(summary = "Get second-level cache region statistics", description = "Retrieves hit, miss, eviction and invalidation counters of each Hibernate second-level cache region (roles, users, user roles, project teams and query cache). Only accessible by administrators.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved the region statistics."),
+        @ApiResponse(responseCode = "401", description = "Unauthorized: Authentication required or invalid token."),
+        @ApiResponse(responseCode = "403", description = "Forbidden: User does not have the necessary 'ADMIN' role to access this resource."),
+        @ApiResponse(responseCode = "500", description = "Internal Server Error: Unmapped error.")
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/regions")
+    public ResponseEntity<List<CacheStatsResponseDTO>> getSecondLevelCacheStats() {
+        return ResponseEntity.status(HttpStatus.OK).body(cacheStatsService.getSecondLevelCacheStats());
+    }
+}
@@ -4,8 +4,10 @@ import java.time.LocalDateTime;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -15,17 +17,25 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.teamtacles.teamtacles_api.dto.page.CursorPagedResponse;
 import com.teamtacles.teamtacles_api.dto.page.PagedResponse;
 import com.teamtacles.teamtacles_api.dto.request.ProjectRequestDTO;
 import com.teamtacles.teamtacles_api.dto.request.ProjectRequestPatchDTO;
 import com.teamtacles.teamtacles_api.dto.response.ProjectResponseDTO;
+import com.teamtacles.teamtacles_api.dto.response.ProjectResponseFilteredDTO;
+import com.teamtacles.teamtacles_api.dto.response.ProjectStatusCountsResponseDTO;
 import com.teamtacles.teamtacles_api.dto.response.TaskResponseDTO;
 import com.teamtacles.teamtacles_api.model.UserAuthenticated;
+import com.teamtacles.teamtacles_api.service.ProjectEventService;
 import com.teamtacles.teamtacles_api.service.ProjectService;
+import com.teamtacles.teamtacles_api.service.ProjectService.TaggedProject;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -49,9 +59,11 @@ import org.springframework.web.bind.annotation.PutMapping;
 public class ProjectController {
 
     private final ProjectService projectService;
+    private final ProjectEventService projectEventService;
 
-    public ProjectController(ProjectService projectService){
+    public ProjectController(ProjectService projectService, ProjectEventService projectEventService){
         this.projectService = projectService;
+        this.projectEventService = projectEventService;
     }
 
     /**
@@ -86,20 +98,30 @@ public class ProjectController {
      * or administrators can view it.
      *
      * @param id The unique ID of the project to retrieve.
+     * @param webRequest The current request, whose If-None-Match header is compared with the ETag of the project.
      * @param authenticatedUser The UserAuthenticated object representing the currently authenticated user.
      * @return A {@link ResponseEntity} containing the ProjectResponseDTO of the found project
-     * and an HTTP status of 200 (OK) if the user has permission.
+     * and an HTTP status of 200 (OK) if the user has permission, with an ETag that changes with the project and its tasks,
+     * or an empty response with 304 (Not Modified) when the client already has that state.
      */
     @Operation(summary = "Get project by id", description = "Retrieves a specific project by its ID. Users can only view projects when they're in the team.")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved the paginated list of projects."),
+        @ApiResponse(responseCode = "304", description = "Not Modified: The ETag sent in If-None-Match is still the current one."),
         @ApiResponse(responseCode = "403", description = "Forbidden: User not in the team."),
         @ApiResponse(responseCode = "401", description = "Unauthorized: Authentication required or invalid token."),
         @ApiResponse(responseCode = "500", description = "Internal Server Error: An unexpected error occurred.")
     })
     @GetMapping("/{id}")
-    public ResponseEntity<ProjectResponseDTO> getProjectById(@PathVariable Long id, @Parameter(hidden = true) @AuthenticationPrincipal UserAuthenticated authenticatedUser){
-        return ResponseEntity.ok(projectService.getProjectById(id, authenticatedUser.getUser()));
+    public ResponseEntity<ProjectResponseDTO> getProjectById(@PathVariable Long id, @Parameter(hidden = true) WebRequest webRequest,
+        @Parameter(hidden = true) @AuthenticationPrincipal UserAuthenticated authenticatedUser
+    ){
+        // a ETag é calculada antes do mapeamento: se o cliente já tem este estado, responde 304 sem montar o DTO (tarefas e time)
+        TaggedProject tagged = projectService.getProjectById(id, authenticatedUser.getUser(), webRequest::checkNotModified);
+        if (tagged.project() == null) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(tagged.etag()).body(tagged.project());
     }
 
     /**
@@ -126,6 +148,118 @@ public class ProjectController {
         return ResponseEntity.status(HttpStatus.OK).body(projectsPage);
     }  
 
+    /**
+     * Retrieves a paginated summary of the projects accessible by the authenticated user.
+     * Each summary carries only the id, title, description and the number of team members and tasks,
+     * which is what the project listing screen needs.
+     *
+     * @param pageable Pageable object containing pagination parameters (page number, size, sort).
+     * @param authenticatedUser The UserAuthenticated object representing the currently authenticated user.
+     * @return A ResponseEntity containing a PagedResponse of ProjectResponseFilteredDTO objects and an HTTP status of 200 (OK).
+     */
+    @Operation(summary = "Get projects summary", description = "Retrieves a paginated list of project summaries (id, title, description, member and task counts). Users only see the projects they are associated with.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved the paginated list of project summaries."),
+        @ApiResponse(responseCode = "401", description = "Unauthorized: Authentication required or invalid token."),
+        @ApiResponse(responseCode = "500", description = "Internal Server Error: An unexpected error occurred.")
+    })
+    @GetMapping("/summary")
+    public ResponseEntity<PagedResponse<ProjectResponseFilteredDTO>> getProjectSummaries(@Parameter(description = "Pagination parameters (page, size, sort).") Pageable pageable,
+        @Parameter(hidden = true) @AuthenticationPrincipal UserAuthenticated authenticatedUser
+    ){
+        return ResponseEntity.ok(projectService.getProjectSummaries(pageable, authenticatedUser.getUser()));
+    }
+
+    /**
+     * Retrieves the projects accessible by the authenticated user using cursor (keyset) pagination.
+     * Unlike getAllProjects, no count query is run and deep pages are as fast as the first one.
+     *
+     * @param cursor The nextCursor returned with the previous page. Omit it to get the first page.
+     * @param size The maximum number of projects of the page.
+     * @param authenticatedUser The UserAuthenticated object representing the currently authenticated user.
+     * @return A ResponseEntity containing a CursorPagedResponse of ProjectResponseDTO objects and an HTTP status of 200 (OK).
+     */
+    @Operation(summary = "Get all projects by cursor", description = "Retrieves the projects ordered by ID using cursor pagination. Send the returned nextCursor to get the next page.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved the page of projects."),
+        @ApiResponse(responseCode = "400", description = "Bad Request: Invalid cursor or page size."),
+        @ApiResponse(responseCode = "401", description = "Unauthorized: Authentication required or invalid token."),
+        @ApiResponse(responseCode = "500", description = "Internal Server Error: An unexpected error occurred.")
+    })
+    @GetMapping("/all/cursor")
+    public ResponseEntity<CursorPagedResponse<ProjectResponseDTO>> getAllProjectsByCursor(@RequestParam(value = "cursor", required = false) @Parameter(description = "Cursor returned with the previous page") String cursor,
+        @RequestParam(value = "size", defaultValue = "20") @Parameter(description = "Page size (1 to 100)") int size,
+        @Parameter(hidden = true) @AuthenticationPrincipal UserAuthenticated authenticatedUser
+    ){
+        return ResponseEntity.ok(projectService.getAllProjectsByCursor(cursor, size, authenticatedUser.getUser()));
+    }
+
+    /**
+     * Retrieves the number of tasks of a project by status, as shown by the project dashboards.
+     * The numbers come from precomputed counters, so no task is read.
+     *
+     * @param id The unique ID of the project.
+     * @param authenticatedUser The UserAuthenticated object representing the currently authenticated user.
+     * @return A ResponseEntity containing the ProjectStatusCountsResponseDTO and an HTTP status of 200 (OK).
+     */
+    @Operation(summary = "Get task counts by status", description = "Retrieves the number of tasks of the project in each status (TODO, INPROGRESS, DONE). Users can only view the counts of projects they're in the team.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved the task counts of the project."),
+        @ApiResponse(responseCode = "401", description = "Unauthorized: Authentication required or invalid token."),
+        @ApiResponse(responseCode = "403", description = "Forbidden: User not in the team."),
+        @ApiResponse(responseCode = "404", description = "Not Found: Project with the specified ID was not found."),
+        @ApiResponse(responseCode = "500", description = "Internal Server Error: An unexpected error occurred.")
+    })
+    @GetMapping("/{id}/status-counts")
+    public ResponseEntity<ProjectStatusCountsResponseDTO> getStatusCounts(@PathVariable @Parameter(description = "Project ID") Long id,
+        @Parameter(hidden = true) @AuthenticationPrincipal UserAuthenticated authenticatedUser
+    ){
+        return ResponseEntity.ok(projectService.getStatusCounts(id, authenticatedUser.getUser()));
+    }
+
+    /**
+     * Opens a Server-Sent Events stream with the task changes of a project (created, updated,
+     * status changed and deleted), so clients no longer need to poll the project.
+     * A client that falls too far behind has its stream closed and should reconnect and reload the project.
+     *
+     * @param id The unique ID of the project.
+     * @param authenticatedUser The UserAuthenticated object representing the currently authenticated user.
+     * @return The SseEmitter that pushes one TaskEventDTO per change, named after its type.
+     */
+    @Operation(summary = "Subscribe to the task changes of a project", description = "Opens a text/event-stream with one event per task created, updated, moved or deleted in the project. Users can only subscribe to projects they're in the team.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Stream opened; events are pushed as the tasks change."),
+        @ApiResponse(responseCode = "401", description = "Unauthorized: Authentication required or invalid token."),
+        @ApiResponse(responseCode = "403", description = "Forbidden: User not in the team."),
+        @ApiResponse(responseCode = "404", description = "Not Found: Project with the specified ID was not found."),
+        @ApiResponse(responseCode = "500", description = "Internal Server Error: An unexpected error occurred.")
+    })
+    @GetMapping(value = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeToEvents(@PathVariable @Parameter(description = "Project ID") Long id,
+        @Parameter(hidden = true) @AuthenticationPrincipal UserAuthenticated authenticatedUser
+    ){
+        return projectEventService.subscribe(id, authenticatedUser.getUser());
+    }
+
+    /**
+     * Recomputes the task counters by status of every project from the tasks themselves.
+     *
+     * @return A ResponseEntity with an HTTP status of 204 (No Content).
+     */
+    @Operation(summary = "Rebuild task counts by status", description = "Discards and recomputes the task counters by status of every project. Only accessible by administrators.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "Counters rebuilt successfully."),
+        @ApiResponse(responseCode = "401", description = "Unauthorized: Authentication required or invalid token."),
+        @ApiResponse(responseCode = "403", description = "Forbidden: User does not have the necessary 'ADMIN' role to access this resource."),
+        @ApiResponse(responseCode = "500", description = "Internal Server Error: An unexpected error occurred.")
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/status-counts/rebuild")
+    public ResponseEntity<Void> rebuildStatusCounts(){
+        projectService.rebuildStatusCounts();
+        return ResponseEntity.noContent().build();
+    }
+
     /**
      * Updates an existing project fully with the provided details.
      * This operation requires the authenticated user to be either the project's creator or an administrator.
@@ -133,6 +267,7 @@ public class ProjectController {
      * @param id The unique ID of the project to update.
      * @param projectRequestDTO The ProjectRequestDTO containing the complete updated details for the project.
      * This object is validated.
+     * @param ifMatch Optional. The ETag of the project as last read by the client.
      * @param authenticatedUser The UserAuthenticated object representing the currently authenticated user.
      * @return A ResponseEntity containing the ProjectResponseDTO of the updated project
      * and an HTTP status of 200 (OK) upon successful update.
@@ -144,15 +279,17 @@ public class ProjectController {
         @ApiResponse(responseCode = "401", description = "Unauthorized: Authentication required or invalid token."),
         @ApiResponse(responseCode = "403", description = "Forbidden: User does not have permission to update this project."),
         @ApiResponse(responseCode = "404", description = "Not Found: Project with the specified ID was not found."),
+        @ApiResponse(responseCode = "412", description = "Precondition Failed: The project was modified since the ETag sent in If-Match was read."),
         @ApiResponse(responseCode = "500", description = "Internal Server Error: An unexpected error occurred.")
     })
     @PutMapping("/{id}") 
     public ResponseEntity<ProjectResponseDTO> updateProject(@PathVariable @Parameter(description = "Project ID") Long id, 
         @Valid @RequestBody @Parameter(description = "Updated details for the project.") ProjectRequestDTO projectRequestDTO, 
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) @Parameter(description = "ETag of the project as last read; the update fails with 412 if it was modified since") String ifMatch,
         @Parameter(hidden = true) @AuthenticationPrincipal UserAuthenticated authenticatedUser
     ){
-        ProjectResponseDTO responseDTO = projectService.updateProject(id, projectRequestDTO, authenticatedUser.getUser());
-        return ResponseEntity.status(HttpStatus.OK).body(responseDTO);
+        ProjectResponseDTO responseDTO = projectService.updateProject(id, projectRequestDTO, ifMatch, authenticatedUser.getUser());
+        return ResponseEntity.status(HttpStatus.OK).eTag(projectService.buildProjectETag(id, responseDTO.getVersion())).body(responseDTO);
     }
 
     /**
@@ -163,6 +300,7 @@ public class ProjectController {
      * @param id The unique ID of the project to partially update.
      * @param projectRequestPatchDTO The ProjectRequestPatchDTO containing the fields to be partially updated.
      * This object is validated.
+     * @param ifMatch Optional. The ETag of the project as last read by the client.
      * @param authenticatedUser The UserAuthenticated object representing the currently authenticated user.
      * @return A ResponseEntity containing the rojectResponseDTO of the partially updated project
      * and an HTTP status of 200 (OK) upon successful update.
@@ -174,15 +312,17 @@ public class ProjectController {
         @ApiResponse(responseCode = "401", description = "Unauthorized: Authentication required or invalid token."),
         @ApiResponse(responseCode = "403", description = "Forbidden: User does not have permission to update this project."),
         @ApiResponse(responseCode = "404", description = "Not Found: Project with the specified ID was not found."),
+        @ApiResponse(responseCode = "412", description = "Precondition Failed: The project was modified since the ETag sent in If-Match was read."),
         @ApiResponse(responseCode = "500", description = "Internal Server Error: An unexpected error occurred.")
     })
     @PatchMapping("/{id}")
     public ResponseEntity<ProjectResponseDTO> partialUpdateProject(@PathVariable @Parameter(description = "Project ID") Long id, 
         @Valid @RequestBody @Parameter(description = "Fields to be partially updated for the project.") ProjectRequestPatchDTO projectRequestPatchDTO, 
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) @Parameter(description = "ETag of the project as last read; the update fails with 412 if it was modified since") String ifMatch,
         @Parameter(hidden = true) @AuthenticationPrincipal UserAuthenticated authenticatedUser
     ){
-        ProjectResponseDTO responseDTO = projectService.partialUpdateProject(id, projectRequestPatchDTO, authenticatedUser.getUser());
-        return ResponseEntity.status(HttpStatus.OK).body(responseDTO);
+        ProjectResponseDTO responseDTO = projectService.partialUpdateProject(id, projectRequestPatchDTO, ifMatch, authenticatedUser.getUser());
+        return ResponseEntity.status(HttpStatus.OK).eTag(projectService.buildProjectETag(id, responseDTO.getVersion())).body(responseDTO);
     }
 
     /**
@@ -3,37 +3,52 @@ package com.teamtacles.teamtacles_api.controller;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.teamtacles.teamtacles_api.dto.page.CursorPagedResponse;
 import com.teamtacles.teamtacles_api.dto.page.PagedResponse;
+import com.teamtacles.teamtacles_api.dto.request.TaskBulkRequestDTO;
 import com.teamtacles.teamtacles_api.dto.request.TaskRequestDTO;
 import com.teamtacles.teamtacles_api.dto.request.TaskRequestPatchDTO;
+import com.teamtacles.teamtacles_api.dto.request.TaskStatusBulkRequestDTO;
 import com.teamtacles.teamtacles_api.dto.response.TaskResponseFilteredDTO;
 import com.teamtacles.teamtacles_api.dto.response.ProjectResponseDTO;
 import com.teamtacles.teamtacles_api.dto.response.TaskResponseDTO;
+import com.teamtacles.teamtacles_api.dto.response.TaskStatusResultDTO;
 import com.teamtacles.teamtacles_api.model.UserAuthenticated;
+import com.teamtacles.teamtacles_api.model.enums.CountMode;
+import com.teamtacles.teamtacles_api.model.enums.ExportFormat;
+import com.teamtacles.teamtacles_api.service.TaskExportService;
 import com.teamtacles.teamtacles_api.service.TaskService;
+import com.teamtacles.teamtacles_api.service.TaskService.TaggedTask;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.web.bind.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * REST controller for managing task-related operations within projects in the TeamTacles application.
@@ -50,9 +65,11 @@ import org.springframework.web.bind.annotation.PutMapping;
 public class TaskController {
 
     private final TaskService taskService;
+    private final TaskExportService taskExportService;
 
-    public TaskController(TaskService taskService){
+    public TaskController(TaskService taskService, TaskExportService taskExportService){
         this.taskService = taskService;
+        this.taskExportService = taskExportService;
     }
 
     /**
@@ -86,19 +103,51 @@ public class TaskController {
         return ResponseEntity.status(HttpStatus.CREATED).body(taskResponseDTO);
     }
 
+    /**
+     * Creates several tasks for a specific project in a single request, as done by imports from other tools.
+     * The permission rules are the same as for creating a single task, and the tasks are inserted in JDBC batches.
+     *
+     * @param id_project The unique identifier (ID) of the project to which the tasks will be added.
+     * @param taskBulkRequestDTO The TaskBulkRequestDTO containing the tasks to be created. Each task is validated.
+     * @param authenticatedUser The UserAuthenticated object representing the currently authenticated user,
+     * injected automatically by Spring Security. This parameter is hidden from Swagger documentation.
+     * @return A ResponseEntity containing the list of TaskResponseDTO of the created tasks
+     * and an HTTP status of 201 (Created) upon successful creation.
+     */
+    @Operation(summary = "Create several tasks for a project", description = "Creates up to 1000 tasks associated with a specific project in a single request. Only users with appropriate permissions for the project (project creator, team member, or administrator) can create tasks.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "Tasks created successfully, returns the details of the new tasks."),
+        @ApiResponse(responseCode = "400", description = "Bad Request: Empty task list, too many tasks or invalid task data provided."),
+        @ApiResponse(responseCode = "401", description = "Unauthorized: Authentication required or invalid token."),
+        @ApiResponse(responseCode = "403", description = "Forbidden: User does not have permission to create tasks in this project."),
+        @ApiResponse(responseCode = "404", description = "Not Found: Project or responsible user with the specified ID was not found."),
+        @ApiResponse(responseCode = "500", description = "Internal Server Error: An unexpected error occurred.")
+    })
+    @PostMapping("/{id_project}/task/bulk")
+    public ResponseEntity<List<TaskResponseDTO>> createTasks(@PathVariable("id_project") @Parameter(description = "Project ID") Long id_project,
+        @Valid @RequestBody @Parameter(description = "The tasks to be created (title, description, due date, responsible users).") TaskBulkRequestDTO taskBulkRequestDTO,
+        @Parameter(hidden = true) @AuthenticationPrincipal UserAuthenticated authenticatedUser
+    ){
+        List<TaskResponseDTO> taskResponseDTOs = taskService.createTasks(id_project, taskBulkRequestDTO, authenticatedUser.getUser());
+        return ResponseEntity.status(HttpStatus.CREATED).body(taskResponseDTOs);
+    }
+
     /**
      * Retrieves a specific task within a project by its task ID.
      * Users can only view tasks that belong to projects they have access to (as a team member or administrator).
      *
      * @param id_project The unique ID of the project the task belongs to.
      * @param id_task The unique ID of the task to retrieve.
+     * @param webRequest The current request, whose If-None-Match header is compared with the ETag of the task.
      * @param authenticatedUser The UserAuthenticated object representing the currently authenticated user.
      * @return A ResponseEntity containing the TaskResponseDTO of the found task
-     * and an HTTP status of 200 (OK).
+     * and an HTTP status of 200 (OK), with an ETag that changes with the task and the users shown in it,
+     * or an empty response with 304 (Not Modified) when the client already has that state.
      */
     @Operation(summary = "Get a task by ID", description = "Retrieves a specific task associated with a project by its ID. Users can only view tasks within projects they have access to.")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved the task details."),
+        @ApiResponse(responseCode = "304", description = "Not Modified: The ETag sent in If-None-Match is still the current one."),
         @ApiResponse(responseCode = "401", description = "Unauthorized: Authentication required or invalid token."),
         @ApiResponse(responseCode = "403", description = "Forbidden: User does not have permission to view tasks in this project."),
         @ApiResponse(responseCode = "404", description = "Not Found: Project or Task with the specified IDs was not found."),
@@ -107,9 +156,15 @@ public class TaskController {
     @GetMapping("/{id_project}/task/{id_task}")
     public ResponseEntity<TaskResponseDTO> getTaskById(@PathVariable("id_project") @Parameter(description = "Project ID") Long id_project, 
         @PathVariable("id_task") @Parameter(description = "Project Task") Long id_task,
+        @Parameter(hidden = true) WebRequest webRequest,
         @Parameter(hidden = true) @AuthenticationPrincipal UserAuthenticated authenticatedUser
     ){
-        return ResponseEntity.ok(taskService.getTasksById(id_project, id_task, authenticatedUser.getUser()));
+        // a ETag é calculada antes do mapeamento: se o cliente já tem este estado, responde 304 sem montar o DTO
+        TaggedTask tagged = taskService.getTaskById(id_project, id_task, authenticatedUser.getUser(), webRequest::checkNotModified);
+        if (tagged.task() == null) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(tagged.etag()).body(tagged.task());
     }  
 
     /**
@@ -144,37 +199,122 @@ public class TaskController {
     /**
      * Searches and filters tasks based on various criteria such as status, due date, and project ID.
      * Users can only search within projects they have access to, or administrators can search across all projects.
+     * With a search text, the title and description of the tasks are searched and the hits are ranked by relevance.
      *
+     * @param q Optional. Text to search for in the title and description of the tasks.
      * @param status Optional. Filters tasks by their status.
      * @param dueDate Optional. Filters tasks by their due date. Uses DateTimeFormat.ISO.DATE_TIME for parsing.
      * @param projectId Optional. Filters tasks belonging to a specific project.
      * @param pageable Pageable object for pagination (page number, size, sort).
+     * @param count How the total of the page is obtained: exact (default), cached or none.
      * @param authenticatedUser The UserAuthenticated object representing the currently authenticated user.
      * @return A ResponseEntity containing a PagedResponse of TaskResponseFilteredDTO objects,
      * representing the filtered and paginated list of tasks, and an HTTP status of 200 (OK).
      */
-    @Operation(summary = "Search and filter tasks", description = "Retrieves a paginated and filtered list of tasks based on provided criteria (status, due date, project ID). Users can only search within projects they have access to, or administrators")
+    @Operation(summary = "Search and filter tasks", description = "Retrieves a paginated and filtered list of tasks based on provided criteria (search text, status, due date, project ID). With a search text (q), the title and description are searched and the results are ranked by relevance. The total is counted on every request by default; count=cached reuses a count of the same filters made in the last seconds, and count=none skips it, returning -1 totals and only whether there is a next page (hasNext). Users can only search within projects they have access to, or administrators")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved the filtered list of tasks."),
-        @ApiResponse(responseCode = "400", description = "Bad Request: Invalid query parameters provided (malformed date, invalid status)."),
+        @ApiResponse(responseCode = "400", description = "Bad Request: Invalid query parameters provided (malformed date, invalid status or count mode, search text too long)."),
         @ApiResponse(responseCode = "401", description = "Unauthorized: Authentication required or invalid token."),
         @ApiResponse(responseCode = "403", description = "Forbidden: User does not have permission to view tasks in the specified project(s)."),
         @ApiResponse(responseCode = "500", description = "Internal Server Error: An unexpected error occurred.")
     })
     @GetMapping("/task/search")
-    public ResponseEntity<PagedResponse<TaskResponseFilteredDTO>> getAllTasksFiltered(@RequestParam(value = "status", required = false) 
+    public ResponseEntity<PagedResponse<TaskResponseFilteredDTO>> getAllTasksFiltered(@RequestParam(value = "q", required = false)
+        @Parameter(description = "Search the title and description of the tasks (words, \"quoted phrases\", -excluded words)") String q,
+        @RequestParam(value = "status", required = false) 
         @Parameter(description = "Filter tasks by status") String status,
         @RequestParam(value = "dueDate", required = false) 
         @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) 
         @Parameter(description = "Filter tasks by dueDate") LocalDateTime dueDate,
         @RequestParam(value = "projectId", required = false) @Parameter(description = "Filter tasks by Project ID") Long projectId,
         @Parameter(description = "Pagination parameters (page, size, sort).") Pageable pageable, 
+        @RequestParam(value = "count", defaultValue = "exact") @Parameter(description = "How the total is obtained: exact, cached or none") String count,
         @Parameter(hidden = true) @AuthenticationPrincipal UserAuthenticated authenticatedUser
     ){
-        PagedResponse tasksPage = taskService.getAllTasksFiltered(status, dueDate, projectId, pageable, authenticatedUser.getUser());
+        PagedResponse tasksPage = taskService.getAllTasksFiltered(q, status, dueDate, projectId, pageable, CountMode.fromValue(count), authenticatedUser.getUser());
         return ResponseEntity.status(HttpStatus.OK).body(tasksPage);
     }  
 
+    /**
+     * Exports all the tasks matching the filters that are visible to the authenticated user, without pagination.
+     * The tasks are streamed to the response as they are read from the database, as NDJSON (one JSON object per line)
+     * or CSV, so reporting jobs get the whole result in a single request. Exports run on a pool of their own,
+     * limited in number and with a longer timeout than the other requests.
+     *
+     * @param status Optional. Filters tasks by their status.
+     * @param dueDate Optional. Filters tasks by their due date. Uses DateTimeFormat.ISO.DATE_TIME for parsing.
+     * @param projectId Optional. Filters tasks belonging to a specific project.
+     * @param format The format of the export: ndjson (default) or csv.
+     * @param response The response the tasks are streamed to, as an attachment.
+     * @param authenticatedUser The UserAuthenticated object representing the currently authenticated user.
+     * @return A WebAsyncTask streaming the exported tasks, with an HTTP status of 200 (OK).
+     */
+    @Operation(summary = "Export tasks", description = "Streams all the tasks matching the provided criteria (status, due date, project ID) as NDJSON or CSV. Users only export the tasks they own or are responsible for, administrators export all tasks.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully streamed the exported tasks."),
+        @ApiResponse(responseCode = "400", description = "Bad Request: Invalid query parameters provided (malformed date, invalid status or format)."),
+        @ApiResponse(responseCode = "401", description = "Unauthorized: Authentication required or invalid token."),
+        @ApiResponse(responseCode = "403", description = "Forbidden: User does not have permission to view tasks in the specified project."),
+        @ApiResponse(responseCode = "404", description = "Not Found: Project with the specified ID was not found."),
+        @ApiResponse(responseCode = "500", description = "Internal Server Error: An unexpected error occurred."),
+        @ApiResponse(responseCode = "503", description = "Service Unavailable: Too many concurrent exports, retry after the Retry-After delay.")
+    })
+    @GetMapping("/task/export")
+    public WebAsyncTask<Void> exportTasks(@RequestParam(value = "status", required = false)
+        @Parameter(description = "Filter tasks by status") String status,
+        @RequestParam(value = "dueDate", required = false)
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+        @Parameter(description = "Filter tasks by dueDate") LocalDateTime dueDate,
+        @RequestParam(value = "projectId", required = false) @Parameter(description = "Filter tasks by Project ID") Long projectId,
+        @RequestParam(value = "format", defaultValue = "ndjson") @Parameter(description = "Export format: ndjson or csv") String format,
+        @Parameter(hidden = true) HttpServletResponse response,
+        @Parameter(hidden = true) @AuthenticationPrincipal UserAuthenticated authenticatedUser
+    ){
+        ExportFormat exportFormat = ExportFormat.fromValue(format);
+        StreamingResponseBody body = taskService.exportTasksFiltered(status, dueDate, projectId, exportFormat, authenticatedUser.getUser());
+        WebAsyncTask<Void> export = taskExportService.startExport(body, response);
+
+        // cabeçalhos definidos só depois de garantida a vaga, para que o 503 não saia como anexo
+        response.setContentType(exportFormat.getMediaType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"tasks." + exportFormat.getExtension() + "\"");
+        return export;
+    }
+
+    /**
+     * Retrieves a filtered list of tasks using cursor (keyset) pagination ordered by due date and ID.
+     * Unlike getAllTasksFiltered, no count query is run and deep pages are as fast as the first one.
+     *
+     * @param status Optional. Filters tasks by their status.
+     * @param dueDate Optional. Filters tasks by their due date. Uses DateTimeFormat.ISO.DATE_TIME for parsing.
+     * @param projectId Optional. Filters tasks belonging to a specific project.
+     * @param cursor The nextCursor returned with the previous page. Omit it to get the first page.
+     * @param size The maximum number of tasks of the page.
+     * @param authenticatedUser The UserAuthenticated object representing the currently authenticated user.
+     * @return A ResponseEntity containing a CursorPagedResponse of TaskResponseFilteredDTO objects and an HTTP status of 200 (OK).
+     */
+    @Operation(summary = "Search and filter tasks by cursor", description = "Retrieves the filtered tasks ordered by due date using cursor pagination. Send the returned nextCursor to get the next page.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved the page of tasks."),
+        @ApiResponse(responseCode = "400", description = "Bad Request: Invalid query parameters, cursor or page size."),
+        @ApiResponse(responseCode = "401", description = "Unauthorized: Authentication required or invalid token."),
+        @ApiResponse(responseCode = "403", description = "Forbidden: User does not have permission to view tasks in the specified project(s)."),
+        @ApiResponse(responseCode = "500", description = "Internal Server Error: An unexpected error occurred.")
+    })
+    @GetMapping("/task/search/cursor")
+    public ResponseEntity<CursorPagedResponse<TaskResponseFilteredDTO>> getAllTasksFilteredByCursor(@RequestParam(value = "status", required = false) 
+        @Parameter(description = "Filter tasks by status") String status,
+        @RequestParam(value = "dueDate", required = false) 
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) 
+        @Parameter(description = "Filter tasks by dueDate") LocalDateTime dueDate,
+        @RequestParam(value = "projectId", required = false) @Parameter(description = "Filter tasks by Project ID") Long projectId,
+        @RequestParam(value = "cursor", required = false) @Parameter(description = "Cursor returned with the previous page") String cursor,
+        @RequestParam(value = "size", defaultValue = "20") @Parameter(description = "Page size (1 to 100)") int size,
+        @Parameter(hidden = true) @AuthenticationPrincipal UserAuthenticated authenticatedUser
+    ){
+        return ResponseEntity.ok(taskService.getAllTasksFilteredByCursor(status, dueDate, projectId, cursor, size, authenticatedUser.getUser()));
+    }
+
     /**
      * Updates the status of a specific task within a project.
      * This operation allows task assignees or administrators to change a task's status.
@@ -183,6 +323,7 @@ public class TaskController {
      * @param id_task The unique ID of the task whose status is to be updated.
      * @param taskRequestPatchDTO The TaskRequestPatchDTO containing the new status for the task.
      * This object is validated.
+     * @param ifMatch Optional. The ETag of the task as last read by the client.
      * @param authenticatedUser The UserAuthenticated object representing the currently authenticated user.
      * @return A ResponseEntity containing the TaskResponseDTO of the updated task
      * and an HTTP status of 200 (OK) upon successful update.
@@ -194,16 +335,47 @@ public class TaskController {
         @ApiResponse(responseCode = "401", description = "Unauthorized: Authentication required or invalid token."),
         @ApiResponse(responseCode = "403", description = "Forbidden: User does not have permission to update the status of this task or in this project."),
         @ApiResponse(responseCode = "404", description = "Not Found: Project or Task with the specified IDs was not found."),
+        @ApiResponse(responseCode = "412", description = "Precondition Failed: The task was modified since the ETag sent in If-Match was read."),
         @ApiResponse(responseCode = "500", description = "Internal Server Error: An unexpected error occurred.")
     })
     @PatchMapping("/{id_project}/task/{id_task}/updateStatus")
     public ResponseEntity<TaskResponseDTO> updateStatus(@PathVariable("id_project") @Parameter(description = "Project ID") Long id_project, 
         @PathVariable("id_task") @Parameter(description = "Task ID")Long id_task, 
         @Valid @RequestBody @Parameter(description = "Request body containing the new status for the task or other informations.") TaskRequestPatchDTO taskRequestPatchDTO, 
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) @Parameter(description = "ETag of the task as last read; the update fails with 412 if it was modified since") String ifMatch,
+        @Parameter(hidden = true) @AuthenticationPrincipal UserAuthenticated authenticatedUser
+    ){
+        TaskResponseDTO taskResponseDTO = taskService.updateStatus(id_project, id_task, taskRequestPatchDTO, ifMatch, authenticatedUser.getUser());
+        return ResponseEntity.status(HttpStatus.OK).eTag(taskService.buildTaskETag(id_task, taskResponseDTO.getVersion())).body(taskResponseDTO);
+    }
+
+    /**
+     * Changes the status of several tasks of a project in a single request, e.g. when a column of cards
+     * is moved on a task board. Each task is checked with the same permission rules as the single status update,
+     * and the response tells, for each task ID, whether its status was changed.
+     *
+     * @param id_project The unique ID of the project the tasks belong to.
+     * @param taskStatusBulkRequestDTO The TaskStatusBulkRequestDTO containing the task IDs and the new status.
+     * This object is validated.
+     * @param authenticatedUser The UserAuthenticated object representing the currently authenticated user.
+     * @return A ResponseEntity containing one TaskStatusResultDTO per task ID and an HTTP status of 200 (OK).
+     */
+    @Operation(summary = "Update the status of several tasks", description = "Changes the status of up to 1000 tasks of a project in a single request. Tasks that do not exist in the project or that the user is not allowed to modify are reported as failures, without affecting the others.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Request processed, returns the result of the status change for each task ID."),
+        @ApiResponse(responseCode = "400", description = "Bad Request: Empty task ID list, too many tasks or invalid status provided."),
+        @ApiResponse(responseCode = "401", description = "Unauthorized: Authentication required or invalid token."),
+        @ApiResponse(responseCode = "404", description = "Not Found: Project with the specified ID was not found."),
+        @ApiResponse(responseCode = "409", description = "Conflict: Some tasks are being moved by another request; retry."),
+        @ApiResponse(responseCode = "500", description = "Internal Server Error: An unexpected error occurred.")
+    })
+    @PatchMapping("/{id_project}/task/bulk/updateStatus")
+    public ResponseEntity<List<TaskStatusResultDTO>> updateStatuses(@PathVariable("id_project") @Parameter(description = "Project ID") Long id_project,
+        @Valid @RequestBody @Parameter(description = "Request body containing the task IDs and their new status.") TaskStatusBulkRequestDTO taskStatusBulkRequestDTO,
         @Parameter(hidden = true) @AuthenticationPrincipal UserAuthenticated authenticatedUser
     ){
-        TaskResponseDTO taskResponseDTO = taskService.updateStatus(id_project, id_task, taskRequestPatchDTO, authenticatedUser.getUser());
-        return ResponseEntity.status(HttpStatus.OK).body(taskResponseDTO);
+        List<TaskStatusResultDTO> results = taskService.updateStatuses(id_project, taskStatusBulkRequestDTO, authenticatedUser.getUser());
+        return ResponseEntity.status(HttpStatus.OK).body(results);
     }
     
     /**
@@ -214,6 +386,7 @@ public class TaskController {
      * @param id_task The unique ID of the task to update.
      * @param taskRequestDTO The TaskRequestDTO containing the complete updated details for the task.
      * This object is validated.
+     * @param ifMatch Optional. The ETag of the task as last read by the client.
      * @param authenticatedUser The UserAuthenticated object representing the currently authenticated user.
      * @return A ResponseEntity containing the TaskResponseDTO of the updated task
      * and an HTTP status of 200 (OK) upon successful update.
@@ -225,16 +398,18 @@ public class TaskController {
         @ApiResponse(responseCode = "401", description = "Unauthorized: Authentication required or invalid token."),
         @ApiResponse(responseCode = "403", description = "Forbidden: User does not have permission to update this task or in this project."),
         @ApiResponse(responseCode = "404", description = "Not Found: Project or Task with the specified IDs was not found."),
+        @ApiResponse(responseCode = "412", description = "Precondition Failed: The task was modified since the ETag sent in If-Match was read."),
         @ApiResponse(responseCode = "500", description = "Internal Server Error: An unexpected error occurred.")
     })
     @PutMapping("/{id_project}/task/{id_task}")
     public ResponseEntity<TaskResponseDTO> updateTask(@PathVariable("id_project") @Parameter(description = "Project ID") Long id_project, 
         @PathVariable("id_task") @Parameter(description = "Task ID") Long id_task, 
         @Valid @RequestBody @Parameter(description = "Complete updated details for the task.") TaskRequestDTO taskRequestDTO, 
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) @Parameter(description = "ETag of the task as last read; the update fails with 412 if it was modified since") String ifMatch,
         @Parameter(hidden = true) @AuthenticationPrincipal UserAuthenticated authenticatedUser
     ){
-        TaskResponseDTO taskResponseDTO = taskService.updateTask(id_project, id_task, taskRequestDTO, authenticatedUser.getUser());
-        return ResponseEntity.status(HttpStatus.OK).body(taskResponseDTO);
+        TaskResponseDTO taskResponseDTO = taskService.updateTask(id_project, id_task, taskRequestDTO, ifMatch, authenticatedUser.getUser());
+        return ResponseEntity.status(HttpStatus.OK).eTag(taskService.buildTaskETag(id_task, taskResponseDTO.getVersion())).body(taskResponseDTO);
     }
 
     /**
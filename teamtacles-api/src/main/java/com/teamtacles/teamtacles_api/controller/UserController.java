@@ -8,6 +8,7 @@ import com.teamtacles.teamtacles_api.dto.request.RoleRequestDTO;
 import com.teamtacles.teamtacles_api.dto.request.UserRequestDTO;
 import com.teamtacles.teamtacles_api.dto.response.UserResponseDTO;
 import com.teamtacles.teamtacles_api.model.User;
+import com.teamtacles.teamtacles_api.model.enums.CountMode;
 import com.teamtacles.teamtacles_api.service.UserService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -27,6 +28,7 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 
 /**
  * REST controller for managing user-related operations in the TeamTacles application.
@@ -102,20 +104,23 @@ public class UserController {
      * This endpoint is restricted to users with the 'ADMIN' role for security purposes.
      *
      * @param pageable Pageable object containing pagination parameters such as page number, size, and sort order.
+     * @param count How the total of the page is obtained: exact (default), cached or none.
      * @return A ResponseEntity containing a PagedResponse of UserResponseDTO objects,
      * representing the paginated list of all users, along with an HTTP status of 200 (OK).
      */
-    @Operation(summary = "Get all users", description = "Retrieves a paginated list of all registered users. Only accessible by administrators.")
+    @Operation(summary = "Get all users", description = "Retrieves a paginated list of all registered users. Only accessible by administrators. The total is counted on every request by default; count=cached reuses a count made in the last seconds, and count=none skips it, returning -1 totals and only whether there is a next page (hasNext).")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved the list of users."),
+        @ApiResponse(responseCode = "400", description = "Bad Request: Invalid count mode."),
         @ApiResponse(responseCode = "401", description = "Unauthorized: Authentication required or invalid token."),
         @ApiResponse(responseCode = "403", description = "Forbidden: User does not have the necessary 'ADMIN' role to access this resource."),
         @ApiResponse(responseCode = "500", description = "Internal Server Error: Unmapped error.")
     })
     @PreAuthorize("hasRole('ADMIN')")
     @GetMapping
-    public ResponseEntity<PagedResponse<UserResponseDTO>> getAllUsers(@Parameter(description = "Pagination parameters (page, size, sort).") Pageable pageable) {
-        PagedResponse<UserResponseDTO> users = userService.getAllUsers(pageable);
+    public ResponseEntity<PagedResponse<UserResponseDTO>> getAllUsers(@Parameter(description = "Pagination parameters (page, size, sort).") Pageable pageable,
+        @RequestParam(value = "count", defaultValue = "exact") @Parameter(description = "How the total is obtained: exact, cached or none") String count) {
+        PagedResponse<UserResponseDTO> users = userService.getAllUsers(pageable, CountMode.fromValue(count));
         return ResponseEntity.status(HttpStatus.OK).body(users);
     }
 }
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.teamtacles.teamtacles_api.dto.authentication;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RefreshTokenRequestDTO {
+    @Schema(description = "The refresh token received on authentication or on the last refresh.", example = "Q2p1N0Z3bG9rR2xXcE5kS2JxT0...", required = true)
+    @NotBlank(message = "Enter the refresh token")
+    private String refreshToken;
+}
@@ -0,0 +1,23 @@
+package com.teamtacles.teamtacles_api.dto.authentication;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TokenResponseDTO {
+    @Schema(description = "The short-lived access token (JWT), sent as 'Authorization: Bearer <token>'.", example = "eyJhbGciOiJSUzI1NiJ9...")
+    private String token;
+
+    @Schema(description = "The single-use token to obtain a new access token on /api/auth/refresh.", example = "Q2p1N0Z3bG9rR2xXcE5kS2JxT0...")
+    private String refreshToken;
+
+    @Schema(description = "The type of the access token.", example = "Bearer")
+    private String tokenType;
+
+    @Schema(description = "Seconds until the access token expires.", example = "900")
+    private long expiresIn;
+}
@@ -0,0 +1,23 @@
+package com.teamtacles.teamtacles_api.dto.page;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class CursorPagedResponse<T> {
+    @Schema(description = "The list of elements for the current page.", type = "array")
+    private List<T> content;
+
+    @Schema(description = "The number of elements in the current page.", example = "10")
+    private int size;
+
+    @Schema(description = "Opaque cursor to be sent back to fetch the next page (null when there is no next page).", example = "MTI")
+    private String nextCursor;
+
+    @Schema(description = "Indicates if there are more elements after the current page.", example = "true")
+    private boolean hasNext;
+}
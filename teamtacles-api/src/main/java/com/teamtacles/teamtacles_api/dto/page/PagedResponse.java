@@ -2,6 +2,8 @@ package com.teamtacles.teamtacles_api.dto.page;
 
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -18,12 +20,18 @@ public class PagedResponse<T> {
     @Schema(description = "The number of elements in the current page.", example = "10")
     private int size;
 
-    @Schema(description = "The total number of elements across all pages.", example = "100")
+    @Schema(description = "The total number of elements across all pages (-1 when the count was skipped with count=none).", example = "100")
     private long totalElements;
 
-    @Schema(description = "The total number of pages available.", example = "10")
+    @Schema(description = "The total number of pages available (-1 when the count was skipped with count=none).", example = "10")
     private int totalPages;
 
     @Schema(description = "Indicates if the current page is the last page.", example = "false")
     private boolean last;
+
+    @Schema(description = "Indicates if there are more elements after the current page.", example = "true")
+    @JsonProperty(value = "hasNext", access = JsonProperty.Access.READ_ONLY)
+    public boolean hasNext() {
+        return !last;
+    }
 }
\ No newline at end of file
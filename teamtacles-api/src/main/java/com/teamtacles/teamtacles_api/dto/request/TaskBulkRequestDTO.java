@@ -0,0 +1,22 @@
+package com.teamtacles.teamtacles_api.dto.request;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBulkRequestDTO {
+    @Schema(description = "The tasks to be created in the project, in order.", type = "array", required = true)
+    @NotEmpty(message = "The task list must not be empty")
+    @Size(max = 1000, message = "At most 1000 tasks can be created at once")
+    private List<@Valid TaskRequestDTO> tasks = new ArrayList<>();
+}
@@ -0,0 +1,28 @@
+package com.teamtacles.teamtacles_api.dto.request;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.teamtacles.teamtacles_api.model.enums.Status;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskStatusBulkRequestDTO {
+    @Schema(description = "The IDs of the tasks whose status will be changed.", example = "[12, 15, 18]", type = "array", required = true)
+    @NotEmpty(message = "The task ID list must not be empty")
+    @Size(max = 1000, message = "At most 1000 tasks can be updated at once")
+    private List<@NotNull Long> taskIds = new ArrayList<>();
+
+    @Schema(description = "The new status of the tasks. Allowed values are based on the Task Status enum.", example = "DONE", required = true)
+    @NotNull(message = "The status must not be null")
+    private Status status;
+}
@@ -0,0 +1,32 @@
+package com.teamtacles.teamtacles_api.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CacheStatsResponseDTO {
+    @Schema(description = "The name of the cache.", example = "authenticatedUsers")
+    private String name;
+
+    @Schema(description = "The number of lookups answered by the cache.", example = "9500")
+    private long hitCount;
+
+    @Schema(description = "The number of lookups that had to load the value.", example = "500")
+    private long missCount;
+
+    @Schema(description = "The number of entries removed because of size or expiration.", example = "120")
+    private long evictionCount;
+
+    @Schema(description = "The number of entries explicitly invalidated by the application.", example = "3")
+    private long invalidationCount;
+
+    @Schema(description = "The ratio of lookups answered by the cache.", example = "0.95")
+    private double hitRate;
+
+    @Schema(description = "The approximate number of entries currently held.", example = "380")
+    private long estimatedSize;
+}
@@ -31,6 +31,9 @@ public class ProjectResponseDTO {
 
     @Schema(description = "A list of users who are part of this project's team.", type = "array")
     private List<UserResponseDTO> team;
+
+    @Schema(description = "The version of the project, incremented on every change. Send the ETag header of the response, which is built from it, in If-Match to update the project only if it was not modified meanwhile.", example = "3")
+    private Long version;
 }
 
 
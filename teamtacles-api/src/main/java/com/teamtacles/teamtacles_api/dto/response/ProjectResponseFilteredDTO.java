@@ -1,9 +1,6 @@
 package com.teamtacles.teamtacles_api.dto.response;
 
-import java.util.List;
-
-import com.teamtacles.teamtacles_api.model.Task;
-import com.teamtacles.teamtacles_api.model.User;
+import com.fasterxml.jackson.annotation.JsonInclude;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
@@ -22,4 +19,13 @@ public class ProjectResponseFilteredDTO {
 
     @Schema(description = "A brief description of the project.", example = "Developing and integrating the user authentication module.")
     private String description;
+
+    // preenchidos apenas na listagem resumida de projetos
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(description = "The number of users in the project's team (only in the project summary).", example = "5")
+    private Long memberCount;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(description = "The number of tasks of the project (only in the project summary).", example = "12")
+    private Long taskCount;
 }
\ No newline at end of file
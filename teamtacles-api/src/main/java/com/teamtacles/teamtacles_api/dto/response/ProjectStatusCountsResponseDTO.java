@@ -0,0 +1,21 @@
+package com.teamtacles.teamtacles_api.dto.response;
+
+import java.util.Map;
+
+import com.teamtacles.teamtacles_api.model.enums.Status;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectStatusCountsResponseDTO {
+    @Schema(description = "The ID of the project.", example = "1")
+    private Long projectId;
+
+    @Schema(description = "The number of tasks of the project by status (every status is present).", example = "{\"TODO\": 12, \"INPROGRESS\": 4, \"DONE\": 30}")
+    private Map<Status, Long> counts;
+}
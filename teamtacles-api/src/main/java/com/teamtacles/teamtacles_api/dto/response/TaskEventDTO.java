@@ -0,0 +1,26 @@
+package com.teamtacles.teamtacles_api.dto.response;
+
+import com.teamtacles.teamtacles_api.model.enums.Status;
+import com.teamtacles.teamtacles_api.model.enums.TaskEventType;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskEventDTO {
+    @Schema(description = "The kind of change.", example = "STATUS_CHANGED")
+    private TaskEventType type;
+
+    @Schema(description = "The ID of the project of the task.", example = "3")
+    private Long projectId;
+
+    @Schema(description = "The ID of the changed task.", example = "12")
+    private Long taskId;
+
+    @Schema(description = "The status of the task after the change.", example = "DONE")
+    private Status status;
+}
@@ -35,4 +35,7 @@ public class TaskResponseDTO{
 
     @Schema(description = "A list of users who are responsible for completing this task.", type = "array")
     private List<UserResponseDTO> usersResponsability;
+
+    @Schema(description = "The version of the task, incremented on every change. Send the ETag header of the response, which is built from it, in If-Match to update the task only if it was not modified meanwhile.", example = "3")
+    private Long version;
 }  
\ No newline at end of file
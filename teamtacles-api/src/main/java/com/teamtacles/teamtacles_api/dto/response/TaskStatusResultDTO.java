@@ -0,0 +1,23 @@
+package com.teamtacles.teamtacles_api.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskStatusResultDTO {
+    @Schema(description = "The ID of the task.", example = "12")
+    private Long taskId;
+
+    @Schema(description = "Indicates if the status of the task was changed.", example = "true")
+    private boolean success;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(description = "The reason why the status was not changed (absent on success).", example = "Task Not Found.")
+    private String message;
+}
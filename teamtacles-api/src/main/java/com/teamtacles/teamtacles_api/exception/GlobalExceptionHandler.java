@@ -1,10 +1,14 @@
 package com.teamtacles.teamtacles_api.exception;
 import org.springframework.security.access.AccessDeniedException;
 import java.util.stream.Collectors;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
@@ -13,6 +17,11 @@ import org.springframework.web.method.annotation.MethodArgumentTypeMismatchExcep
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.teamtacles.teamtacles_api.mapper.ETagCodec;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
@@ -22,6 +31,22 @@ public class GlobalExceptionHandler {
     //logger para registrar os erros
     private static final Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
 
+    // contadores das exceções tratadas, publicados como teamtacles_exceptions_total{exception="..."}
+    private final Counter accessDeniedCounter;
+    private final Counter resourceNotFoundCounter;
+
+    public GlobalExceptionHandler(MeterRegistry meterRegistry) {
+        this.accessDeniedCounter = exceptionCounter(meterRegistry, AccessDeniedException.class);
+        this.resourceNotFoundCounter = exceptionCounter(meterRegistry, ResourceNotFoundException.class);
+    }
+
+    private static Counter exceptionCounter(MeterRegistry meterRegistry, Class<? extends Exception> exceptionClass) {
+        return Counter.builder("teamtacles.exceptions")
+            .description("Exceptions handled by the GlobalExceptionHandler")
+            .tag("exception", exceptionClass.getSimpleName())
+            .register(meterRegistry);
+    }
+
     //400 - quando os dados de entrada não são válidos 
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleMethodArgumentNotValid(MethodArgumentNotValidException ex) {
@@ -89,6 +114,7 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(ResourceNotFoundException.class)
     @ResponseStatus(HttpStatus.NOT_FOUND)
     public ResponseEntity<ErrorResponse> handleResourceNotFoundException(ResourceNotFoundException ex) {
+        resourceNotFoundCounter.increment();
         logger.warn("Resource Not Found: ", ex.getMessage());
         ErrorResponse erroResponse = new ErrorResponse(HttpStatus.NOT_FOUND.value(), "Resource not found", ex.getMessage());
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(erroResponse);
@@ -113,6 +139,33 @@ public class GlobalExceptionHandler {
     }
 
 
+    // 412 - Quando o If-Match não corresponde mais à versão atual do recurso
+    @ExceptionHandler(PreconditionFailedException.class)
+    @ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+    public ResponseEntity<ErrorResponse> handlePreconditionFailedException(PreconditionFailedException ex){
+        logger.warn("Precondition Failed: {} ", ex.getMessage());
+        ErrorResponse errorResponse = new ErrorResponse(HttpStatus.PRECONDITION_FAILED.value(), "Precondition failed", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(errorResponse);
+    }
+
+    // 412 - Quando outra requisição alterou o recurso entre a leitura e a gravação (@Version)
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    @ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(OptimisticLockingFailureException ex){
+        logger.warn("Concurrent modification: {} ", ex.getMessage());
+        ErrorResponse errorResponse = new ErrorResponse(HttpStatus.PRECONDITION_FAILED.value(), "Precondition failed", ETagCodec.MODIFIED_MESSAGE);
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(errorResponse);
+    }
+
+    // 409 - Quando o banco não concede um lock de linha (deadlock ou timeout) entre requisições concorrentes: o cliente pode repetir
+    @ExceptionHandler(PessimisticLockingFailureException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ResponseEntity<ErrorResponse> handlePessimisticLockingFailureException(PessimisticLockingFailureException ex){
+        logger.warn("Lock not acquired: {} ", ex.getMessage());
+        ErrorResponse errorResponse = new ErrorResponse(HttpStatus.CONFLICT.value(), "Conflict", "The resource is being modified by another request, please try again.");
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
     // 401 - Quando o usuário não está autenticado
     @ExceptionHandler(AuthenticationCredentialsNotFoundException.class)
     @ResponseStatus(HttpStatus.UNAUTHORIZED)
@@ -123,10 +176,29 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(errorResponse); 
     }
 
+    // 401 - Quando o usuário ou a senha informados no login estão incorretos
+    @ExceptionHandler(BadCredentialsException.class)
+    @ResponseStatus(HttpStatus.UNAUTHORIZED)
+    public ResponseEntity<ErrorResponse> handleBadCredentialsException(BadCredentialsException ex) {
+        logger.warn("Bad Credentials: {} ", ex.getMessage());
+        ErrorResponse errorResponse = new ErrorResponse(HttpStatus.UNAUTHORIZED.value(), "Unauthorized - Invalid Credentials", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(errorResponse);
+    }
+
+    // 503 - Quando a fila de verificação de senhas está cheia (pico de logins): o cliente tenta de novo em instantes
+    @ExceptionHandler(ServiceBusyException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ResponseEntity<ErrorResponse> handleServiceBusyException(ServiceBusyException ex) {
+        logger.warn("Service Busy: {} ", ex.getMessage());
+        ErrorResponse errorResponse = new ErrorResponse(HttpStatus.SERVICE_UNAVAILABLE.value(), "Service busy", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").body(errorResponse);
+    }
+
     // 403 - Quando o usuário não tem permissão de acesso
     @ExceptionHandler(AccessDeniedException.class)
     @ResponseStatus(HttpStatus.FORBIDDEN)
     public ResponseEntity<ErrorResponse> accessDeniedExceptionException(AccessDeniedException ex) {
+        accessDeniedCounter.increment();
         logger.warn("Access Denied: ", ex);
         String genericErrorMessage = "You do not have permission to access this resource.";
         ErrorResponse errorResponse = new ErrorResponse(HttpStatus.FORBIDDEN.value(), "Access Forbidden", genericErrorMessage);
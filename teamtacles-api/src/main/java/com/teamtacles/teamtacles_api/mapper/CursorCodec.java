@@ -0,0 +1,63 @@
+package com.teamtacles.teamtacles_api.mapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Encodes and decodes the opaque cursors used by the keyset (cursor) pagination.
+ * A cursor carries the values of the seek columns of the last element of a page,
+ * so the next page can start right after it without an offset or a count query.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class CursorCodec {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private static final String SEPARATOR = "|";
+
+    private CursorCodec() {
+    }
+
+    public static void ensureValidPageSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE + ".");
+        }
+    }
+
+    public static String encode(Object... values) {
+        StringBuilder raw = new StringBuilder();
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                raw.append(SEPARATOR);
+            }
+            raw.append(values[i]);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor into its values.
+     *
+     * @param cursor The cursor received from the client.
+     * @param expectedValues The number of values the cursor must carry.
+     * @return The values of the cursor, in the order they were encoded.
+     * @throws IllegalArgumentException If the cursor is malformed.
+     */
+    public static String[] decode(String cursor, int expectedValues) {
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor.");
+        }
+
+        String[] values = raw.split("\\" + SEPARATOR, -1);
+        if (values.length != expectedValues) {
+            throw new IllegalArgumentException("Invalid cursor.");
+        }
+        return values;
+    }
+}
@@ -0,0 +1,89 @@
+package com.teamtacles.teamtacles_api.mapper;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.List;
+
+import com.teamtacles.teamtacles_api.exception.PreconditionFailedException;
+import com.teamtacles.teamtacles_api.repository.projection.TaskVersion;
+import com.teamtacles.teamtacles_api.repository.projection.UserSnapshot;
+import com.teamtacles.teamtacles_api.util.Digests;
+
+/**
+ * Encodes the version of an entity as a strong HTTP entity tag and evaluates the
+ * {@code If-Match} preconditions of the conditional updates against it.
+ *
+ * The representations of tasks and projects embed users, and a project also embeds its tasks,
+ * whose changes do not increment the version of the entity, so their tags also carry a SHA-256
+ * digest of the ID and version of each task and of the rendered columns of each user.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class ETagCodec {
+
+    public static final String MODIFIED_MESSAGE = "The resource was modified since it was last read. Reload it and retry.";
+
+    private ETagCodec() {
+    }
+
+    public static String encode(Long version, List<UserSnapshot> users) {
+        return encode(version, List.of(), users);
+    }
+
+    public static String encode(Long version, List<TaskVersion> tasks, List<UserSnapshot> users) {
+        MessageDigest digest = Digests.sha256();
+        for (TaskVersion task : tasks) {
+            update(digest, task.getId());
+            update(digest, task.getVersion());
+        }
+        // separa as tarefas dos usuários, para que as duas listas não se confundam
+        update(digest, "|");
+        for (UserSnapshot user : users) {
+            update(digest, user.getUserId());
+            update(digest, user.getUserName());
+            update(digest, user.getEmail());
+            update(digest, user.getRoleName());
+        }
+        // 128 bits do digest bastam para que dois estados diferentes não tenham a mesma tag
+        return "\"" + version + "-" + HexFormat.of().formatHex(digest.digest(), 0, 16) + "\"";
+    }
+
+    /**
+     * Ensures the {@code If-Match} header, when present, matches the current tag of the entity.
+     * Weak tags never match, as required by the strong comparison of If-Match.
+     *
+     * @param ifMatch The value of the If-Match header, or null when the request is unconditional.
+     * @param current The current tag of the entity, as built by one of the encode methods.
+     * @throws PreconditionFailedException If none of the tags matches the current one.
+     */
+    public static void ensureMatches(String ifMatch, String current) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return;
+        }
+
+        for (String tag : ifMatch.split(",")) {
+            String trimmed = tag.trim();
+            if (trimmed.equals("*") || trimmed.equals(current)) {
+                return;
+            }
+        }
+        throw new PreconditionFailedException(MODIFIED_MESSAGE);
+    }
+
+    // cada valor é precedido do seu tamanho, para que ("ab", "c") e ("a", "bc") gerem digests diferentes
+    private static void update(MessageDigest digest, Object value) {
+        if (value == null) {
+            digest.update((byte) 0);
+            return;
+        }
+        byte[] bytes = value.toString().getBytes(StandardCharsets.UTF_8);
+        digest.update((byte) 1);
+        digest.update(new byte[] {
+            (byte) (bytes.length >>> 24), (byte) (bytes.length >>> 16), (byte) (bytes.length >>> 8), (byte) bytes.length
+        });
+        digest.update(bytes);
+    }
+}
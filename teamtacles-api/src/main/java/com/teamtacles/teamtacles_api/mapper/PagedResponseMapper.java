@@ -1,36 +1,60 @@
 package com.teamtacles.teamtacles_api.mapper;
 
 import java.util.List;
+import java.util.function.Function;
 
-import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 
+import com.teamtacles.teamtacles_api.dto.page.CursorPagedResponse;
 import com.teamtacles.teamtacles_api.dto.page.PagedResponse;
 
 @Component
 public class PagedResponseMapper {
-    private final ModelMapper modelMapper;
+    private final ResponseMapper responseMapper;
 
-    public PagedResponseMapper(ModelMapper modelMapper) {
-        this.modelMapper = modelMapper;
+    public PagedResponseMapper(ResponseMapper responseMapper) {
+        this.responseMapper = responseMapper;
     }
 
     // utilização de generics -> Objeto original (s) e objeto que será retornado (T)
-    public <S, T> PagedResponse<T> toPagedResponse (Page<S> sourcePage, Class<T> targetClass) {
+    // o ResponseMapper usa o mapeamento escrito à mão quando existe e o ModelMapper nos demais casos
+    // um Slice sem contagem (count=none) não tem totais: são devolvidos como -1
+    public <S, T> PagedResponse<T> toPagedResponse (Slice<S> sourcePage, Class<T> targetClass) {
         List<T> mappedContent = sourcePage.getContent()
                 .stream()
-                .map(source -> modelMapper.map(source, targetClass))
+                .map(source -> responseMapper.map(source, targetClass))
                 .toList();
 
+        Page<S> counted = sourcePage instanceof Page<S> page ? page : null;
         return new PagedResponse<>(
                 mappedContent,
                 sourcePage.getNumber(),
                 sourcePage.getSize(),
-                sourcePage.getTotalElements(),
-                sourcePage.getTotalPages(),
+                counted != null ? counted.getTotalElements() : -1,
+                counted != null ? counted.getTotalPages() : -1,
                 sourcePage.isLast()
         );
     }
 
+    // recebe até size + 1 elementos: o elemento extra só indica que existe uma próxima página
+    public <S, T> CursorPagedResponse<T> toCursorPagedResponse(List<S> sourceRows, int size, Function<S, String> cursorOf, Class<T> targetClass) {
+        boolean hasNext = sourceRows.size() > size;
+        List<S> pageRows = hasNext ? sourceRows.subList(0, size) : sourceRows;
+
+        List<T> mappedContent = pageRows
+                .stream()
+                .map(source -> responseMapper.map(source, targetClass))
+                .toList();
+
+        String nextCursor = hasNext ? cursorOf.apply(pageRows.get(pageRows.size() - 1)) : null;
+
+        return new CursorPagedResponse<>(
+                mappedContent,
+                mappedContent.size(),
+                nextCursor,
+                hasNext
+        );
+    }
 }
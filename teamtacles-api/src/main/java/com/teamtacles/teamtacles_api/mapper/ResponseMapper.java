@@ -0,0 +1,180 @@
+package com.teamtacles.teamtacles_api.mapper;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.modelmapper.ModelMapper;
+import org.springframework.stereotype.Component;
+
+import com.teamtacles.teamtacles_api.dto.response.ProjectResponseDTO;
+import com.teamtacles.teamtacles_api.dto.response.ProjectResponseFilteredDTO;
+import com.teamtacles.teamtacles_api.dto.response.RoleResponseDTO;
+import com.teamtacles.teamtacles_api.dto.response.TaskResponseDTO;
+import com.teamtacles.teamtacles_api.dto.response.TaskResponseFilteredDTO;
+import com.teamtacles.teamtacles_api.dto.response.UserResponseDTO;
+import com.teamtacles.teamtacles_api.model.Project;
+import com.teamtacles.teamtacles_api.model.Role;
+import com.teamtacles.teamtacles_api.model.Task;
+import com.teamtacles.teamtacles_api.model.User;
+import com.teamtacles.teamtacles_api.repository.projection.ProjectSummary;
+
+/**
+ * Hand-written, reflection-free mapper of the entities returned by the API to their response DTOs.
+ * It produces the same DTOs as the default ModelMapper configuration, but only allocates the target
+ * objects, keeping the entity-to-DTO conversion off the CPU profile of the listing endpoints.
+ *
+ * Conversions without a dedicated method fall back to ModelMapper through {@link #map(Object, Class)}.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Component
+public class ResponseMapper {
+    private final ModelMapper modelMapper;
+
+    public ResponseMapper(ModelMapper modelMapper) {
+        this.modelMapper = modelMapper;
+    }
+
+    /**
+     * Maps the source to the target class using the hand-written conversion when there is one,
+     * or ModelMapper otherwise.
+     *
+     * @param source The object to be mapped.
+     * @param targetClass The class of the DTO to be returned.
+     * @return The mapped DTO.
+     */
+    public <T> T map(Object source, Class<T> targetClass) {
+        if (source instanceof Task task) {
+            if (targetClass == TaskResponseDTO.class) {
+                return targetClass.cast(toTaskResponseDTO(task));
+            }
+            if (targetClass == TaskResponseFilteredDTO.class) {
+                return targetClass.cast(toTaskResponseFilteredDTO(task));
+            }
+        } else if (source instanceof Project project) {
+            if (targetClass == ProjectResponseDTO.class) {
+                return targetClass.cast(toProjectResponseDTO(project));
+            }
+            if (targetClass == ProjectResponseFilteredDTO.class) {
+                return targetClass.cast(toProjectResponseFilteredDTO(project));
+            }
+        } else if (source instanceof ProjectSummary summary && targetClass == ProjectResponseFilteredDTO.class) {
+            return targetClass.cast(toProjectResponseFilteredDTO(summary));
+        } else if (source instanceof User user && targetClass == UserResponseDTO.class) {
+            return targetClass.cast(toUserResponseDTO(user));
+        }
+        // demais conversões continuam com o ModelMapper
+        return modelMapper.map(source, targetClass);
+    }
+
+    public TaskResponseDTO toTaskResponseDTO(Task task) {
+        if (task == null) {
+            return null;
+        }
+        return new TaskResponseDTO(
+            task.getId(),
+            task.getTitle(),
+            task.getDescription(),
+            task.getDueDate(),
+            task.getStatus(),
+            toUserResponseDTO(task.getOwner()),
+            toUserResponseDTOs(task.getUsersResponsability()),
+            task.getVersion()
+        );
+    }
+
+    public TaskResponseFilteredDTO toTaskResponseFilteredDTO(Task task) {
+        if (task == null) {
+            return null;
+        }
+        return new TaskResponseFilteredDTO(
+            task.getId(),
+            task.getTitle(),
+            task.getDescription(),
+            task.getDueDate(),
+            task.getStatus(),
+            toUserResponseDTO(task.getOwner()),
+            toUserResponseDTOs(task.getUsersResponsability()),
+            toProjectResponseFilteredDTO(task.getProject())
+        );
+    }
+
+    public ProjectResponseDTO toProjectResponseDTO(Project project) {
+        if (project == null) {
+            return null;
+        }
+
+        List<TaskResponseDTO> tasks = null;
+        if (project.getTasks() != null) {
+            tasks = new ArrayList<>(project.getTasks().size());
+            for (Task task : project.getTasks()) {
+                tasks.add(toTaskResponseDTO(task));
+            }
+        }
+
+        return new ProjectResponseDTO(
+            project.getId(),
+            project.getTitle(),
+            project.getDescription(),
+            tasks,
+            toUserResponseDTO(project.getCreator()),
+            toUserResponseDTOs(project.getTeam()),
+            project.getVersion()
+        );
+    }
+
+    public ProjectResponseFilteredDTO toProjectResponseFilteredDTO(Project project) {
+        if (project == null) {
+            return null;
+        }
+        ProjectResponseFilteredDTO dto = new ProjectResponseFilteredDTO();
+        dto.setId(project.getId());
+        dto.setTitle(project.getTitle());
+        dto.setDescription(project.getDescription());
+        return dto;
+    }
+
+    public ProjectResponseFilteredDTO toProjectResponseFilteredDTO(ProjectSummary summary) {
+        if (summary == null) {
+            return null;
+        }
+        return new ProjectResponseFilteredDTO(
+            summary.getId(),
+            summary.getTitle(),
+            summary.getDescription(),
+            summary.getMemberCount(),
+            summary.getTaskCount()
+        );
+    }
+
+    public UserResponseDTO toUserResponseDTO(User user) {
+        if (user == null) {
+            return null;
+        }
+
+        Set<RoleResponseDTO> roles = null;
+        if (user.getRoles() != null) {
+            roles = new HashSet<>();
+            for (Role role : user.getRoles()) {
+                roles.add(new RoleResponseDTO(role.getRoleName()));
+            }
+        }
+
+        return new UserResponseDTO(user.getUserName(), user.getEmail(), roles);
+    }
+
+    private List<UserResponseDTO> toUserResponseDTOs(List<User> users) {
+        if (users == null) {
+            return null;
+        }
+        List<UserResponseDTO> mapped = new ArrayList<>(users.size());
+        for (User user : users) {
+            mapped.add(toUserResponseDTO(user));
+        }
+        return mapped;
+    }
+}
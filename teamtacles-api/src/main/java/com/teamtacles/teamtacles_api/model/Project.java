@@ -2,8 +2,12 @@ package com.teamtacles.teamtacles_api.model;
 
 import java.util.List;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import com.fasterxml.jackson.annotation.JsonBackReference;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
+import com.teamtacles.teamtacles_api.config.SecondLevelCacheConfig;
 
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Entity;
@@ -15,6 +19,7 @@ import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
@@ -41,6 +46,10 @@ public class Project{
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    // incrementada a cada alteração: atualizações concorrentes falham em vez de sobrescrever umas às outras
+    @Version
+    private Long version;
+
     @NotBlank(message="The title cannot be blank!")
     @Size(max = 50)
     private String title;
@@ -59,7 +68,9 @@ public class Project{
     private User creator;
 
     // Usuarios que participam do projeto - Equipe
+    // ids do time no cache de segundo nível; os usuários em si vêm da região de User
     @ManyToMany
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.PROJECT_TEAM_REGION)
     @JoinTable(
         name = "team",
         joinColumns = @JoinColumn(name = "project_id"),
@@ -0,0 +1,54 @@
+package com.teamtacles.teamtacles_api.model;
+
+import com.teamtacles.teamtacles_api.model.enums.Status;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A change in the number of tasks of a project with a given status.
+ * The counter of a project and status is the sum of its deltas: writers only insert rows,
+ * so concurrent changes to the same project never wait on each other, and the periodic
+ * compaction folds the accumulated rows back into one.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "project_status_delta")
+public class ProjectStatusDelta {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // apenas o id: gravar um delta não carrega o projeto
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Status status;
+
+    @Column(nullable = false)
+    private long delta;
+
+    public ProjectStatusDelta(Long projectId, Status status, long delta) {
+        this.projectId = projectId;
+        this.status = status;
+        this.delta = delta;
+    }
+}
@@ -0,0 +1,60 @@
+package com.teamtacles.teamtacles_api.model;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A refresh token issued on login or on a refresh, stored only as the SHA-256 hash of its value.
+ *
+ * Every refresh replaces the token with a new one of the same family, which groups the tokens
+ * descending from one login. A token is used once: presenting it again means it was stolen, and
+ * the whole family is revoked, together with the access tokens issued with it.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "refresh_token")
+public class RefreshToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "token_hash", nullable = false, length = 64)
+    private String tokenHash;
+
+    @Column(name = "family_id", nullable = false, length = 36)
+    private String familyId;
+
+    // apenas o id: emitir e rotacionar tokens não carrega o usuário
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    // usado (rotacionado) ou revogado
+    @Column(name = "revoked_at")
+    private Instant revokedAt;
+
+    // o access token emitido junto, revogado com a família
+    @Column(name = "access_token_id", nullable = false, length = 36)
+    private String accessTokenId;
+
+    @Column(name = "access_token_expires_at", nullable = false)
+    private Instant accessTokenExpiresAt;
+}
@@ -1,5 +1,10 @@
 package com.teamtacles.teamtacles_api.model;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Immutable;
+
+import com.teamtacles.teamtacles_api.config.SecondLevelCacheConfig;
 import com.teamtacles.teamtacles_api.model.enums.ERole;
 import jakarta.persistence.Entity;
 import lombok.AllArgsConstructor;
@@ -25,6 +30,9 @@ import jakarta.persistence.Column;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+// dado de referência: as roles são criadas pela migração V2 e nunca alteradas
+@Immutable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = SecondLevelCacheConfig.ROLE_REGION)
 public class Role {
 
     @Id
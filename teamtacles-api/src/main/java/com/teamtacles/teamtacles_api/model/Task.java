@@ -16,6 +16,8 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.Future;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -40,10 +42,16 @@ import lombok.NoArgsConstructor;
 @Entity
 public class Task{
     
+    // ids reservados em blocos de 50 pela sequence, permitindo o batch de inserts do Hibernate
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_seq")
+    @SequenceGenerator(name = "task_seq", sequenceName = "task_seq", allocationSize = 50)
     private Long id;
 
+    // incrementada a cada alteração: atualizações concorrentes falham em vez de sobrescrever umas às outras
+    @Version
+    private Long version;
+
     @Size(max = 50)
 	@NotBlank(message="The title cannot be blank!")
     private String title; 
@@ -0,0 +1,21 @@
+package com.teamtacles.teamtacles_api.model.enums;
+
+/**
+ * Enumeration representing the kinds of changes propagated to every node of the application by the change bus.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public enum ChangeType {
+    // os papéis de um usuário mudaram (id = ID do usuário)
+    USER_ROLES,
+    // o time de um projeto mudou ou o projeto foi excluído (id = ID do projeto)
+    PROJECT_MEMBERSHIP,
+    // tarefas de um projeto mudaram (id = ID do projeto, tasks = as mudanças)
+    TASK,
+    // access tokens foram revogados antes de expirar (tokenIds = os jti)
+    TOKENS_REVOKED,
+    // entregue apenas localmente quando o nó pode ter perdido notificações: descarte tudo o que estiver em cache
+    RESET
+}
@@ -0,0 +1,20 @@
+package com.teamtacles.teamtacles_api.model.enums;
+
+/**
+ * Enumeration representing how the total of a paginated response is obtained.
+ * EXACT counts on every request, CACHED reuses a recent count of the same filters,
+ * and NONE skips the count, reporting only whether there is a next page.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public enum CountMode {
+    EXACT,
+    CACHED,
+    NONE;
+
+    public static CountMode fromValue(String value) {
+        return EnumLookup.ignoreCase(CountMode.class, value, "count mode");
+    }
+}
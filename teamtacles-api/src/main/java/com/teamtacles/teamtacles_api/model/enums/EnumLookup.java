@@ -0,0 +1,33 @@
+package com.teamtacles.teamtacles_api.model.enums;
+
+/**
+ * Case-insensitive lookup of enum constants by name, shared by the enums received as
+ * request parameters.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class EnumLookup {
+
+    private EnumLookup() {
+    }
+
+    /**
+     * Finds the constant whose name matches a value, ignoring case ("exact", "NONE").
+     *
+     * @param type The enum class.
+     * @param value The name received.
+     * @param description What the value is, used in the error message (e.g. "count mode").
+     * @return The matching constant.
+     * @throws IllegalArgumentException if no constant matches the value.
+     */
+    static <E extends Enum<E>> E ignoreCase(Class<E> type, String value, String description) {
+        for (E constant : type.getEnumConstants()) {
+            if (constant.name().equalsIgnoreCase(value)) {
+                return constant;
+            }
+        }
+        throw new IllegalArgumentException("Invalid " + description + ": " + value);
+    }
+}
@@ -0,0 +1,34 @@
+package com.teamtacles.teamtacles_api.model.enums;
+
+/**
+ * Enumeration representing the formats in which tasks can be exported,
+ * with the media type and file extension of each one.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public enum ExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String mediaType;
+    private final String extension;
+
+    ExportFormat(String mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public static ExportFormat fromValue(String value) {
+        return EnumLookup.ignoreCase(ExportFormat.class, value, "export format");
+    }
+}
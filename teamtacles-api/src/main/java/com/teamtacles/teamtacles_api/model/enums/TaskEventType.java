@@ -0,0 +1,16 @@
+package com.teamtacles.teamtacles_api.model.enums;
+
+/**
+ * Enumeration representing the kinds of task changes pushed to the subscribers of a project,
+ * also used as the name of the Server-Sent Event.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public enum TaskEventType {
+    CREATED,
+    UPDATED,
+    STATUS_CHANGED,
+    DELETED
+}
@@ -0,0 +1,34 @@
+package com.teamtacles.teamtacles_api.monitoring;
+
+import com.github.benmanes.caffeine.cache.Cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Registers the metrics of the Caffeine caches of the application.
+ *
+ * Each cache publishes its hits, misses, evictions and size, tagged with its name
+ * ({@code cache_gets_total{cache="authenticatedUsers"}}, {@code cache_size}, ...). The cache must
+ * be built with {@code recordStats()}, otherwise only its size is published.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class CacheMetrics {
+
+    private CacheMetrics() {
+    }
+
+    /**
+     * Publishes the metrics of a cache.
+     *
+     * @param registry The registry to publish to.
+     * @param cache The cache.
+     * @param name The value of the {@code cache} tag.
+     */
+    public static void monitor(MeterRegistry registry, Cache<?, ?> cache, String name) {
+        CaffeineCacheMetrics.monitor(registry, cache, name);
+    }
+}
@@ -0,0 +1,107 @@
+package com.teamtacles.teamtacles_api.monitoring;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Database cost of a single HTTP request: JDBC executions, total JDBC time, entities
+ * loaded and lazy collections fetched by Hibernate.
+ *
+ * The stats of the request being served are bound to the request thread by {@link QueryStatsFilter}
+ * and fed by the JDBC and Hibernate listeners, which ignore work done outside of a request
+ * (migrations, scheduled jobs). An async request keeps the same stats on each of its dispatches,
+ * and the tasks it submits to the application task executor ({@link #propagate(Runnable)}) add to
+ * them too, so the counters are safe for concurrent updates.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class QueryStats {
+
+    private static final ThreadLocal<QueryStats> CURRENT = new ThreadLocal<>();
+
+    private final AtomicInteger statements = new AtomicInteger();
+    private final AtomicLong jdbcTimeMillis = new AtomicLong();
+    private final AtomicInteger entitiesLoaded = new AtomicInteger();
+    private final AtomicInteger collectionsFetched = new AtomicInteger();
+
+    static void bind(QueryStats stats) {
+        CURRENT.set(stats);
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Returns the stats of the request served by the current thread.
+     *
+     * @return The stats of the current request, or {@code null} outside of a request.
+     */
+    public static QueryStats current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Wraps a task so that it runs with the stats of the request that submits it, if any.
+     * Used as the TaskDecorator of the application task executor, which runs the async work
+     * of the requests (StreamingResponseBody, Callable).
+     *
+     * @param task The task submitted to the executor.
+     * @return The task bound to the stats of the current request, or the task itself outside of a request.
+     */
+    public static Runnable propagate(Runnable task) {
+        QueryStats stats = CURRENT.get();
+        if (stats == null) {
+            return task;
+        }
+        return () -> {
+            QueryStats previous = CURRENT.get();
+            CURRENT.set(stats);
+            try {
+                task.run();
+            } finally {
+                CURRENT.set(previous);
+            }
+        };
+    }
+
+    // um lote JDBC conta como uma única execução: é uma única ida ao banco
+    void recordExecution(long elapsedMillis) {
+        statements.incrementAndGet();
+        jdbcTimeMillis.addAndGet(elapsedMillis);
+    }
+
+    void recordEntityLoad() {
+        entitiesLoaded.incrementAndGet();
+    }
+
+    void recordCollectionFetch() {
+        collectionsFetched.incrementAndGet();
+    }
+
+    public int getStatements() {
+        return statements.get();
+    }
+
+    public long getJdbcTimeMillis() {
+        return jdbcTimeMillis.get();
+    }
+
+    public int getEntitiesLoaded() {
+        return entitiesLoaded.get();
+    }
+
+    public int getCollectionsFetched() {
+        return collectionsFetched.get();
+    }
+
+    @Override
+    public String toString() {
+        return "statements=" + statements.get()
+            + "; jdbcTimeMs=" + jdbcTimeMillis.get()
+            + "; entities=" + entitiesLoaded.get()
+            + "; collections=" + collectionsFetched.get();
+    }
+}
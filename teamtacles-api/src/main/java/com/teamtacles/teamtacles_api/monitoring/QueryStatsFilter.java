@@ -0,0 +1,63 @@
+package com.teamtacles.teamtacles_api.monitoring;
+
+import java.io.IOException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Binds a fresh {@link QueryStats} to every request and, once the request is served,
+ * writes a single log line with its status, elapsed time and database cost.
+ * Runs ahead of the security filters, so the lookup of the authenticated user is also counted.
+ *
+ * An async request (CompletableFuture, StreamingResponseBody, SSE) is also filtered on its async
+ * dispatches: the stats and the start time are kept in request attributes, and the line is written
+ * only on the last dispatch, with the final status and the whole elapsed time.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class QueryStatsFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(QueryStatsFilter.class);
+
+    private static final String STATS_ATTRIBUTE = QueryStatsFilter.class.getName() + ".stats";
+    private static final String START_ATTRIBUTE = QueryStatsFilter.class.getName() + ".start";
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        // no dispatch assíncrono, continua a medição iniciada no dispatch original
+        QueryStats stats = (QueryStats) request.getAttribute(STATS_ATTRIBUTE);
+        if (stats == null) {
+            stats = new QueryStats();
+            request.setAttribute(STATS_ATTRIBUTE, stats);
+            request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        }
+        long start = (Long) request.getAttribute(START_ATTRIBUTE);
+
+        QueryStats.bind(stats);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            QueryStats.end();
+            // ainda assíncrona: o status e o tempo reais só são conhecidos no último dispatch
+            if (!request.isAsyncStarted() && logger.isInfoEnabled()) {
+                logger.info("{} {} status={} timeMs={} {}", request.getMethod(), request.getRequestURI(),
+                    response.getStatus(), (System.nanoTime() - start) / 1_000_000, stats);
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.teamtacles.teamtacles_api.monitoring;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.listener.logging.DefaultQueryLogEntryCreator;
+
+/**
+ * JDBC listener of the proxied DataSource. It adds every statement execution and its time
+ * to the {@link QueryStats} of the current request, and logs the executions slower than the
+ * configured threshold together with their bind parameters.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class QueryStatsListener implements QueryExecutionListener {
+
+    private static final Logger logger = LoggerFactory.getLogger("com.teamtacles.teamtacles_api.SlowQuery");
+
+    private final long slowQueryThresholdMillis;
+    private final DefaultQueryLogEntryCreator logEntryCreator = new DefaultQueryLogEntryCreator();
+
+    public QueryStatsListener(Duration slowQueryThreshold) {
+        this.slowQueryThresholdMillis = slowQueryThreshold.toMillis();
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        QueryStats stats = QueryStats.current();
+        if (stats != null) {
+            stats.recordExecution(execInfo.getElapsedTime());
+        }
+
+        if (execInfo.getElapsedTime() >= slowQueryThresholdMillis && logger.isWarnEnabled()) {
+            // inclui SQL, parâmetros, tamanho do lote e tempo decorrido
+            logger.warn("Slow query: {}", logEntryCreator.getLogEntry(execInfo, queryInfoList, false, false, false));
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.teamtacles.teamtacles_api.repository;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.teamtacles.teamtacles_api.model.enums.CountMode;
+import com.teamtacles.teamtacles_api.monitoring.CacheMetrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Short-lived cache of the totals of the paginated queries, keyed by query and filters.
+ *
+ * Counting repeats the whole filter of the page query, roughly doubling its cost, while the
+ * total of the same filters barely changes between the pages a client browses. With
+ * {@link CountMode#CACHED} the total is counted once per TTL; it may lag behind the writes
+ * made meanwhile, so it is an estimate for navigation only.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Component
+public class CountCache implements MeterBinder {
+
+    public static final String NAME = "pageCounts";
+
+    private final Cache<Key, Long> cache;
+
+    public CountCache(@Value("${teamtacles.count-cache.maximum-size:10000}") long maximumSize,
+        @Value("${teamtacles.count-cache.ttl:30s}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * Identifies a count: the query and the values of its filters, {@code null} included.
+     */
+    public record Key(String query, List<Object> filters) {
+    }
+
+    public static Key key(String query, Object... filters) {
+        return new Key(query, Arrays.asList(filters));
+    }
+
+    /**
+     * Completes the content of a page according to the count mode.
+     * The content must have been read with {@link #sliceSize(Pageable, CountMode)} rows.
+     *
+     * @param content The rows read for the page, possibly with one extra row.
+     * @param pageable Pagination information (page number and page size).
+     * @param countMode How to obtain the total: CACHED reuses a recent count, NONE skips it.
+     * @param key The key of the count in the cache.
+     * @param counter Counts the rows matching the filters on a cache miss.
+     * @return A Page when the total is known, otherwise a Slice telling whether there is a next page.
+     */
+    public <T> Slice<T> toSlice(List<T> content, Pageable pageable, CountMode countMode, Key key, LongSupplier counter) {
+        if (countMode == CountMode.NONE) {
+            boolean hasNext = pageable.isPaged() && content.size() > pageable.getPageSize();
+            List<T> pageContent = hasNext ? content.subList(0, pageable.getPageSize()) : content;
+            return new SliceImpl<>(pageContent, pageable, hasNext);
+        }
+        // só conta quando o tamanho da página não revela o total
+        return PageableExecutionUtils.getPage(content, pageable, () -> countMode == CountMode.CACHED
+            ? cache.get(key, ignored -> counter.getAsLong())
+            : counter.getAsLong());
+    }
+
+    /**
+     * The number of rows to read for a page: one more than its size when the count is skipped,
+     * so that the extra row tells whether there is a next page.
+     */
+    public static int sliceSize(Pageable pageable, CountMode countMode) {
+        return countMode == CountMode.NONE ? pageable.getPageSize() + 1 : pageable.getPageSize();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CacheMetrics.monitor(registry, cache, NAME);
+    }
+}
@@ -5,6 +5,7 @@ import org.springframework.data.domain.Pageable;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -13,6 +14,9 @@ import org.springframework.stereotype.Repository;
 import com.teamtacles.teamtacles_api.model.Project;
 import com.teamtacles.teamtacles_api.model.User;
 import com.teamtacles.teamtacles_api.model.enums.Status;
+import com.teamtacles.teamtacles_api.repository.projection.ProjectSummary;
+import com.teamtacles.teamtacles_api.repository.projection.TaskVersion;
+import com.teamtacles.teamtacles_api.repository.projection.UserSnapshot;
 
 /**
  * Repository interface for managing {@link Project} entities in the TeamTacles application.
@@ -29,4 +33,88 @@ public interface ProjectRepository extends JpaRepository<Project, Long>{
     Page<Project> findByCreator(User creator, Pageable pageable);
     Page<Project> findById(Long id, Pageable pageable);
     Page<Project> findByTeam(User user, Pageable pageable);
-}
\ No newline at end of file
+
+    // paginação por cursor (keyset): busca os projetos seguintes ao último ID já entregue
+    List<Project> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+    List<Project> findByTeamAndIdGreaterThanOrderByIdAsc(User user, Long id, Limit limit);
+
+    /**
+     * Lists the summaries of all projects with the size of their team and their number of tasks,
+     * computed by the database in the same query.
+     *
+     * @param pageable Pagination information (page number, page size, sorting).
+     * @return A Page of project summaries.
+     */
+    @Query(value = """
+        SELECT p.id AS id, p.title AS title, p.description AS description,
+            SIZE(p.team) AS memberCount, SIZE(p.tasks) AS taskCount
+        FROM Project p
+    """, countQuery = "SELECT COUNT(p) FROM Project p")
+    Page<ProjectSummary> findAllSummaries(Pageable pageable);
+
+    /**
+     * Lists the summaries of the projects where the given user is a team member,
+     * with the size of their team and their number of tasks.
+     *
+     * @param userId The ID of the team member.
+     * @param pageable Pagination information (page number, page size, sorting).
+     * @return A Page of project summaries.
+     */
+    @Query(value = """
+        SELECT p.id AS id, p.title AS title, p.description AS description,
+            SIZE(p.team) AS memberCount, SIZE(p.tasks) AS taskCount
+        FROM Project p
+        WHERE EXISTS (SELECT m FROM p.team m WHERE m.userId = :userId)
+    """, countQuery = "SELECT COUNT(p) FROM Project p WHERE EXISTS (SELECT m FROM p.team m WHERE m.userId = :userId)")
+    Page<ProjectSummary> findSummariesByTeamMember(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * Checks if a user is a member of the team of a project.
+     * The lookup is answered by the primary key of the team table, without loading the team.
+     *
+     * @param projectId The ID of the project.
+     * @param userId The ID of the user.
+     * @return true if the user is in the team of the project.
+     */
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM team WHERE project_id = :projectId AND user_id = :userId)", nativeQuery = true)
+    boolean isTeamMember(@Param("projectId") Long projectId, @Param("userId") Long userId);
+
+    /**
+     * Lists the IDs of the users in the team of a project, read from the primary key of team,
+     * so the access of many users can be checked with a single query.
+     *
+     * @param projectId The ID of the project.
+     * @return The IDs of the team members.
+     */
+    @Query(value = "SELECT user_id FROM team WHERE project_id = :projectId", nativeQuery = true)
+    List<Long> findTeamMemberIds(@Param("projectId") Long projectId);
+
+    /**
+     * Lists the IDs and versions of the tasks of a project, so the ETag of the project can follow
+     * its tasks without loading them. Answered by the index on task(project_id, ...).
+     *
+     * @param projectId The ID of the project.
+     * @return The ID and version of each task, ordered by ID.
+     */
+    @Query("SELECT t.id AS id, t.version AS version FROM Task t WHERE t.project.id = :projectId ORDER BY t.id")
+    List<TaskVersion> findTaskVersions(@Param("projectId") Long projectId);
+
+    /**
+     * Lists the users rendered in the representation of a project (its creator, its team and the
+     * owners and responsible users of its tasks), so the ETag of the project also changes when
+     * one of them is renamed or has its roles changed.
+     *
+     * @param projectId The ID of the project.
+     * @return One row per user and role, ordered by user ID and role.
+     */
+    @Query("""
+        SELECT u.userId AS userId, u.userName AS userName, u.email AS email, r.roleName AS roleName
+        FROM User u LEFT JOIN u.roles r
+        WHERE u.userId IN (SELECT p.creator.userId FROM Project p WHERE p.id = :projectId)
+            OR u.userId IN (SELECT m.userId FROM Project p JOIN p.team m WHERE p.id = :projectId)
+            OR u.userId IN (SELECT t.owner.userId FROM Task t WHERE t.project.id = :projectId)
+            OR u.userId IN (SELECT ru.userId FROM Task t JOIN t.usersResponsability ru WHERE t.project.id = :projectId)
+        ORDER BY u.userId, r.roleName
+    """)
+    List<UserSnapshot> findRenderedUsers(@Param("projectId") Long projectId);
+}
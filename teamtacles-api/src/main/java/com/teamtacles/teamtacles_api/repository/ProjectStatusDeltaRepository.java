@@ -0,0 +1,64 @@
+package com.teamtacles.teamtacles_api.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import com.teamtacles.teamtacles_api.model.ProjectStatusDelta;
+import com.teamtacles.teamtacles_api.model.enums.Status;
+import com.teamtacles.teamtacles_api.repository.projection.ProjectStatusCount;
+
+/**
+ * Repository interface for the {@link ProjectStatusDelta} rows that make up the per-project status counters.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Repository
+public interface ProjectStatusDeltaRepository extends JpaRepository<ProjectStatusDelta, Long>, ProjectStatusDeltaRepositoryCustom {
+
+    /**
+     * Sums the deltas of a project by status.
+     *
+     * @param projectId The ID of the Project.
+     * @return One ProjectStatusCount per status that has deltas.
+     */
+    @Query("""
+        SELECT d.projectId AS projectId, d.status AS status, SUM(d.delta) AS total, COUNT(d) AS rowCount
+        FROM ProjectStatusDelta d
+        WHERE d.projectId = :projectId
+        GROUP BY d.projectId, d.status
+    """)
+    List<ProjectStatusCount> sumByProjectId(Long projectId);
+
+    @Query("SELECT MAX(d.id) FROM ProjectStatusDelta d")
+    Long findMaxId();
+
+    /**
+     * Sums, up to the given ID, the deltas of the counters that are worth compacting:
+     * those made of more than one row and those that add up to zero.
+     *
+     * @param maxId The highest delta ID to be compacted.
+     * @return One ProjectStatusCount per counter to be compacted.
+     */
+    @Query("""
+        SELECT d.projectId AS projectId, d.status AS status, SUM(d.delta) AS total, COUNT(d) AS rowCount
+        FROM ProjectStatusDelta d
+        WHERE d.id <= :maxId
+        GROUP BY d.projectId, d.status
+        HAVING COUNT(d) > 1 OR SUM(d.delta) = 0
+    """)
+    List<ProjectStatusCount> findCompactableCounts(Long maxId);
+
+    @Modifying
+    @Query("DELETE FROM ProjectStatusDelta d WHERE d.projectId = :projectId AND d.status = :status AND d.id <= :maxId")
+    int deleteByProjectIdAndStatusUpTo(Long projectId, Status status, Long maxId);
+
+    @Modifying
+    @Query("DELETE FROM ProjectStatusDelta d")
+    int deleteAllDeltas();
+}
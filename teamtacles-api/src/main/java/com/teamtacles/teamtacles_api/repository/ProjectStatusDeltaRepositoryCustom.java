@@ -0,0 +1,20 @@
+package com.teamtacles.teamtacles_api.repository;
+
+/**
+ * Custom fragment of {@link ProjectStatusDeltaRepository} for the database-specific statements.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public interface ProjectStatusDeltaRepositoryCustom {
+
+    /**
+     * Blocks the writers of project_status_delta until the end of the current transaction, and waits
+     * for the transactions that already wrote to it. Task changes record their delta in their own
+     * transaction, so none of them can commit between the discard and the recount of a rebuild.
+     * On PostgreSQL it takes an EXCLUSIVE lock on the table (reads are still allowed); databases
+     * without table locks (H2, used in the tests) are not locked.
+     */
+    void lockAgainstWriters();
+}
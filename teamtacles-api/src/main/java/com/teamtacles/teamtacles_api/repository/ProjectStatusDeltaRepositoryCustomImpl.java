@@ -0,0 +1,33 @@
+package com.teamtacles.teamtacles_api.repository;
+
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Native SQL implementation of {@link ProjectStatusDeltaRepositoryCustom}.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class ProjectStatusDeltaRepositoryCustomImpl implements ProjectStatusDeltaRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public void lockAgainstWriters() {
+        // EXCLUSIVE conflita com o ROW EXCLUSIVE dos INSERT/DELETE, mas não com as leituras dos contadores
+        if (isPostgreSQL()) {
+            entityManager.createNativeQuery("LOCK TABLE project_status_delta IN EXCLUSIVE MODE").executeUpdate();
+        }
+    }
+
+    private boolean isPostgreSQL() {
+        return entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+            .getJdbcServices().getDialect() instanceof PostgreSQLDialect;
+    }
+}
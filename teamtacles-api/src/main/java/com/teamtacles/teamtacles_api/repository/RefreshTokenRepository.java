@@ -0,0 +1,55 @@
+package com.teamtacles.teamtacles_api.repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import com.teamtacles.teamtacles_api.model.RefreshToken;
+
+import jakarta.persistence.LockModeType;
+
+/**
+ * Repository interface for the {@link RefreshToken} rows, looked up by the hash of the token.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    /**
+     * Finds a refresh token by the hash of its value, locking its row until the end of the transaction,
+     * so that two concurrent refreshes with the same token cannot both rotate it.
+     *
+     * @param tokenHash The SHA-256 hash of the token, in hexadecimal.
+     * @return The refresh token, if any.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM RefreshToken r WHERE r.tokenHash = :tokenHash")
+    Optional<RefreshToken> findByTokenHashForUpdate(String tokenHash);
+
+    /**
+     * Finds the IDs of the access tokens issued with a family of refresh tokens that have not expired yet.
+     *
+     * @param familyId The ID of the family.
+     * @param now The current instant.
+     * @return The refresh tokens of the family whose access token is still valid.
+     */
+    @Query("SELECT r FROM RefreshToken r WHERE r.familyId = :familyId AND r.accessTokenExpiresAt > :now")
+    List<RefreshToken> findWithValidAccessTokenByFamilyId(String familyId, Instant now);
+
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.revokedAt = :now WHERE r.familyId = :familyId AND r.revokedAt IS NULL")
+    int revokeFamily(String familyId, Instant now);
+
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.expiresAt < :now")
+    int deleteExpired(Instant now);
+}
@@ -1,12 +1,16 @@
 package com.teamtacles.teamtacles_api.repository;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import com.teamtacles.teamtacles_api.model.enums.ERole;
 import com.teamtacles.teamtacles_api.model.Role;
 import java.util.Optional;
 
+import jakarta.persistence.QueryHint;
+
 /**
  * Repository interface for managing {@link Role} entities in the TeamTacles application.
  * Extends {@link JpaRepository} to provide standard CRUD operations.
@@ -19,5 +23,7 @@ import java.util.Optional;
  */
 @Repository
 public interface RoleRepository extends JpaRepository<Role, Long> {
+    // no cache de consultas: a busca por nome não passa pelo cache de entidades
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Role> findByRoleName(ERole roleName);
 }
\ No newline at end of file
@@ -1,17 +1,38 @@
 package com.teamtacles.teamtacles_api.repository;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.teamtacles.teamtacles_api.model.Project;
 import com.teamtacles.teamtacles_api.model.Task;
+import com.teamtacles.teamtacles_api.model.enums.CountMode;
 import com.teamtacles.teamtacles_api.model.enums.Status;
+import com.teamtacles.teamtacles_api.repository.projection.ProjectStatusCount;
+import com.teamtacles.teamtacles_api.repository.projection.TaskExportRow;
+import com.teamtacles.teamtacles_api.repository.projection.UserSnapshot;
+
+import jakarta.persistence.LockModeType;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Interface de repositório para gerenciar entidades {@link Task} na aplicação TeamTacles.
@@ -20,53 +41,59 @@ import java.util.Optional;
  * Esta interface define métodos de consulta personalizados para recuperar tarefas com base em vários critérios,
  * incluindo relacionamentos com projetos e usuários, e buscas filtradas.
  *
+ * As buscas paginadas são feitas em duas etapas: primeiro a página de IDs (com ordenação e contagem)
+ * e depois o grafo completo das tarefas da página (owner, projeto e responsáveis) em uma única consulta,
+ * evitando o problema de N+1 ao mapear as tarefas para DTOs.
+ *
+ * As buscas filtradas montam a consulta de IDs dinamicamente ({@link TaskSpecifications}), incluindo
+ * apenas os filtros informados, para que o banco possa usar os índices de task e users_responsability.
+ *
  * @author Equipe de Desenvolvimento TeamTacles
  * @version 1.0
  * @since 2025-05-026
  */
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskRepositoryCustom {
+    Sort KEYSET_SORT = Sort.by("dueDate", "id");
+    int EXPORT_FETCH_SIZE = 500;
+
     Page<Task> findByProject(Project project, Pageable Pageable);
     Page<Task> findByStatus(Status status, Pageable pageable);
 
-     /**
+    /**
      * Finds a paginated list of tasks within a specific project where a given user
-     * is listed in the task's responsibilities.
+     * is listed in the task's responsibilities, with owner, project and responsible users already loaded.
      *
      * @param projectId The ID of the Project to search tasks within.
      * @param userId The ID of the User responsible for the task.
      * @param pageable Pagination information (page number, page size, sorting).
      * @return A Page of tasks matching the project and user responsibility criteria.
      */
-    @Query("SELECT t FROM Task t JOIN t.usersResponsability u WHERE t.project.id = :projectId AND u.id = :userId")
-    Page<Task> findByProjectIdAndUsersResponsabilityId(Long projectId, Long userId, Pageable pageable);
+    default Page<Task> findByProjectIdAndUsersResponsabilityId(Long projectId, Long userId, Pageable pageable) {
+        return findPageGraph(findIdsByProjectIdAndUsersResponsabilityId(projectId, userId, pageable));
+    }
 
-     /**
-     * Finds a paginated list of tasks based on multiple optional filtering criteria.
-     * This query allows filtering by task status, due date (tasks due on or before this date),
-     * the project it belongs to, and whether a specific user is the owner or among the responsible users.
+    /**
+     * Finds a paginated list of tasks based on multiple optional filtering criteria,
+     * restricted to tasks where the given user is the owner or among the responsible users.
+     * The owner, project and responsible users of the tasks are loaded with the page.
      *
      * @param statusEnum The Status to filter by (optional: {null} to ignore).
      * @param dueDate The maximum due date to filter by (optional: { null} to ignore).
      * @param projectId The ID of the Project to filter by (optional: {null} to ignore).
-     * @param userId The ID of the User (owner or responsible) to filter by (optional: {null} to ignore).
+     * @param userId The ID of the User (owner or responsible) to filter by.
      * @param pageable Pagination information (page number, page size, sorting).
      * @return A Page of tasks matching the specified filters.
      */
-     @Query("""
-        SELECT DISTINCT t FROM Task t
-        LEFT JOIN t.usersResponsability ur
-        WHERE COALESCE(:statusEnum, t.status) = t.status
-        AND t.dueDate <= COALESCE(:dueDate, t.dueDate)
-        AND COALESCE(:projectId, t.project.id) = t.project.id
-        AND (t.owner.id = :userId OR ur.id = :userId)
-    """)
-    Page<Task> findTasksFilteredByUser(Status statusEnum, LocalDateTime dueDate, Long projectId, Long userId, Pageable pageable);
+    default Page<Task> findTasksFilteredByUser(Status statusEnum, LocalDateTime dueDate, Long projectId, Long userId, Pageable pageable) {
+        return findPageGraph(findTaskIds(TaskSpecifications.filtered(statusEnum, dueDate, projectId)
+            .and(TaskSpecifications.ownedByOrAssignedTo(userId)), pageable));
+    }
 
     /**
      * Finds a paginated list of tasks based on multiple optional filtering criteria.
-     * This query allows filtering by task status, due date (tasks due on or before this date),
-     * and the project it belongs to. This version does not filter by user responsibility.
+     * This version does not filter by user responsibility.
+     * The owner, project and responsible users of the tasks are loaded with the page.
      *
      * @param statusEnum The Status to filter by (optional: {null} to ignore).
      * @param dueDate The maximum due date to filter by (optional: {null} to ignore).
@@ -74,13 +101,297 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
      * @param pageable Pagination information (page number, page size, sorting).
      * @return A Page of tasks matching the specified filters.
      */
+    default Page<Task> findTasksFiltered(Status statusEnum, LocalDateTime dueDate, Long projectId, Pageable pageable) {
+        return findPageGraph(findTaskIds(TaskSpecifications.filtered(statusEnum, dueDate, projectId), pageable));
+    }
+
+    /**
+     * Same as {@link #findTasksFilteredByUser(Status, LocalDateTime, Long, Long, Pageable)},
+     * obtaining the total as the count mode says.
+     *
+     * @param statusEnum The Status to filter by (optional: {null} to ignore).
+     * @param dueDate The maximum due date to filter by (optional: { null} to ignore).
+     * @param projectId The ID of the Project to filter by (optional: {null} to ignore).
+     * @param userId The ID of the User (owner or responsible) to filter by.
+     * @param pageable Pagination information (page number, page size, sorting).
+     * @param countMode How to obtain the total: EXACT counts, CACHED reuses a recent count, NONE skips it.
+     * @return A Page of tasks matching the specified filters, or a Slice when the count is skipped.
+     */
+    default Slice<Task> findTasksFilteredByUser(Status statusEnum, LocalDateTime dueDate, Long projectId, Long userId, Pageable pageable, CountMode countMode) {
+        return findSliceGraph(findTaskIds(TaskSpecifications.filtered(statusEnum, dueDate, projectId)
+            .and(TaskSpecifications.ownedByOrAssignedTo(userId)), pageable, countMode,
+            CountCache.key("tasksFilteredByUser", statusEnum, dueDate, projectId, userId)));
+    }
+
+    /**
+     * Same as {@link #findTasksFiltered(Status, LocalDateTime, Long, Pageable)},
+     * obtaining the total as the count mode says.
+     *
+     * @param statusEnum The Status to filter by (optional: {null} to ignore).
+     * @param dueDate The maximum due date to filter by (optional: {null} to ignore).
+     * @param projectId The ID of the Project to filter by (optional: {null} to ignore).
+     * @param pageable Pagination information (page number, page size, sorting).
+     * @param countMode How to obtain the total: EXACT counts, CACHED reuses a recent count, NONE skips it.
+     * @return A Page of tasks matching the specified filters, or a Slice when the count is skipped.
+     */
+    default Slice<Task> findTasksFiltered(Status statusEnum, LocalDateTime dueDate, Long projectId, Pageable pageable, CountMode countMode) {
+        return findSliceGraph(findTaskIds(TaskSpecifications.filtered(statusEnum, dueDate, projectId), pageable, countMode,
+            CountCache.key("tasksFiltered", statusEnum, dueDate, projectId)));
+    }
+
+    /**
+     * Finds a page of the tasks whose title or description match the given text, the most relevant first,
+     * restricted to tasks where the given user is the owner or among the responsible users.
+     * The owner, project and responsible users of the tasks are loaded with the page.
+     *
+     * @param text The text to search for in the title and description.
+     * @param statusEnum The Status to filter by (optional: {null} to ignore).
+     * @param dueDate The maximum due date to filter by (optional: {null} to ignore).
+     * @param projectId The ID of the Project to filter by (optional: {null} to ignore).
+     * @param userId The ID of the User (owner or responsible) to filter by.
+     * @param pageable Pagination information (page number and page size).
+     * @param countMode How to obtain the total: EXACT counts, CACHED reuses a recent count, NONE skips it.
+     * @return A Page of tasks matching the text and the specified filters, ranked by relevance, or a Slice when the count is skipped.
+     */
+    default Slice<Task> searchTasksByUser(String text, Status statusEnum, LocalDateTime dueDate, Long projectId, Long userId, Pageable pageable, CountMode countMode) {
+        return findSliceGraph(searchTaskIds(text, statusEnum, dueDate, projectId, userId, pageable, countMode,
+            CountCache.key("searchTasksByUser", text, statusEnum, dueDate, projectId, userId)));
+    }
+
+    /**
+     * Finds a page of the tasks whose title or description match the given text, the most relevant first.
+     * This version does not filter by user responsibility.
+     * The owner, project and responsible users of the tasks are loaded with the page.
+     *
+     * @param text The text to search for in the title and description.
+     * @param statusEnum The Status to filter by (optional: {null} to ignore).
+     * @param dueDate The maximum due date to filter by (optional: {null} to ignore).
+     * @param projectId The ID of the Project to filter by (optional: {null} to ignore).
+     * @param pageable Pagination information (page number and page size).
+     * @param countMode How to obtain the total: EXACT counts, CACHED reuses a recent count, NONE skips it.
+     * @return A Page of tasks matching the text and the specified filters, ranked by relevance, or a Slice when the count is skipped.
+     */
+    default Slice<Task> searchTasks(String text, Status statusEnum, LocalDateTime dueDate, Long projectId, Pageable pageable, CountMode countMode) {
+        return findSliceGraph(searchTaskIds(text, statusEnum, dueDate, projectId, null, pageable, countMode,
+            CountCache.key("searchTasks", text, statusEnum, dueDate, projectId)));
+    }
+
+    /**
+     * Finds the tasks matching the optional filters that come after the given (dueDate, id) position,
+     * ordered by due date and ID, restricted to tasks where the given user is the owner or a responsible user.
+     * No count query is run.
+     *
+     * @param statusEnum The Status to filter by (optional: {null} to ignore).
+     * @param dueDate The maximum due date to filter by (optional: {null} to ignore).
+     * @param projectId The ID of the Project to filter by (optional: {null} to ignore).
+     * @param userId The ID of the User (owner or responsible) to filter by.
+     * @param afterDueDate The due date of the last task already returned (optional: {null} for the first page).
+     * @param afterId The ID of the last task already returned (optional: {null} for the first page).
+     * @param limit The maximum number of tasks to return.
+     * @return The list of tasks after the given position.
+     */
+    default List<Task> findTasksFilteredByUserAfter(Status statusEnum, LocalDateTime dueDate, Long projectId, Long userId, LocalDateTime afterDueDate, Long afterId, int limit) {
+        return findGraphInOrder(findTaskIds(TaskSpecifications.filtered(statusEnum, dueDate, projectId)
+            .and(TaskSpecifications.ownedByOrAssignedTo(userId))
+            .and(TaskSpecifications.after(afterDueDate, afterId)), KEYSET_SORT, limit));
+    }
+
+    /**
+     * Finds the tasks matching the optional filters that come after the given (dueDate, id) position,
+     * ordered by due date and ID. No count query is run.
+     *
+     * @param statusEnum The Status to filter by (optional: {null} to ignore).
+     * @param dueDate The maximum due date to filter by (optional: {null} to ignore).
+     * @param projectId The ID of the Project to filter by (optional: {null} to ignore).
+     * @param afterDueDate The due date of the last task already returned (optional: {null} for the first page).
+     * @param afterId The ID of the last task already returned (optional: {null} for the first page).
+     * @param limit The maximum number of tasks to return.
+     * @return The list of tasks after the given position.
+     */
+    default List<Task> findTasksFilteredAfter(Status statusEnum, LocalDateTime dueDate, Long projectId, LocalDateTime afterDueDate, Long afterId, int limit) {
+        return findGraphInOrder(findTaskIds(TaskSpecifications.filtered(statusEnum, dueDate, projectId)
+            .and(TaskSpecifications.after(afterDueDate, afterId)), KEYSET_SORT, limit));
+    }
+
+    /**
+     * Streams the export rows of the tasks matching the optional filters, restricted to the tasks
+     * where the given user is the owner or among the responsible users.
+     * Must be consumed inside a transaction and closed afterwards.
+     *
+     * @param statusEnum The Status to filter by (optional: {null} to ignore).
+     * @param dueDate The maximum due date to filter by (optional: { null} to ignore).
+     * @param projectId The ID of the Project to filter by (optional: {null} to ignore).
+     * @param userId The ID of the User (owner or responsible) to filter by.
+     * @return A Stream of TaskExportRow ordered by task ID.
+     */
+    default Stream<TaskExportRow> streamTasksFilteredByUser(Status statusEnum, LocalDateTime dueDate, Long projectId, Long userId) {
+        return streamExportRows(TaskSpecifications.filtered(statusEnum, dueDate, projectId)
+            .and(TaskSpecifications.ownedByOrAssignedTo(userId)), EXPORT_FETCH_SIZE);
+    }
+
+    /**
+     * Streams the export rows of all the tasks matching the optional filters.
+     * Must be consumed inside a transaction and closed afterwards.
+     *
+     * @param statusEnum The Status to filter by (optional: {null} to ignore).
+     * @param dueDate The maximum due date to filter by (optional: { null} to ignore).
+     * @param projectId The ID of the Project to filter by (optional: {null} to ignore).
+     * @return A Stream of TaskExportRow ordered by task ID.
+     */
+    default Stream<TaskExportRow> streamTasksFiltered(Status statusEnum, LocalDateTime dueDate, Long projectId) {
+        return streamExportRows(TaskSpecifications.filtered(statusEnum, dueDate, projectId), EXPORT_FETCH_SIZE);
+    }
+
+    /**
+     * Finds a page of IDs of the tasks within a specific project where a given user
+     * is listed in the task's responsibilities.
+     *
+     * @param projectId The ID of the Project to search tasks within.
+     * @param userId The ID of the User responsible for the task.
+     * @param pageable Pagination information (page number, page size, sorting).
+     * @return A Page of task IDs.
+     */
+    @Query(value = "SELECT t.id FROM Task t JOIN t.usersResponsability u WHERE t.project.id = :projectId AND u.id = :userId",
+        countQuery = "SELECT COUNT(t) FROM Task t JOIN t.usersResponsability u WHERE t.project.id = :projectId AND u.id = :userId")
+    Page<Long> findIdsByProjectIdAndUsersResponsabilityId(Long projectId, Long userId, Pageable pageable);
+
+    /**
+     * Among the given IDs, finds the ones of the tasks that belong to the project.
+     *
+     * @param ids The IDs of the tasks to check.
+     * @param projectId The ID of the Project the tasks must belong to.
+     * @return The IDs of the tasks that exist in the project, in no particular order.
+     */
+    @Query("SELECT t.id FROM Task t WHERE t.id IN :ids AND t.project.id = :projectId")
+    List<Long> findIdsByIdInAndProjectId(Collection<Long> ids, Long projectId);
+
+    /**
+     * Among the given IDs, finds the ones of the tasks of the project that the user may modify:
+     * the tasks owned by the user or in which the user is among the responsible users.
+     * The responsible users are checked with a correlated EXISTS, without loading them.
+     *
+     * @param ids The IDs of the tasks to check.
+     * @param projectId The ID of the Project the tasks must belong to.
+     * @param userId The ID of the User (owner or responsible).
+     * @return The IDs of the tasks the user may modify, in no particular order.
+     */
     @Query("""
-        SELECT DISTINCT t FROM Task t
-        WHERE COALESCE(:statusEnum, t.status) = t.status
-        AND t.dueDate <= COALESCE(:dueDate, t.dueDate)
-        AND COALESCE(:projectId, t.project.id) = t.project.id
+        SELECT t.id FROM Task t
+        WHERE t.id IN :ids AND t.project.id = :projectId
+            AND (t.owner.userId = :userId OR EXISTS (SELECT u FROM t.usersResponsability u WHERE u.userId = :userId))
     """)
-    Page<Task> findTasksFiltered(Status statusEnum, LocalDateTime dueDate, Long projectId, Pageable pageable);  
-}
+    List<Long> findIdsByIdInAndProjectIdAccessibleBy(Collection<Long> ids, Long projectId, Long userId);
+
+    /**
+     * Reads the current status of the given tasks, locking their rows until the end of the transaction
+     * so that the status counters are moved from the statuses that are actually being replaced.
+     *
+     * The rows are locked in ID order, so that two overlapping bulk moves wait for each other instead of deadlocking.
+     *
+     * @param ids The IDs of the tasks to lock.
+     * @return The Status of each task, in ID order.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t.status FROM Task t WHERE t.id IN :ids ORDER BY t.id")
+    List<Status> lockStatusesByIdIn(Collection<Long> ids);
+
+    /**
+     * Counts the tasks of every project by status, used to rebuild the status counters from scratch.
+     *
+     * @return One ProjectStatusCount per project and status that has tasks (without the row count).
+     */
+    @Query("""
+        SELECT t.project.id AS projectId, t.status AS status, COUNT(t) AS total
+        FROM Task t
+        WHERE t.status IS NOT NULL
+        GROUP BY t.project.id, t.status
+    """)
+    List<ProjectStatusCount> countByProjectAndStatus();
+
+    /**
+     * Changes the status of all the given tasks in a single UPDATE statement, incrementing their versions
+     * so that concurrent single-task updates and the ETags held by clients are invalidated.
+     * The persistence context is cleared afterwards, so no stale task is read in the same request.
+     *
+     * @param ids The IDs of the tasks to update.
+     * @param status The new Status of the tasks.
+     * @return The number of updated tasks.
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.status = :status, t.version = t.version + 1 WHERE t.id IN :ids")
+    int updateStatusByIdIn(Collection<Long> ids, Status status);
+
+    /**
+     * Loads the tasks with the given IDs together with their owner, project and responsible users
+     * in a single query. The EAGER roles of the loaded users are fetched in batches
+     * (see hibernate.default_batch_fetch_size), keeping the number of statements per page constant.
+     *
+     * @param ids The IDs of the tasks to load.
+     * @return The tasks with the given IDs, in no particular order.
+     */
+    @EntityGraph(attributePaths = {"owner", "project", "usersResponsability"})
+    @Query("SELECT t FROM Task t WHERE t.id IN :ids")
+    List<Task> findGraphByIdIn(Collection<Long> ids);
+
+    /**
+     * Turns a page of task IDs into a page of fully loaded tasks, preserving the order of the IDs.
+     *
+     * @param idsPage The page of task IDs, already sorted and counted.
+     * @return A Page of tasks with the same pagination metadata as the page of IDs.
+     */
+    default Page<Task> findPageGraph(Page<Long> idsPage) {
+        List<Task> tasks = findGraphInOrder(idsPage.getContent());
+        return new PageImpl<>(tasks, idsPage.getPageable(), idsPage.getTotalElements());
+    }
 
+    /**
+     * Turns a slice of task IDs into a slice of fully loaded tasks, preserving the order of the IDs.
+     * A page of IDs stays a page, with its total.
+     *
+     * @param idsSlice The slice of task IDs, already sorted.
+     * @return A Slice of tasks with the same pagination metadata as the slice of IDs.
+     */
+    default Slice<Task> findSliceGraph(Slice<Long> idsSlice) {
+        if (idsSlice instanceof Page<Long> idsPage) {
+            return findPageGraph(idsPage);
+        }
+        List<Task> tasks = findGraphInOrder(idsSlice.getContent());
+        return new SliceImpl<>(tasks, idsSlice.getPageable(), idsSlice.hasNext());
+    }
 
+    /**
+     * Lists the users rendered in the representation of a task (its owner and its responsible users),
+     * so the ETag of the task also changes when one of them is renamed or has its roles changed.
+     *
+     * @param taskId The ID of the task.
+     * @return One row per user and role, ordered by user ID and role.
+     */
+    @Query("""
+        SELECT u.userId AS userId, u.userName AS userName, u.email AS email, r.roleName AS roleName
+        FROM User u LEFT JOIN u.roles r
+        WHERE u.userId IN (SELECT t.owner.userId FROM Task t WHERE t.id = :taskId)
+            OR u.userId IN (SELECT ru.userId FROM Task t JOIN t.usersResponsability ru WHERE t.id = :taskId)
+        ORDER BY u.userId, r.roleName
+    """)
+    List<UserSnapshot> findRenderedUsers(Long taskId);
+
+    /**
+     * Loads the tasks with the given IDs with their owner, project and responsible users, preserving the order of the IDs.
+     *
+     * @param ids The IDs of the tasks to load, already sorted.
+     * @return The loaded tasks, in the order of the IDs.
+     */
+    default List<Task> findGraphInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Task> tasksById = findGraphByIdIn(ids).stream()
+            .collect(Collectors.toMap(Task::getId, Function.identity()));
+        return ids.stream()
+            .map(tasksById::get)
+            .filter(Objects::nonNull) // tarefas removidas entre as duas consultas
+            .toList();
+    }
+}
@@ -0,0 +1,87 @@
+package com.teamtacles.teamtacles_api.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.teamtacles.teamtacles_api.model.Task;
+import com.teamtacles.teamtacles_api.model.enums.CountMode;
+import com.teamtacles.teamtacles_api.model.enums.Status;
+import com.teamtacles.teamtacles_api.repository.projection.TaskExportRow;
+
+/**
+ * Custom fragment of {@link TaskRepository} for the queries built dynamically with the Criteria API.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public interface TaskRepositoryCustom {
+
+    /**
+     * Finds a page of IDs of the tasks matching the given specification.
+     *
+     * @param specification The filters to apply (may be {@code null} to match every task).
+     * @param pageable Pagination information (page number, page size, sorting).
+     * @return A Page of task IDs.
+     */
+    Page<Long> findTaskIds(Specification<Task> specification, Pageable pageable);
+
+    /**
+     * Finds a page of IDs of the tasks matching the given specification, obtaining the total as the count mode says.
+     *
+     * @param specification The filters to apply (may be {@code null} to match every task).
+     * @param pageable Pagination information (page number, page size, sorting).
+     * @param countMode How to obtain the total: EXACT counts, CACHED reuses a recent count, NONE skips it.
+     * @param countKey The key of the count in the {@link CountCache}, identifying the filters.
+     * @return A Page of task IDs, or a Slice telling only whether there is a next page when the count is skipped.
+     */
+    Slice<Long> findTaskIds(Specification<Task> specification, Pageable pageable, CountMode countMode, CountCache.Key countKey);
+
+    /**
+     * Finds at most {@code limit} IDs of the tasks matching the given specification, without counting them.
+     * Used by the keyset (cursor) pagination, where the specification carries the seek predicate.
+     *
+     * @param specification The filters to apply (may be {@code null} to match every task).
+     * @param sort The order of the IDs.
+     * @param limit The maximum number of IDs to return.
+     * @return The list of task IDs.
+     */
+    List<Long> findTaskIds(Specification<Task> specification, Sort sort, int limit);
+
+    /**
+     * Finds a page of IDs of the tasks whose title or description match the given text, ranked by relevance.
+     * On PostgreSQL the text is a web search query (words, "quoted phrases", -excluded words) matched against
+     * the indexed task.search_vector; elsewhere it falls back to a case-insensitive LIKE, ordered by ID.
+     * The sort of the pageable is ignored, since the hits are ordered by relevance.
+     *
+     * @param text The text to search for.
+     * @param statusEnum The Status to filter by (optional: {null} to ignore).
+     * @param dueDate The maximum due date to filter by (optional: {null} to ignore).
+     * @param projectId The ID of the Project to filter by (optional: {null} to ignore).
+     * @param userId The ID of the User (owner or responsible) to restrict the hits to (optional: {null} to search every task).
+     * @param pageable Pagination information (page number and page size).
+     * @param countMode How to obtain the total: EXACT counts, CACHED reuses a recent count, NONE skips it.
+     * @param countKey The key of the count in the {@link CountCache}, identifying the text and the filters.
+     * @return A Page of task IDs, the most relevant first, or a Slice when the count is skipped.
+     */
+    Slice<Long> searchTaskIds(String text, Status statusEnum, LocalDateTime dueDate, Long projectId, Long userId, Pageable pageable,
+        CountMode countMode, CountCache.Key countKey);
+
+    /**
+     * Streams the export rows of the tasks matching the given specification, ordered by ID.
+     * The rows are read through a forward-only cursor that fetches {@code fetchSize} rows at a time,
+     * so it must be consumed inside a transaction and closed afterwards.
+     *
+     * @param specification The filters to apply (may be {@code null} to match every task).
+     * @param fetchSize The number of rows fetched from the database per round trip.
+     * @return A Stream of TaskExportRow.
+     */
+    Stream<TaskExportRow> streamExportRows(Specification<Task> specification, int fetchSize);
+}
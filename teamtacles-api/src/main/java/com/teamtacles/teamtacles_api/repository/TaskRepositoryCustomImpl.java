@@ -0,0 +1,223 @@
+package com.teamtacles.teamtacles_api.repository;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.jpa.HibernateHints;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import com.teamtacles.teamtacles_api.model.Task;
+import com.teamtacles.teamtacles_api.model.enums.CountMode;
+import com.teamtacles.teamtacles_api.model.enums.Status;
+import com.teamtacles.teamtacles_api.repository.projection.TaskExportRow;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Criteria API implementation of {@link TaskRepositoryCustom}.
+ * Selects only the task IDs, sorted as requested, and runs the count query
+ * only when the size of the page does not already tell the total.
+ * The keyset variant never counts, and the export streams flat rows through a forward-only cursor.
+ * The full-text search is native SQL on PostgreSQL, so that the GIN index on task.search_vector is used.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+
+    // websearch_to_tsquery aceita qualquer texto digitado pelo usuário sem erro de sintaxe
+    private static final String TS_QUERY = "websearch_to_tsquery('simple', :text)";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final CountCache countCache;
+
+    // calculado uma vez, na primeira busca; volatile porque o repositório é compartilhado entre as requisições
+    private volatile Boolean fullTextSupported;
+
+    public TaskRepositoryCustomImpl(CountCache countCache) {
+        this.countCache = countCache;
+    }
+
+    @Override
+    public Page<Long> findTaskIds(Specification<Task> specification, Pageable pageable) {
+        List<Long> ids = selectIds(specification, pageable, CountMode.EXACT);
+        return PageableExecutionUtils.getPage(ids, pageable, () -> count(specification));
+    }
+
+    @Override
+    public Slice<Long> findTaskIds(Specification<Task> specification, Pageable pageable, CountMode countMode, CountCache.Key countKey) {
+        List<Long> ids = selectIds(specification, pageable, countMode);
+        return countCache.toSlice(ids, pageable, countMode, countKey, () -> count(specification));
+    }
+
+    @Override
+    public List<Long> findTaskIds(Specification<Task> specification, Sort sort, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<Long> idsQuery = cb.createQuery(Long.class);
+        Root<Task> root = idsQuery.from(Task.class);
+        idsQuery.select(root.get("id"));
+        applyFilters(specification, root, idsQuery, cb);
+        idsQuery.orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        return entityManager.createQuery(idsQuery)
+            .setMaxResults(limit)
+            .getResultList();
+    }
+
+    @Override
+    public Slice<Long> searchTaskIds(String text, Status statusEnum, LocalDateTime dueDate, Long projectId, Long userId, Pageable pageable,
+        CountMode countMode, CountCache.Key countKey) {
+        if (!isFullTextSupported()) {
+            Specification<Task> specification = TaskSpecifications.filtered(statusEnum, dueDate, projectId)
+                .and(TaskSpecifications.containsText(text));
+            if (userId != null) {
+                specification = specification.and(TaskSpecifications.ownedByOrAssignedTo(userId));
+            }
+            Pageable byId = pageable.isPaged()
+                ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by("id"))
+                : Pageable.unpaged(Sort.by("id"));
+            return findTaskIds(specification, byId, countMode, countKey);
+        }
+
+        Map<String, Object> parameters = new HashMap<>();
+        String where = searchConditions(text, statusEnum, dueDate, projectId, userId, parameters);
+
+        Query idsQuery = entityManager.createNativeQuery(
+            "SELECT t.id FROM task t WHERE " + where + " ORDER BY ts_rank(t.search_vector, " + TS_QUERY + ") DESC, t.id", Long.class);
+        parameters.forEach(idsQuery::setParameter);
+        if (pageable.isPaged()) {
+            idsQuery.setFirstResult((int) pageable.getOffset());
+            idsQuery.setMaxResults(CountCache.sliceSize(pageable, countMode));
+        }
+        @SuppressWarnings("unchecked")
+        List<Long> ids = idsQuery.getResultList();
+
+        return countCache.toSlice(ids, pageable, countMode, countKey, () -> {
+            Query countQuery = entityManager.createNativeQuery("SELECT COUNT(*) FROM task t WHERE " + where, Long.class);
+            parameters.forEach(countQuery::setParameter);
+            return (Long) countQuery.getSingleResult();
+        });
+    }
+
+    @Override
+    public Stream<TaskExportRow> streamExportRows(Specification<Task> specification, int fetchSize) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<TaskExportRow> rowsQuery = cb.createQuery(TaskExportRow.class);
+        Root<Task> root = rowsQuery.from(Task.class);
+        rowsQuery.select(cb.construct(TaskExportRow.class,
+            root.get("id"),
+            root.get("title"),
+            root.get("description"),
+            root.get("dueDate"),
+            root.get("status"),
+            root.get("project").get("id"),
+            root.get("owner").get("userName")));
+        applyFilters(specification, root, rowsQuery, cb);
+        rowsQuery.orderBy(cb.asc(root.get("id")));
+
+        return entityManager.createQuery(rowsQuery)
+            .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+            .setHint(HibernateHints.HINT_READ_ONLY, true)
+            .getResultStream();
+    }
+
+    // sem contagem, lê uma linha além da página: ela indica se existe uma próxima página
+    private List<Long> selectIds(Specification<Task> specification, Pageable pageable, CountMode countMode) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<Long> idsQuery = cb.createQuery(Long.class);
+        Root<Task> root = idsQuery.from(Task.class);
+        idsQuery.select(root.get("id"));
+        applyFilters(specification, root, idsQuery, cb);
+        if (pageable.getSort().isSorted()) {
+            idsQuery.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        }
+
+        TypedQuery<Long> query = entityManager.createQuery(idsQuery);
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(CountCache.sliceSize(pageable, countMode));
+        }
+        return query.getResultList();
+    }
+
+    private long count(Specification<Task> specification) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<Long> countQuery = cb.createQuery(Long.class);
+        Root<Task> root = countQuery.from(Task.class);
+        countQuery.select(cb.count(root));
+        applyFilters(specification, root, countQuery, cb);
+
+        return entityManager.createQuery(countQuery).getSingleResult();
+    }
+
+    // mesmos filtros e regra de visibilidade das buscas filtradas, incluindo só os informados
+    private static String searchConditions(String text, Status statusEnum, LocalDateTime dueDate, Long projectId, Long userId, Map<String, Object> parameters) {
+        StringBuilder where = new StringBuilder("t.search_vector @@ " + TS_QUERY);
+        parameters.put("text", text);
+        if (statusEnum != null) {
+            where.append(" AND t.status = :status");
+            parameters.put("status", statusEnum.name());
+        }
+        if (dueDate != null) {
+            where.append(" AND t.due_date <= :dueDate");
+            parameters.put("dueDate", dueDate);
+        }
+        if (projectId != null) {
+            where.append(" AND t.project_id = :projectId");
+            parameters.put("projectId", projectId);
+        }
+        if (userId != null) {
+            where.append(" AND (t.user_id = :userId OR EXISTS (SELECT 1 FROM users_responsability r WHERE r.task_id = t.id AND r.user_id = :userId))");
+            parameters.put("userId", userId);
+        }
+        return where.toString();
+    }
+
+    // a coluna search_vector só existe no PostgreSQL (db/vendor/postgresql); os demais bancos usam LIKE
+    private boolean isFullTextSupported() {
+        Boolean supported = fullTextSupported;
+        if (supported == null) {
+            supported = entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect() instanceof PostgreSQLDialect;
+            fullTextSupported = supported;
+        }
+        return supported;
+    }
+
+    private static void applyFilters(Specification<Task> specification, Root<Task> root, CriteriaQuery<?> query, CriteriaBuilder cb) {
+        if (specification == null) {
+            return;
+        }
+        Predicate predicate = specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.teamtacles.teamtacles_api.repository;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.teamtacles.teamtacles_api.model.Task;
+import com.teamtacles.teamtacles_api.model.User;
+import com.teamtacles.teamtacles_api.model.enums.Status;
+
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+
+/**
+ * Factory of {@link Specification}s used to build the filtered task searches.
+ * Every optional filter returns {@code null} when its value was not supplied, so
+ * the combined query only carries the predicates that were actually requested and
+ * the database can use the indexes on task(project_id, status, due_date).
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class TaskSpecifications {
+
+    private TaskSpecifications() {
+    }
+
+    public static Specification<Task> hasStatus(Status status) {
+        if (status == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Task> dueUntil(LocalDateTime dueDate) {
+        if (dueDate == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("dueDate"), dueDate);
+    }
+
+    public static Specification<Task> inProject(Long projectId) {
+        if (projectId == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("project").get("id"), projectId);
+    }
+
+    /**
+     * Matches the tasks owned by the user or in which the user is among the responsible users.
+     * Responsibility is checked with a correlated EXISTS, so no join or DISTINCT leaks into the page query.
+     */
+    public static Specification<Task> ownedByOrAssignedTo(Long userId) {
+        return (root, query, cb) -> {
+            Subquery<Long> responsible = query.subquery(Long.class);
+            Root<Task> correlated = responsible.correlate(root);
+            Join<Task, User> user = correlated.join("usersResponsability");
+            responsible.select(user.get("userId")).where(cb.equal(user.get("userId"), userId));
+
+            return cb.or(cb.equal(root.get("owner").get("userId"), userId), cb.exists(responsible));
+        };
+    }
+
+    /**
+     * Matches the tasks whose title or description contains the given text, ignoring case.
+     * Fallback of the full-text search for databases without tsvector: it cannot use an index.
+     */
+    public static Specification<Task> containsText(String text) {
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+        String pattern = "%" + escapeLike(text.trim().toLowerCase()) + "%";
+        return (root, query, cb) -> cb.or(
+            cb.like(cb.lower(root.get("title")), pattern, '\\'),
+            cb.like(cb.lower(root.get("description")), pattern, '\\'));
+    }
+
+    /**
+     * Seek predicate of the keyset pagination ordered by (dueDate, id): matches the tasks
+     * that come after the given position, or every task when no position was supplied.
+     */
+    public static Specification<Task> after(LocalDateTime dueDate, Long id) {
+        if (dueDate == null || id == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.or(
+            cb.greaterThan(root.get("dueDate"), dueDate),
+            cb.and(cb.equal(root.get("dueDate"), dueDate), cb.greaterThan(root.get("id"), id)));
+    }
+
+    // curingas digitados pelo usuário são buscados literalmente
+    private static String escapeLike(String text) {
+        return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    public static Specification<Task> filtered(Status status, LocalDateTime dueDate, Long projectId) {
+        return Specification.where(hasStatus(status))
+            .and(dueUntil(dueDate))
+            .and(inProject(projectId));
+    }
+}
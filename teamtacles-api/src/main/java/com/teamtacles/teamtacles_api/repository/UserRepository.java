@@ -4,7 +4,10 @@ import com.teamtacles.teamtacles_api.model.User;
 
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -19,7 +22,12 @@ import org.springframework.stereotype.Repository;
  */
 @Repository
 public interface UserRepository extends JpaRepository<User, Long>{
+    // lower() em vez do upper() gerado para IgnoreCase: usa o índice idx_users_lower_user_name do PostgreSQL
+    @Query("SELECT u FROM User u WHERE lower(u.userName) = lower(:userName)")
     Optional<User> findByUserNameIgnoreCase(String userName);
     boolean existsByUserName(String userName);
     boolean existsByEmail(String email);
+
+    // lê uma linha além da página para saber se existe a próxima, sem consulta de contagem
+    Slice<User> findAllBy(Pageable pageable);
 }
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.teamtacles.teamtacles_api.repository.projection;
+
+import com.teamtacles.teamtacles_api.model.enums.Status;
+
+/**
+ * Interface-based projection of the number of tasks of a project with a given status,
+ * and of the number of delta rows it was summed from.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public interface ProjectStatusCount {
+    Long getProjectId();
+    Status getStatus();
+    Long getTotal();
+    Long getRowCount();
+}
@@ -0,0 +1,18 @@
+package com.teamtacles.teamtacles_api.repository.projection;
+
+/**
+ * Interface-based projection of a project for the lightweight listing.
+ * Holds only the columns of the project and the aggregate counts of its team and tasks,
+ * so no entity (nor its associations) is loaded to build it.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public interface ProjectSummary {
+    Long getId();
+    String getTitle();
+    String getDescription();
+    Long getMemberCount();
+    Long getTaskCount();
+}
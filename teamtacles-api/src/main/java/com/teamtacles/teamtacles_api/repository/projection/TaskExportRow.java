@@ -0,0 +1,29 @@
+package com.teamtacles.teamtacles_api.repository.projection;
+
+import java.time.LocalDateTime;
+
+import com.teamtacles.teamtacles_api.model.enums.Status;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Flat row of a task in the streaming export. It is built by the query itself (constructor expression),
+ * so the rows are never managed by the persistence context and the memory used by an export
+ * does not grow with the number of tasks.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Data
+@AllArgsConstructor
+public class TaskExportRow {
+    private Long id;
+    private String title;
+    private String description;
+    private LocalDateTime dueDate;
+    private Status status;
+    private Long projectId;
+    private String owner;
+}
@@ -0,0 +1,14 @@
+package com.teamtacles.teamtacles_api.repository.projection;
+
+/**
+ * Interface-based projection of the identity and version of a task: any change to the task,
+ * including its owner and the users responsible for it, increments the version.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public interface TaskVersion {
+    Long getId();
+    Long getVersion();
+}
@@ -0,0 +1,19 @@
+package com.teamtacles.teamtacles_api.repository.projection;
+
+import com.teamtacles.teamtacles_api.model.enums.ERole;
+
+/**
+ * Interface-based projection of the columns of a user that are rendered in the responses,
+ * one row per role of the user. Users have no version column, so their current values are
+ * read instead.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public interface UserSnapshot {
+    Long getUserId();
+    String getUserName();
+    String getEmail();
+    ERole getRoleName();
+}
@@ -0,0 +1,117 @@
+package com.teamtacles.teamtacles_api.security;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.teamtacles.teamtacles_api.changebus.ChangeNotification;
+import com.teamtacles.teamtacles_api.model.User;
+import com.teamtacles.teamtacles_api.monitoring.CacheMetrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Bounded, TTL-evicting cache of the users resolved from the {@code userId} JWT claim.
+ * It spares the database the user and roles lookup that every authenticated request
+ * would otherwise perform in CustomJwtAuthenticationConverter.
+ *
+ * Cached values are detached snapshots holding only the identity, e-mail and roles of
+ * the user, so they can be shared safely between concurrent requests.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Component
+public class AuthenticatedUserCache implements MeterBinder {
+
+    public static final String NAME = "authenticatedUsers";
+
+    private final Cache<Long, User> cache;
+    private final LongAdder invalidations = new LongAdder();
+
+    public AuthenticatedUserCache(@Value("${teamtacles.security.user-cache.maximum-size:10000}") long maximumSize,
+        @Value("${teamtacles.security.user-cache.ttl:5m}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * Returns the cached user for the given ID, loading and caching a snapshot of it on a miss.
+     *
+     * @param userId The ID carried by the {@code userId} JWT claim.
+     * @param loader Function that loads the user from the database on a cache miss.
+     * @return The cached snapshot of the user.
+     */
+    public User get(Long userId, Function<Long, User> loader) {
+        return cache.get(userId, id -> snapshot(loader.apply(id)));
+    }
+
+    /**
+     * Drops the cached entry of a user, forcing the next request to reload it.
+     * Must be called whenever the roles of the user change.
+     *
+     * @param userId The ID of the user to evict.
+     */
+    public void evict(Long userId) {
+        cache.invalidate(userId);
+        invalidations.increment();
+    }
+
+    /**
+     * Applies a change received from the change bus: a role change evicts the user, and a reset
+     * drops every entry, since role changes may have been missed.
+     *
+     * @param notification The change notification.
+     */
+    @EventListener
+    public void onChange(ChangeNotification notification) {
+        switch (notification.getType()) {
+            case USER_ROLES -> evict(notification.getId());
+            case RESET -> {
+                cache.invalidateAll();
+                invalidations.increment();
+            }
+            default -> { }
+        }
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long invalidationCount() {
+        return invalidations.sum();
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CacheMetrics.monitor(registry, cache, NAME);
+    }
+
+    // copia apenas os dados necessários para autenticação, sem coleções lazy nem senha
+    private static User snapshot(User user) {
+        User copy = new User();
+        copy.setUserId(user.getUserId());
+        copy.setUserName(user.getUserName());
+        copy.setEmail(user.getEmail());
+        copy.setRoles(new HashSet<>(user.getRoles()));
+        return copy;
+    }
+}
@@ -0,0 +1,107 @@
+package com.teamtacles.teamtacles_api.security;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import com.teamtacles.teamtacles_api.monitoring.CacheMetrics;
+import com.teamtacles.teamtacles_api.util.Digests;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * {@link JwtDecoder} that keeps the tokens already verified by the delegate decoder, so that a
+ * token reused across many requests has its RS256 signature verified only once.
+ *
+ * Entries are keyed by the SHA-256 hash of the token, never by the token itself, and expire
+ * together with the token ({@code exp} claim). Only successfully decoded tokens are cached: an
+ * invalid token is verified, and rejected, on every request. Revocation is not affected, since
+ * {@link CustomJwtAuthenticationConverter} checks the revocation list after the decoder.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class CachingJwtDecoder implements JwtDecoder, MeterBinder {
+
+    public static final String NAME = "verifiedJwts";
+
+    private final JwtDecoder delegate;
+    private final Cache<String, Jwt> cache;
+
+    public CachingJwtDecoder(JwtDecoder delegate, long maximumSize, Duration maximumTtl) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfter(new Expiry<String, Jwt>() {
+                @Override
+                public long expireAfterCreate(String key, Jwt jwt, long currentTime) {
+                    return timeToLive(jwt, maximumTtl).toNanos();
+                }
+
+                @Override
+                public long expireAfterUpdate(String key, Jwt jwt, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+
+                @Override
+                public long expireAfterRead(String key, Jwt jwt, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * Returns the cached token when it was already verified, or decodes and verifies it with the
+     * delegate decoder and caches it.
+     *
+     * @param token The encoded JWT.
+     * @return The decoded and verified JWT.
+     * @throws JwtException if the delegate decoder rejects the token.
+     */
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        if (token == null) {
+            return delegate.decode(token);
+        }
+        // exceções do delegate não são cacheadas: o token inválido é verificado de novo
+        return cache.get(Digests.sha256Hex(token), key -> delegate.decode(token));
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CacheMetrics.monitor(registry, cache, NAME);
+    }
+
+    // até o exp do token, limitado pelo TTL máximo (tokens sem exp também expiram)
+    private static Duration timeToLive(Jwt jwt, Duration maximumTtl) {
+        Instant expiresAt = jwt.getExpiresAt();
+        if (expiresAt == null) {
+            return maximumTtl;
+        }
+        Duration remaining = Duration.between(Instant.now(), expiresAt);
+        if (remaining.isNegative()) {
+            return Duration.ZERO;
+        }
+        return remaining.compareTo(maximumTtl) < 0 ? remaining : maximumTtl;
+    }
+}
@@ -9,6 +9,7 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.InvalidBearerTokenException;
 
 import com.teamtacles.teamtacles_api.repository.UserRepository;
 import com.teamtacles.teamtacles_api.model.User;
@@ -21,8 +22,18 @@ public class CustomJwtAuthenticationConverter implements Converter<Jwt, Abstract
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private AuthenticatedUserCache authenticatedUserCache;
+
+    @Autowired
+    private TokenRevocationList tokenRevocationList;
+
     @Override
     public AbstractAuthenticationToken convert(Jwt jwt){
+        // verificado em memória, sem consultar o banco a cada requisição
+        if (tokenRevocationList.isRevoked(jwt.getId())) {
+            throw new InvalidBearerTokenException("The token has been revoked.");
+        }
         UserAuthenticated userAuthenticated = extractUser(jwt);
         List<GrantedAuthority> authorities = List.copyOf(userAuthenticated.getAuthorities());
 
@@ -31,8 +42,8 @@ public class CustomJwtAuthenticationConverter implements Converter<Jwt, Abstract
 
     private UserAuthenticated extractUser(Jwt jwt) {
         Long userId = jwt.getClaim("userId");
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found with id: " + userId));
+        User user = authenticatedUserCache.get(userId, id -> userRepository.findById(id)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found with id: " + id)));
         return new UserAuthenticated(user);
     }
 
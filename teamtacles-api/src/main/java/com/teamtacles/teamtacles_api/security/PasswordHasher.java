@@ -0,0 +1,135 @@
+package com.teamtacles.teamtacles_api.security;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import com.teamtacles.teamtacles_api.concurrent.BoundedExecutor;
+import com.teamtacles.teamtacles_api.exception.ServiceBusyException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Runs the BCrypt hashing and verification of passwords on a dedicated, bounded pool of threads.
+ *
+ * Each BCrypt operation costs tens of milliseconds of CPU by design. Run on the request threads,
+ * a burst of logins takes the whole Tomcat pool and slows down every other endpoint. Here at most
+ * {@code threads} operations run at a time and at most {@code queue-capacity} wait for a thread;
+ * beyond that the login is refused with 503 right away, instead of piling up.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Component
+public class PasswordHasher implements MeterBinder {
+
+    public static final String NAME = "passwordHashing";
+
+    // $2a$10$... : versão, custo (log2 das rodadas) e sal + hash
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[abxy]?\\$(\\d{2})\\$");
+
+    private final PasswordEncoder passwordEncoder;
+    private final int strength;
+    private final BoundedExecutor executor;
+    // hash de referência no custo configurado, para usuários inexistentes
+    private final String dummyHash;
+
+    public PasswordHasher(PasswordEncoder passwordEncoder,
+        @Value("${teamtacles.security.password.bcrypt-strength:10}") int strength,
+        @Value("${teamtacles.security.password.hashing-threads:0}") int threads,
+        @Value("${teamtacles.security.password.queue-capacity:64}") int queueCapacity) {
+        this.passwordEncoder = passwordEncoder;
+        this.strength = strength;
+        // 0: metade dos processadores, deixando CPU livre para as demais requisições
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        this.executor = new BoundedExecutor(NAME, poolSize, queueCapacity, "Too many concurrent logins, please try again in a moment.");
+        this.dummyHash = passwordEncoder.encode("teamtacles-dummy-password");
+    }
+
+    /**
+     * Checks a raw password against its stored hash on the hashing pool.
+     *
+     * @param rawPassword The password sent by the user.
+     * @param encodedPassword The stored BCrypt hash.
+     * @return A future completed with whether the password matches.
+     * @throws ServiceBusyException if the hashing queue is full.
+     */
+    public CompletableFuture<Boolean> matchesAsync(CharSequence rawPassword, String encodedPassword) {
+        return executor.supplyAsync(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * Checks a raw password against a fixed hash of the configured cost on the hashing pool,
+     * for a login with an unknown username: it takes as long as a wrong password, so the
+     * response time does not tell which usernames exist.
+     *
+     * @param rawPassword The password sent by the user.
+     * @return A future completed once the verification is done.
+     * @throws ServiceBusyException if the hashing queue is full.
+     */
+    public CompletableFuture<Boolean> matchesDummyAsync(CharSequence rawPassword) {
+        return matchesAsync(rawPassword, dummyHash);
+    }
+
+    /**
+     * Hashes a raw password on the hashing pool.
+     *
+     * @param rawPassword The password to hash.
+     * @return A future completed with the BCrypt hash.
+     * @throws ServiceBusyException if the hashing queue is full.
+     */
+    public CompletableFuture<String> encodeAsync(CharSequence rawPassword) {
+        return executor.supplyAsync(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * Hashes a raw password on the hashing pool, waiting for the result.
+     *
+     * @param rawPassword The password to hash.
+     * @return The BCrypt hash.
+     * @throws ServiceBusyException if the hashing queue is full.
+     */
+    public String encode(CharSequence rawPassword) {
+        return encodeAsync(rawPassword).join();
+    }
+
+    /**
+     * Tells whether a stored hash was made with a cost other than the configured one,
+     * so it should be replaced the next time the password is known (on login).
+     *
+     * @param encodedPassword The stored BCrypt hash.
+     * @return true if the cost of the hash differs from the configured cost.
+     */
+    public boolean needsRehash(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+        return matcher.find() && Integer.parseInt(matcher.group(1)) != strength;
+    }
+
+    public int queueSize() {
+        return executor.queueSize();
+    }
+
+    public long rejectedCount() {
+        return executor.rejectedCount();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        executor.bindTo(registry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
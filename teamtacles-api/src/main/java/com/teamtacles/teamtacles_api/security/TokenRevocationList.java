@@ -0,0 +1,225 @@
+package com.teamtacles.teamtacles_api.security;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.teamtacles.teamtacles_api.changebus.ChangeNotification;
+import com.teamtacles.teamtacles_api.repository.RevokedTokenRepository;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * In-memory list of the access tokens revoked before their expiration, checked on every
+ * authenticated request without a database round trip.
+ *
+ * The {@code jti} of each revoked token is kept in an exact set and in a Bloom filter. Almost
+ * every token checked was never revoked, and the filter answers those with a few bit reads;
+ * only a filter hit is confirmed against the exact set, so a false positive never rejects a valid
+ * token. The list is loaded from the revoked_token table on startup and on a reset of the change
+ * bus, and receives the revocations made on any node through the change bus. Expired tokens are
+ * pruned periodically, when the filter is rebuilt. A reload or rebuild builds the new set and filter
+ * aside and publishes both at once, so a revoked token is never accepted in between.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Component
+public class TokenRevocationList implements MeterBinder {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final Duration accessTokenTtl;
+    private final int expectedTokens;
+
+    private final LongAdder falsePositives = new LongAdder();
+    // conjunto exato e filtro trocados juntos, numa única escrita: quem lê nunca vê um sem o outro
+    private volatile Revocations revocations;
+
+    public TokenRevocationList(RevokedTokenRepository revokedTokenRepository,
+        @Value("${teamtacles.security.jwt.access-token-ttl:15m}") Duration accessTokenTtl,
+        @Value("${teamtacles.security.revocation.expected-tokens:10000}") int expectedTokens) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.accessTokenTtl = accessTokenTtl;
+        this.expectedTokens = expectedTokens;
+        this.revocations = build(Map.of());
+    }
+
+    /**
+     * Tells whether an access token was revoked.
+     *
+     * @param tokenId The {@code jti} claim of the token (tokens without it are never revoked).
+     * @return true if the token was revoked.
+     */
+    public boolean isRevoked(String tokenId) {
+        Revocations current = revocations;
+        if (tokenId == null || !current.filter.mightContain(tokenId)) {
+            return false;
+        }
+        // o filtro pode dar falso positivo: confirma no conjunto exato
+        if (current.tokens.containsKey(tokenId)) {
+            return true;
+        }
+        falsePositives.increment();
+        return false;
+    }
+
+    /**
+     * Adds revoked access tokens to the list of this node.
+     *
+     * @param tokenIds The {@code jti} of the tokens.
+     * @param expiresAt When the tokens expire, after which they no longer need to be kept.
+     */
+    public synchronized void revoke(Collection<String> tokenIds, Instant expiresAt) {
+        Revocations current = revocations;
+        for (String tokenId : tokenIds) {
+            // primeiro no conjunto exato: quem vê o bit no filtro já encontra o token
+            current.tokens.merge(tokenId, expiresAt, (previous, added) -> previous.isAfter(added) ? previous : added);
+            current.filter.put(tokenId);
+        }
+        if (current.tokens.size() > current.filter.capacity) {
+            revocations = build(current.tokens);
+        }
+    }
+
+    /**
+     * Applies a change received from the change bus: revoked tokens are added to the list,
+     * and a reset reloads it from the database, since revocations may have been missed.
+     *
+     * @param notification The change notification.
+     */
+    @EventListener
+    public void onChange(ChangeNotification notification) {
+        switch (notification.getType()) {
+            // o prazo exato não vem na notificação: o TTL do access token é o limite
+            case TOKENS_REVOKED -> revoke(notification.getTokenIds(), Instant.now().plus(accessTokenTtl));
+            case RESET -> reload();
+            default -> { }
+        }
+    }
+
+    @PostConstruct
+    public void reload() {
+        Map<String, Instant> tokens = new HashMap<>();
+        revokedTokenRepository.findByExpiresAtAfter(Instant.now())
+            .forEach(token -> tokens.put(token.getTokenId(), token.getExpiresAt()));
+        synchronized (this) {
+            revocations = build(tokens);
+        }
+    }
+
+    // um Bloom filter não remove elementos: é refeito sem os tokens já expirados
+    @Scheduled(fixedDelayString = "${teamtacles.security.revocation.prune-interval:5m}")
+    public synchronized void pruneExpired() {
+        Instant now = Instant.now();
+        Map<String, Instant> tokens = new HashMap<>(revocations.tokens);
+        tokens.values().removeIf(expiresAt -> expiresAt.isBefore(now));
+        revocations = build(tokens);
+    }
+
+    public int size() {
+        return revocations.tokens.size();
+    }
+
+    public long falsePositiveCount() {
+        return falsePositives.sum();
+    }
+
+    // publica o número de tokens revogados e os falsos positivos do filtro
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("teamtacles.security.revoked.tokens", this, TokenRevocationList::size)
+            .description("Access tokens revoked and not yet expired")
+            .register(registry);
+        FunctionCounter.builder("teamtacles.security.revocation.false.positives", falsePositives, LongAdder::sum)
+            .description("Valid tokens matched by the revocation Bloom filter and cleared by the exact set")
+            .register(registry);
+    }
+
+    // monta o conjunto e o filtro novos fora do campo; só a troca da referência os publica
+    private Revocations build(Map<String, Instant> tokens) {
+        Map<String, Instant> copy = new ConcurrentHashMap<>(tokens);
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedTokens, copy.size() * 2), FALSE_POSITIVE_RATE);
+        copy.keySet().forEach(rebuilt::put);
+        return new Revocations(copy, rebuilt);
+    }
+
+    private record Revocations(Map<String, Instant> tokens, BloomFilter filter) {
+    }
+
+    /**
+     * Fixed-size Bloom filter over strings, safe for concurrent readers.
+     * Uses the two halves of a 64-bit hash to derive the bit positions (Kirsch-Mitzenmacher).
+     */
+    static final class BloomFilter {
+        private final int capacity;
+        private final int bitCount;
+        private final int hashCount;
+        private final AtomicLongArray bits;
+
+        BloomFilter(int capacity, double falsePositiveRate) {
+            this.capacity = capacity;
+            double ln2 = Math.log(2);
+            this.bitCount = (int) Math.max(64, Math.ceil(-capacity * Math.log(falsePositiveRate) / (ln2 * ln2)));
+            this.hashCount = Math.max(1, (int) Math.round((double) bitCount / capacity * ln2));
+            this.bits = new AtomicLongArray((bitCount + 63) / 64);
+        }
+
+        void put(String value) {
+            long hash = hash64(value);
+            for (int i = 0; i < hashCount; i++) {
+                int index = index(hash, i);
+                long mask = 1L << index;
+                bits.getAndAccumulate(index >>> 6, mask, (word, bit) -> word | bit);
+            }
+        }
+
+        boolean mightContain(String value) {
+            long hash = hash64(value);
+            for (int i = 0; i < hashCount; i++) {
+                int index = index(hash, i);
+                if ((bits.get(index >>> 6) & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private int index(long hash, int i) {
+            int combined = (int) hash + i * (int) (hash >>> 32);
+            return (combined & Integer.MAX_VALUE) % bitCount;
+        }
+
+        // FNV-1a seguido da mistura final do MurmurHash3, para espalhar os bits
+        private static long hash64(String value) {
+            long hash = 0xcbf29ce484222325L;
+            for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+                hash ^= b;
+                hash *= 0x100000001b3L;
+            }
+            hash ^= hash >>> 33;
+            hash *= 0xff51afd7ed558ccdL;
+            hash ^= hash >>> 33;
+            hash *= 0xc4ceb9fe1a85ec53L;
+            hash ^= hash >>> 33;
+            return hash;
+        }
+    }
+}
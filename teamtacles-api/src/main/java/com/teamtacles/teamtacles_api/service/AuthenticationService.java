@@ -1,43 +1,131 @@
 package com.teamtacles.teamtacles_api.service;
 
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import com.teamtacles.teamtacles_api.concurrent.BoundedExecutor;
+import com.teamtacles.teamtacles_api.config.ExecutorConfig;
+import com.teamtacles.teamtacles_api.dto.authentication.TokenResponseDTO;
 import com.teamtacles.teamtacles_api.repository.UserRepository;
-import com.teamtacles.teamtacles_api.exception.ResourceNotFoundException;
+import com.teamtacles.teamtacles_api.security.PasswordHasher;
+import com.teamtacles.teamtacles_api.exception.ServiceBusyException;
 import com.teamtacles.teamtacles_api.model.User;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 
+import io.micrometer.core.annotation.Timed;
+
 /**
  * Service class responsible for handling the authentication process and
  * generating JWT tokens for authenticated users in the TeamTacles application.
  * It integrates with Spring Security's authentication mechanism to provide
  * a JWT upon successful authentication.
  *
- * @author TeamTacles 
+ * The password is verified on the bounded hashing pool of {@link PasswordHasher}, never on the
+ * request thread. The pool only hashes: the tokens are issued on a second bounded pool of their own,
+ * so a login storm waiting for database connections does not hold the hashing threads, and the
+ * long-running async work of other endpoints never delays a login. When that pool is full the
+ * login is refused with 503, like when the hashing queue is full.
+ * An unknown username is verified against a fixed hash and answered exactly like a wrong password.
+ * A stored hash made with another BCrypt cost is replaced after a successful login.
+ * A login returns a short-lived access token and a refresh token, renewed by {@link RefreshTokenService}.
+ *
+ * @author TeamTacles
  * @version 1.0
  * @since 2025-05-25
  */
 @Service
+@Timed(value = "teamtacles.service", histogram = true)
 public class AuthenticationService {
 
-    private final JwtService jwtService;
+    private static final Logger logger = LoggerFactory.getLogger(AuthenticationService.class);
+
+    private final RefreshTokenService refreshTokenService;
     private final UserRepository userRepository;
-    
-    public AuthenticationService(JwtService jwtService, UserRepository userRepository) {
-        this.jwtService = jwtService;
+    private final PasswordHasher passwordHasher;
+    private final UserService userService;
+    private final BoundedExecutor tokenIssuingExecutor;
+
+    public AuthenticationService(RefreshTokenService refreshTokenService, UserRepository userRepository, PasswordHasher passwordHasher, UserService userService,
+        @Qualifier(ExecutorConfig.TOKEN_ISSUING_EXECUTOR) BoundedExecutor tokenIssuingExecutor) {
+        this.refreshTokenService = refreshTokenService;
         this.userRepository = userRepository;
+        this.passwordHasher = passwordHasher;
+        this.userService = userService;
+        this.tokenIssuingExecutor = tokenIssuingExecutor;
     }
 
     /**
      * Authenticates a user based on the provided Spring Security Authentication object
-     * and generates a JWT token for the authenticated user.
+     * and generates a JWT token and a refresh token for the authenticated user.
      *
-     * @param authentication The Authentication object containing the authenticated user's details.
-     * @return A String representing the generated JWT token.
+     * @param authentication The Authentication object containing the user's credentials.
+     * @return A future completed with the generated tokens, or with a BadCredentialsException if the username is unknown or the password does not match.
+     * @throws ServiceBusyException if too many logins are already waiting for the password verification.
      */
-    public String authenticate(Authentication authentication){
-        String username = authentication.getName();
-        User user = userRepository.findByUserNameIgnoreCase(username)
-            .orElseThrow(() -> new ResourceNotFoundException("User not Found."));
-        return jwtService.generateToken(user);
+    public CompletableFuture<TokenResponseDTO> authenticate(Authentication authentication){
+        String rawPassword = String.valueOf(authentication.getCredentials());
+        Optional<User> found = userRepository.findByUserNameIgnoreCase(authentication.getName());
+        if (found.isEmpty()) {
+            // mesmo custo e mesma resposta de uma senha errada: não revela quais usuários existem
+            return passwordHasher.matchesDummyAsync(rawPassword)
+                .thenApply(matches -> {
+                    throw new BadCredentialsException("Invalid username or password.");
+                });
+        }
+
+        User user = found.get();
+        String encodedPassword = user.getPassword();
+        // o pool de hashing só executa o BCrypt; a emissão dos tokens (banco e assinatura RSA) roda no pool de emissão
+        return passwordHasher.matchesAsync(rawPassword, encodedPassword)
+            .thenApplyAsync(matches -> {
+                if (!matches) {
+                    throw new BadCredentialsException("Invalid username or password.");
+                }
+                if (passwordHasher.needsRehash(encodedPassword)) {
+                    rehash(user.getUserId(), rawPassword, encodedPassword);
+                }
+                return refreshTokenService.issue(user);
+            }, tokenIssuingExecutor::execute);
+    }
+
+    /**
+     * Exchanges a refresh token for a new access token and refresh token.
+     *
+     * @param refreshToken The refresh token received on authentication or on the last refresh.
+     * @return The new tokens.
+     * @throws BadCredentialsException if the refresh token is invalid, expired, revoked or was already used.
+     */
+    public TokenResponseDTO refresh(String refreshToken) {
+        return refreshTokenService.refresh(refreshToken);
+    }
+
+    /**
+     * Ends the session of a refresh token, revoking it and the access tokens issued with it.
+     *
+     * @param refreshToken The refresh token of the session.
+     */
+    public void logout(String refreshToken) {
+        refreshTokenService.revoke(refreshToken);
+    }
+
+    // o custo do BCrypt mudou: refaz o hash com a senha recebida, sem atrasar a resposta do login
+    private void rehash(Long userId, String rawPassword, String encodedPassword) {
+        try {
+            passwordHasher.encodeAsync(rawPassword)
+                .thenAcceptAsync(newHash -> userService.updatePasswordHash(userId, encodedPassword, newHash), tokenIssuingExecutor::execute)
+                .exceptionally(ex -> {
+                    logger.warn("Could not rehash the password of user {}: {}", userId, ex.getMessage());
+                    return null;
+                });
+        } catch (ServiceBusyException ex) {
+            // fila cheia: o hash é refeito em um próximo login
+            logger.debug("Skipping the rehash of the password of user {}: hashing queue full.", userId);
+        }
     }
 }
@@ -0,0 +1,103 @@
+package com.teamtacles.teamtacles_api.service;
+
+import java.util.List;
+
+import javax.cache.CacheManager;
+
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.teamtacles.teamtacles_api.config.SecondLevelCacheConfig;
+import com.teamtacles.teamtacles_api.config.SecondLevelCacheInvalidator;
+import com.teamtacles.teamtacles_api.dto.response.CacheStatsResponseDTO;
+import com.teamtacles.teamtacles_api.repository.CountCache;
+import com.teamtacles.teamtacles_api.security.AuthenticatedUserCache;
+import com.teamtacles.teamtacles_api.security.CachingJwtDecoder;
+
+/**
+ * Service class responsible for reporting the hit, miss and eviction counters of the
+ * in-memory caches of the TeamTacles application, so they can be sized from real traffic.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Service
+public class CacheStatsService {
+
+    private final AuthenticatedUserCache authenticatedUserCache;
+    private final CacheManager secondLevelCacheManager;
+    private final SecondLevelCacheInvalidator secondLevelCacheInvalidator;
+    private final CountCache countCache;
+    private final CachingJwtDecoder jwtDecoder;
+
+    public CacheStatsService(AuthenticatedUserCache authenticatedUserCache, CacheManager secondLevelCacheManager, SecondLevelCacheInvalidator secondLevelCacheInvalidator,
+        CountCache countCache, CachingJwtDecoder jwtDecoder) {
+        this.authenticatedUserCache = authenticatedUserCache;
+        this.secondLevelCacheManager = secondLevelCacheManager;
+        this.secondLevelCacheInvalidator = secondLevelCacheInvalidator;
+        this.countCache = countCache;
+        this.jwtDecoder = jwtDecoder;
+    }
+
+    /**
+     * Retrieves the current counters of every application cache.
+     *
+     * @return A list of CacheStatsResponseDTO, one per cache.
+     */
+    public List<CacheStatsResponseDTO> getCacheStats() {
+        CacheStats stats = authenticatedUserCache.stats();
+        CacheStats countStats = countCache.stats();
+        CacheStats jwtStats = jwtDecoder.stats();
+        // as contagens e os JWTs não são invalidados: apenas expiram
+        return List.of(
+            new CacheStatsResponseDTO(
+                AuthenticatedUserCache.NAME,
+                stats.hitCount(),
+                stats.missCount(),
+                stats.evictionCount(),
+                authenticatedUserCache.invalidationCount(),
+                stats.hitRate(),
+                authenticatedUserCache.estimatedSize()),
+            new CacheStatsResponseDTO(
+                CountCache.NAME,
+                countStats.hitCount(),
+                countStats.missCount(),
+                countStats.evictionCount(),
+                0,
+                countStats.hitRate(),
+                countCache.estimatedSize()),
+            new CacheStatsResponseDTO(
+                CachingJwtDecoder.NAME,
+                jwtStats.hitCount(),
+                jwtStats.missCount(),
+                jwtStats.evictionCount(),
+                0,
+                jwtStats.hitRate(),
+                jwtDecoder.estimatedSize()));
+    }
+
+    /**
+     * Retrieves the current counters of every region of the Hibernate second-level cache.
+     * The invalidations are the evictions requested by changes made on other nodes.
+     *
+     * @return A list of CacheStatsResponseDTO, one per region.
+     */
+    public List<CacheStatsResponseDTO> getSecondLevelCacheStats() {
+        return SecondLevelCacheConfig.REGIONS.stream()
+            .map(region -> {
+                Cache<?, ?> cache = secondLevelCacheManager.getCache(region).unwrap(Cache.class);
+                CacheStats stats = cache.stats();
+                return new CacheStatsResponseDTO(
+                    region,
+                    stats.hitCount(),
+                    stats.missCount(),
+                    stats.evictionCount(),
+                    secondLevelCacheInvalidator.invalidationCount(region),
+                    stats.hitRate(),
+                    cache.estimatedSize());
+            })
+            .toList();
+    }
+}
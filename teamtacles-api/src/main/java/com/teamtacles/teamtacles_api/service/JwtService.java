@@ -1,7 +1,12 @@
 package com.teamtacles.teamtacles_api.service;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
 import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
 import org.springframework.security.oauth2.jwt.JwtClaimsSet;
@@ -13,6 +18,9 @@ import com.teamtacles.teamtacles_api.model.User;
  * in the TeamTacles application. It utilizes Spring Security's {JwtEncoder
  * to create signed and time-limited tokens containing user-specific claims.
  *
+ * Access tokens are short-lived (teamtacles.security.jwt.access-token-ttl) and renewed with a
+ * refresh token. Each one carries a unique {@code jti} claim, so that it can be revoked.
+ *
  * @author TeamTacles
  * @version 1.0
  * @since 2025-05-25
@@ -20,32 +28,48 @@ import com.teamtacles.teamtacles_api.model.User;
 @Service
 public class JwtService {
     private final JwtEncoder jwtEncoder;
+    private final Duration accessTokenTtl;
 
-    public JwtService(JwtEncoder encoder) {
+    public JwtService(JwtEncoder encoder, @Value("${teamtacles.security.jwt.access-token-ttl:15m}") Duration accessTokenTtl) {
         this.jwtEncoder = encoder;
+        this.accessTokenTtl = accessTokenTtl;
     }
 
     /**
      * Generates a JSON Web Token (JWT) for a given User.
      * The token includes standard claims such as issuer, issued at, expiration time,
      * subject (username), and a custom claim for the user's ID.
-     * The token is set to expire 3600 seconds (1 hour) from its issue time.
      *
      * @param user The User for whom the token is to be generated.
      * @return A String representing the encoded JWT.
      */
     public String generateToken(User user) {
+        return issueAccessToken(user).getTokenValue();
+    }
+
+    /**
+     * Issues an access token for a given User, expiring after the configured access token TTL.
+     * The token has a random {@code jti} claim, used to revoke it before it expires.
+     *
+     * @param user The User for whom the token is to be generated.
+     * @return The encoded JWT, with its ID and expiration.
+     */
+    public Jwt issueAccessToken(User user) {
         Instant now = Instant.now();
-        long expire = 3600L;
 
         var claims = JwtClaimsSet.builder()
+                .id(UUID.randomUUID().toString())
                 .issuer("spring-security")
                 .issuedAt(now)
-                .expiresAt(now.plusSeconds(expire))
+                .expiresAt(now.plus(accessTokenTtl))
                 .subject(user.getUserName())
                 .claim("userId", user.getUserId())
                 .build();
 
-        return jwtEncoder.encode(JwtEncoderParameters.from(claims)).getTokenValue();
+        return jwtEncoder.encode(JwtEncoderParameters.from(claims));
+    }
+
+    public Duration getAccessTokenTtl() {
+        return accessTokenTtl;
     }
 }
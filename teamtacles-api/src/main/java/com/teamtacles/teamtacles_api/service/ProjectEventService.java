@@ -0,0 +1,327 @@
+package com.teamtacles.teamtacles_api.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teamtacles.teamtacles_api.changebus.ChangeNotification;
+import com.teamtacles.teamtacles_api.dto.response.TaskEventDTO;
+import com.teamtacles.teamtacles_api.exception.ResourceNotFoundException;
+import com.teamtacles.teamtacles_api.model.Project;
+import com.teamtacles.teamtacles_api.model.User;
+import com.teamtacles.teamtacles_api.repository.ProjectRepository;
+import com.teamtacles.teamtacles_api.repository.UserRepository;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Service class responsible for pushing the task changes of a project to its subscribers as Server-Sent Events.
+ *
+ * Subscriptions are kept in a registry by project. An idle subscriber holds only its open
+ * asynchronous request, never a thread. The changes arrive from the change bus, after the commit
+ * of the transaction that made them, whichever node made them. Each subscriber gets them in a bounded buffer, drained by a
+ * virtual thread only while it has events to send. A subscriber whose buffer is full is too slow
+ * to keep up, so its stream is closed instead of slowing down the others; the client reconnects
+ * and reloads the project.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Service
+public class ProjectEventService implements MeterBinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProjectEventService.class);
+
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+    private final LongAdder dropped = new LongAdder();
+
+    private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
+    private final ProjectService projectService;
+    private final ObjectMapper objectMapper;
+    private final Duration timeout;
+    private final int bufferSize;
+
+    public ProjectEventService(ProjectRepository projectRepository, UserRepository userRepository, ProjectService projectService, ObjectMapper objectMapper,
+        @Value("${teamtacles.project-events.timeout:30m}") Duration timeout,
+        @Value("${teamtacles.project-events.buffer-size:64}") int bufferSize) {
+        this.projectRepository = projectRepository;
+        this.userRepository = userRepository;
+        this.projectService = projectService;
+        this.objectMapper = objectMapper;
+        this.timeout = timeout;
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * Opens a stream of the task changes of a project. Only a team member or an administrator can subscribe.
+     *
+     * @param projectId The ID of the Project.
+     * @param userFromToken The authenticated User subscribing to the project.
+     * @return The SseEmitter of the new subscription.
+     * @throws ResourceNotFoundException if the project is not found.
+     */
+    public SseEmitter subscribe(Long projectId, User userFromToken) {
+        Project project = projectRepository.findById(projectId)
+            .orElseThrow(() -> new ResourceNotFoundException("project Not found."));
+        projectService.ensureUserCanViewProject(project, userFromToken);
+
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscriber subscriber = new Subscriber(projectId, userFromToken, emitter, bufferSize);
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(ex -> unsubscribe(subscriber));
+
+        // compute é atômico por projeto: não corre contra a remoção do último inscrito
+        subscribers.compute(projectId, (id, projectSubscribers) -> {
+            Set<Subscriber> set = projectSubscribers != null ? projectSubscribers : ConcurrentHashMap.newKeySet();
+            set.add(subscriber);
+            return set;
+        });
+
+        // o comentário inicial envia os cabeçalhos, confirmando a inscrição ao cliente
+        subscriber.offer(OutboundEvent.comment("subscribed"));
+        return emitter;
+    }
+
+    /**
+     * Applies a change received from the change bus: task changes are pushed to the subscribers of
+     * the project, a membership or role change closes the streams of the users no longer allowed to view the
+     * project, and a reset closes every stream, since events may have been missed.
+     *
+     * @param notification The change notification.
+     */
+    @EventListener
+    public void onChange(ChangeNotification notification) {
+        switch (notification.getType()) {
+            case TASK -> notification.getTasks().forEach(this::publish);
+            case PROJECT_MEMBERSHIP -> revalidateSubscribers(notification.getId());
+            case USER_ROLES -> revalidateUser(notification.getId());
+            case RESET -> subscribers.values().forEach(projectSubscribers -> projectSubscribers.forEach(this::close));
+            default -> { }
+        }
+    }
+
+    /**
+     * Pushes a task change to the subscribers of its project.
+     * Never blocks: the event is only added to the buffer of each subscriber.
+     *
+     * @param event The task change.
+     */
+    public void publish(TaskEventDTO event) {
+        Set<Subscriber> projectSubscribers = subscribers.get(event.getProjectId());
+        if (projectSubscribers == null) {
+            return;
+        }
+
+        // serializa uma única vez para todos os inscritos
+        OutboundEvent outbound;
+        try {
+            outbound = OutboundEvent.of(event.getType().name(), objectMapper.writeValueAsString(event));
+        } catch (JsonProcessingException ex) {
+            logger.error("Could not serialize task event: ", ex);
+            return;
+        }
+        for (Subscriber subscriber : projectSubscribers) {
+            subscriber.offer(outbound);
+        }
+    }
+
+    // mantém as conexões ociosas abertas em proxies e detecta os clientes que já se desconectaram
+    @Scheduled(fixedDelayString = "${teamtacles.project-events.heartbeat-interval:30s}")
+    public void sendHeartbeats() {
+        OutboundEvent heartbeat = OutboundEvent.comment("heartbeat");
+        for (Set<Subscriber> projectSubscribers : subscribers.values()) {
+            for (Subscriber subscriber : projectSubscribers) {
+                subscriber.offer(heartbeat);
+            }
+        }
+    }
+
+    public int subscriberCount() {
+        return subscribers.values().stream().mapToInt(Set::size).sum();
+    }
+
+    public long droppedCount() {
+        return dropped.sum();
+    }
+
+    // publica o número de inscritos e de inscritos desconectados por lentidão
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("teamtacles.project.events.subscribers", this, ProjectEventService::subscriberCount)
+            .description("Open task event streams")
+            .register(registry);
+        FunctionCounter.builder("teamtacles.project.events.dropped", dropped, LongAdder::sum)
+            .description("Task event streams closed because the client was too slow")
+            .register(registry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (Set<Subscriber> projectSubscribers : subscribers.values()) {
+            for (Subscriber subscriber : projectSubscribers) {
+                subscriber.emitter.complete();
+            }
+        }
+        senders.shutdownNow();
+    }
+
+    // o time mudou ou o projeto foi excluído: encerra o stream de quem não pode mais ver o projeto
+    private void revalidateSubscribers(Long projectId) {
+        Set<Subscriber> projectSubscribers = subscribers.get(projectId);
+        if (projectSubscribers == null) {
+            return;
+        }
+        if (!projectRepository.existsById(projectId)) {
+            projectSubscribers.forEach(this::close);
+            return;
+        }
+        // roda na thread do barramento: o time é lido uma vez, e não uma consulta por inscrito
+        Set<Long> teamMemberIds = new HashSet<>(projectRepository.findTeamMemberIds(projectId));
+        for (Subscriber subscriber : projectSubscribers) {
+            if (!projectService.canViewProject(subscriber.user, teamMemberIds)) {
+                close(subscriber);
+            }
+        }
+    }
+
+    // os papéis do usuário mudaram: troca o usuário guardado nas inscrições pelo recarregado e revalida
+    // cada projeto que ele acompanha; um administrador rebaixado deixa de receber os projetos fora do seu time
+    private void revalidateUser(Long userId) {
+        List<Long> projectIds = subscribers.entrySet().stream()
+            .filter(entry -> entry.getValue().stream().anyMatch(subscriber -> subscriber.belongsTo(userId)))
+            .map(Map.Entry::getKey)
+            .toList();
+        if (projectIds.isEmpty()) {
+            return;
+        }
+        Optional<User> user = userRepository.findById(userId);
+        for (Long projectId : projectIds) {
+            Set<Subscriber> projectSubscribers = subscribers.getOrDefault(projectId, Set.of());
+            for (Subscriber subscriber : projectSubscribers) {
+                if (subscriber.belongsTo(userId)) {
+                    user.ifPresentOrElse(reloaded -> subscriber.user = reloaded, () -> close(subscriber));
+                }
+            }
+            revalidateSubscribers(projectId);
+        }
+    }
+
+    private void close(Subscriber subscriber) {
+        unsubscribe(subscriber);
+        subscriber.emitter.complete();
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.projectId, (id, projectSubscribers) -> {
+            projectSubscribers.remove(subscriber);
+            return projectSubscribers.isEmpty() ? null : projectSubscribers;
+        });
+    }
+
+    // descarta o inscrito mais lento em vez de bloquear quem publica ou acumular eventos sem limite
+    private void drop(Subscriber subscriber) {
+        unsubscribe(subscriber);
+        dropped.increment();
+        logger.debug("Closing the task event stream of a slow subscriber of project {}.", subscriber.projectId);
+        subscriber.emitter.complete();
+    }
+
+    private final class Subscriber {
+        private final Long projectId;
+        private volatile User user;
+        private final SseEmitter emitter;
+        private final BlockingQueue<OutboundEvent> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscriber(Long projectId, User user, SseEmitter emitter, int bufferSize) {
+            this.projectId = projectId;
+            this.user = user;
+            this.emitter = emitter;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        private boolean belongsTo(Long userId) {
+            return user.getUserId().equals(userId);
+        }
+
+        private void offer(OutboundEvent event) {
+            if (!buffer.offer(event)) {
+                drop(this);
+                return;
+            }
+            scheduleDrain();
+        }
+
+        // no máximo uma thread virtual por inscrito, e só enquanto houver eventos no buffer
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                OutboundEvent event;
+                while ((event = buffer.poll()) != null) {
+                    emitter.send(event.toSse());
+                }
+            } catch (IOException | IllegalStateException ex) {
+                // cliente desconectado ou stream já encerrado: o contêiner notifica o emitter
+                unsubscribe(this);
+                buffer.clear();
+            } finally {
+                draining.set(false);
+            }
+            if (!buffer.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+    }
+
+    private record OutboundEvent(String name, String data, String comment) {
+
+        private static OutboundEvent of(String name, String data) {
+            return new OutboundEvent(name, data, null);
+        }
+
+        private static OutboundEvent comment(String comment) {
+            return new OutboundEvent(null, null, comment);
+        }
+
+        private SseEmitter.SseEventBuilder toSse() {
+            if (comment != null) {
+                return SseEmitter.event().comment(comment);
+            }
+            return SseEmitter.event().name(name).data(data);
+        }
+    }
+}
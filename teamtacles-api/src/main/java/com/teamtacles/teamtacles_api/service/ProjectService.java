@@ -1,19 +1,30 @@
 package com.teamtacles.teamtacles_api.service;
 
 import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.web.bind.annotation.PathVariable;
 
+import com.teamtacles.teamtacles_api.changebus.ChangeBus;
+import com.teamtacles.teamtacles_api.changebus.ChangeNotification;
+import com.teamtacles.teamtacles_api.dto.page.CursorPagedResponse;
 import com.teamtacles.teamtacles_api.dto.page.PagedResponse;
 import com.teamtacles.teamtacles_api.dto.request.ProjectRequestDTO;
 import com.teamtacles.teamtacles_api.dto.request.ProjectRequestPatchDTO;
 import com.teamtacles.teamtacles_api.dto.response.ProjectResponseDTO;
+import com.teamtacles.teamtacles_api.dto.response.ProjectResponseFilteredDTO;
+import com.teamtacles.teamtacles_api.dto.response.ProjectStatusCountsResponseDTO;
 import com.teamtacles.teamtacles_api.exception.InvalidTaskStateException;
+import com.teamtacles.teamtacles_api.exception.PreconditionFailedException;
 import com.teamtacles.teamtacles_api.exception.ResourceNotFoundException;
+import com.teamtacles.teamtacles_api.mapper.CursorCodec;
+import com.teamtacles.teamtacles_api.mapper.ETagCodec;
 import com.teamtacles.teamtacles_api.mapper.PagedResponseMapper;
+import com.teamtacles.teamtacles_api.mapper.ResponseMapper;
 import com.teamtacles.teamtacles_api.model.Project;
 import com.teamtacles.teamtacles_api.model.Task;
 import com.teamtacles.teamtacles_api.model.User;
@@ -22,8 +33,12 @@ import com.teamtacles.teamtacles_api.model.enums.ERole;
 import com.teamtacles.teamtacles_api.model.enums.Status;
 import com.teamtacles.teamtacles_api.repository.ProjectRepository;
 import com.teamtacles.teamtacles_api.repository.UserRepository;
+import com.teamtacles.teamtacles_api.repository.projection.ProjectSummary;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -38,18 +53,25 @@ import java.util.HashSet;
  * @since 2025-05-25
  */
 @Service
+@Timed(value = "teamtacles.service", histogram = true)
 public class ProjectService {
     
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
     private final ModelMapper modelMapper;
     private final PagedResponseMapper pagedResponseMapper;
+    private final ResponseMapper responseMapper;
+    private final ProjectStatusCounterService projectStatusCounterService;
+    private final ChangeBus changeBus;
 
-    public ProjectService(ProjectRepository projectRepository, UserRepository userRepository, ModelMapper modelMapper, PagedResponseMapper pagedResponseMapper){
+    public ProjectService(ProjectRepository projectRepository, UserRepository userRepository, ModelMapper modelMapper, PagedResponseMapper pagedResponseMapper, ResponseMapper responseMapper, ProjectStatusCounterService projectStatusCounterService, ChangeBus changeBus){
         this.projectRepository = projectRepository;
         this.userRepository = userRepository;
         this.modelMapper = modelMapper;
         this.pagedResponseMapper = pagedResponseMapper;
+        this.responseMapper = responseMapper;
+        this.projectStatusCounterService = projectStatusCounterService;
+        this.changeBus = changeBus;
     }
 
     /**
@@ -76,6 +98,63 @@ public class ProjectService {
         return pagedResponseMapper.toPagedResponse(projectsPage, ProjectResponseDTO.class);
     }
 
+    /**
+     * Retrieves a paginated summary of the projects accessible by the authenticated user,
+     * with only their id, title, description and the number of team members and tasks.
+     * The summaries come from a single projection query, without loading tasks or team members.
+     * Access rules are the same as in getAllProjects.
+     *
+     * @param pageable Pagination information (page number, page size, sorting).
+     * @param userFromToken The authenticated User retrieved from the security context.
+     * @return A PagedResponse containing a page of ProjectResponseFilteredDTO objects.
+     */
+    public PagedResponse<ProjectResponseFilteredDTO> getProjectSummaries(Pageable pageable, User userFromToken){
+        Page<ProjectSummary> summariesPage;
+
+        if(isADM(userFromToken)){
+            summariesPage = projectRepository.findAllSummaries(pageable);
+        }
+        else{
+            summariesPage = projectRepository.findSummariesByTeamMember(userFromToken.getUserId(), pageable);
+        }
+
+        return pagedResponseMapper.toPagedResponse(summariesPage, ProjectResponseFilteredDTO.class);
+    }
+
+    /**
+     * Retrieves the projects accessible by the authenticated user using keyset (cursor) pagination ordered by ID.
+     * Deep pages cost the same as the first one and no count query is run.
+     * Access rules are the same as in getAllProjects.
+     *
+     * @param cursor The nextCursor returned with the previous page. Null for the first page.
+     * @param size The maximum number of projects of the page.
+     * @param userFromToken The authenticated User retrieved from the security context.
+     * @return A CursorPagedResponse containing the ProjectResponseDTO objects of the page.
+     */
+    public CursorPagedResponse<ProjectResponseDTO> getAllProjectsByCursor(String cursor, int size, User userFromToken){
+        CursorCodec.ensureValidPageSize(size);
+
+        Long afterId = 0L;
+        if(cursor != null){
+            try{
+                afterId = Long.valueOf(CursorCodec.decode(cursor, 1)[0]);
+            } catch(NumberFormatException ex){
+                throw new IllegalArgumentException("Invalid cursor.");
+            }
+        }
+
+        // busca um elemento a mais para saber se existe próxima página sem precisar de count
+        List<Project> projects;
+        if(isADM(userFromToken)){
+            projects = projectRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(size + 1));
+        }
+        else{
+            projects = projectRepository.findByTeamAndIdGreaterThanOrderByIdAsc(userFromToken, afterId, Limit.of(size + 1));
+        }
+
+        return pagedResponseMapper.toCursorPagedResponse(projects, size, project -> CursorCodec.encode(project.getId()), ProjectResponseDTO.class);
+    }
+
     /**
      * Retrieves a single project by its ID, ensuring the authenticated user has permission to view it.
      * Only the project creator, a team member, or an administrator can view a project.
@@ -90,7 +169,65 @@ public class ProjectService {
         // Chama o método que verifica se o usuário é dono da tarefa ou se é um administrador
         ensureUserCanViewProject(project, userFromToken);
 
-        return modelMapper.map(project, ProjectResponseDTO.class);
+        return responseMapper.toProjectResponseDTO(project);
+    }
+
+    /**
+     * Retrieves a single project and its ETag, with the same checks as getProjectById, mapping it
+     * only when the client does not already have its current state: a poll for an unchanged
+     * project is answered with 304 (Not Modified) without mapping its tasks and its team.
+     *
+     * @param id The unique ID of the project to retrieve.
+     * @param userFromToken The authenticated User attempting to view the project.
+     * @param notModified Tells, from the ETag, whether the client already has the current state.
+     * @return The strong ETag of the project, with the mapped project, or without it when not modified.
+     */
+    public TaggedProject getProjectById(Long id, User userFromToken, Predicate<String> notModified){
+        Project project = projectRepository.findById(id)
+            .orElseThrow(() -> new ResourceNotFoundException("project Not found."));
+        ensureUserCanViewProject(project, userFromToken);
+
+        String etag = buildProjectETag(project.getId(), project.getVersion());
+        if (notModified.test(etag)) {
+            return new TaggedProject(etag, null);
+        }
+        return new TaggedProject(etag, responseMapper.toProjectResponseDTO(project));
+    }
+
+    /**
+     * Builds the ETag of a project from its version and the state of its tasks and rendered users,
+     * since their changes do not increment the version of the project.
+     *
+     * @param id The unique ID of the project.
+     * @param version The version of the project.
+     * @return The strong ETag of the project.
+     */
+    public String buildProjectETag(Long id, Long version){
+        return ETagCodec.encode(version, projectRepository.findTaskVersions(id), projectRepository.findRenderedUsers(id));
+    }
+
+    /**
+     * Retrieves the number of tasks of a project by status from the precomputed counters,
+     * without reading the tasks. Only a team member or an administrator can view them.
+     *
+     * @param id The unique ID of the project.
+     * @param userFromToken The authenticated User attempting to view the counters.
+     * @return A ProjectStatusCountsResponseDTO with the number of tasks of each status.
+     */
+    public ProjectStatusCountsResponseDTO getStatusCounts(Long id, User userFromToken){
+        Project project = projectRepository.findById(id)
+            .orElseThrow(() -> new ResourceNotFoundException("project Not found."));
+        ensureUserCanViewProject(project, userFromToken);
+
+        return new ProjectStatusCountsResponseDTO(project.getId(), projectStatusCounterService.getCounts(project.getId()));
+    }
+
+    /**
+     * Recomputes the status counters of every project from the task table. Restricted to administrators
+     * at the controller level.
+     */
+    public void rebuildStatusCounts(){
+        projectStatusCounterService.rebuild();
     }
 
     /**
@@ -124,7 +261,7 @@ public class ProjectService {
         convertedProject.setTeam(teamList);
 
         Project projectCreated = projectRepository.save(convertedProject);
-        return modelMapper.map(projectCreated, ProjectResponseDTO.class);
+        return responseMapper.toProjectResponseDTO(projectCreated);
     }
 
     /**
@@ -138,18 +275,40 @@ public class ProjectService {
      * @return A ProjectResponseDTO representing the updated project.
      */
     public ProjectResponseDTO updateProject(Long id, ProjectRequestDTO projectRequestDTO, User userFromToken){
+        return updateProject(id, projectRequestDTO, null, userFromToken);
+    }
+
+    /**
+     * Updates an existing project with the provided details, only if it still has the version the client read.
+     *
+     * @param id The unique ID of the project to update.
+     * @param projectRequestDTO The ProjectRequestDTO containing the updated project details.
+     * @param ifMatch The If-Match header sent by the client, or null for an unconditional update.
+     * @param userFromToken The authenticated User attempting to update the project.
+     * @return A ProjectResponseDTO representing the updated project.
+     * @throws PreconditionFailedException if the project was modified since the client read it.
+     */
+    public ProjectResponseDTO updateProject(Long id, ProjectRequestDTO projectRequestDTO, String ifMatch, User userFromToken){
         Project project = projectRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException("project Not found."));
             // Chama o método que verifica se o usuário é dono da tarefa ou se é um administrador
         ensureUserCanAccessProject(project, userFromToken);
+        if (ifMatch != null) {
+            ETagCodec.ensureMatches(ifMatch, buildProjectETag(project.getId(), project.getVersion()));
+        }
 
+        Set<Long> teamBefore = teamMemberIds(project);
         modelMapper.map(projectRequestDTO, project);
         project.setId(id);
         project.setTeam(project.getTeam()); // preserva o time
         project.setCreator(project.getCreator()); // preserva o creator
 
         Project updatedProject = projectRepository.save(project);
-        return modelMapper.map(updatedProject, ProjectResponseDTO.class);
+        // só uma mudança no time exige que todos os nós revalidem quem acompanha o projeto
+        if (!teamBefore.equals(teamMemberIds(updatedProject))) {
+            changeBus.publish(ChangeNotification.projectMembership(id));
+        }
+        return responseMapper.toProjectResponseDTO(updatedProject);
     }
 
     /**
@@ -163,18 +322,40 @@ public class ProjectService {
      * @return A ProjectResponseDTO representing the partially updated project.
      */
     public ProjectResponseDTO partialUpdateProject(Long id, ProjectRequestPatchDTO projectRequestPatchDTO, User userFromToken){
+        return partialUpdateProject(id, projectRequestPatchDTO, null, userFromToken);
+    }
+
+    /**
+     * Partially updates an existing project, only if it still has the version the client read.
+     *
+     * @param id The unique ID of the project to partially update.
+     * @param projectRequestPatchDTO The ProjectRequestPatchDTO containing the fields to be updated.
+     * @param ifMatch The If-Match header sent by the client, or null for an unconditional update.
+     * @param userFromToken The authenticated User attempting to partially update the project.
+     * @return A ProjectResponseDTO representing the partially updated project.
+     * @throws PreconditionFailedException if the project was modified since the client read it.
+     */
+    public ProjectResponseDTO partialUpdateProject(Long id, ProjectRequestPatchDTO projectRequestPatchDTO, String ifMatch, User userFromToken){
         Project project = projectRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException("project Not found."));
             // Chama o método que verifica se o usuário é dono do projeto ou se é um administrador
         ensureUserCanAccessProject(project, userFromToken);
+        if (ifMatch != null) {
+            ETagCodec.ensureMatches(ifMatch, buildProjectETag(project.getId(), project.getVersion()));
+        }
 
+        Set<Long> teamBefore = teamMemberIds(project);
         modelMapper.map(projectRequestPatchDTO, project);
         project.setId(id);
         project.setTeam(project.getTeam()); // preserva o time
         project.setCreator(project.getCreator()); // preserva o creator
 
         Project updatedProject = projectRepository.save(project);
-        return modelMapper.map(updatedProject, ProjectResponseDTO.class);
+        // só uma mudança no time exige que todos os nós revalidem quem acompanha o projeto
+        if (!teamBefore.equals(teamMemberIds(updatedProject))) {
+            changeBus.publish(ChangeNotification.projectMembership(id));
+        }
+        return responseMapper.toProjectResponseDTO(updatedProject);
     }
 
     /**
@@ -191,6 +372,7 @@ public class ProjectService {
         ensureUserCanAccessProject(project, userFromToken);
         
         projectRepository.delete(project);
+        changeBus.publish(ChangeNotification.projectMembership(id));
     }
 
     /**
@@ -201,16 +383,37 @@ public class ProjectService {
      * @param user The User attempting to access the project.
      */    
     public void ensureUserCanViewProject(Project project, User user) {
-        if (!isADM(user) && !project.getTeam().stream().anyMatch(u -> u.getUserId().equals(user.getUserId()))){
+        // consulta a chave primária de team em vez de carregar o time inteiro
+        if (!isADM(user) && !projectRepository.isTeamMember(project.getId(), user.getUserId())){
             throw new AccessDeniedException("You do not have permission to access this resource.");    
         } 
     }
 
+    /**
+     * Tells whether the given user can view a project whose team is already known, with the same
+     * rule as ensureUserCanViewProject but without querying the team for each user.
+     *
+     * @param user The User attempting to access the project.
+     * @param teamMemberIds The IDs of the users in the team of the project.
+     * @return true if the user is an administrator or a member of the team.
+     */
+    public boolean canViewProject(User user, Set<Long> teamMemberIds) {
+        return isADM(user) || teamMemberIds.contains(user.getUserId());
+    }
+
     private User findUsers(Long id){
         User user = userRepository.findById(id).orElseThrow(() -> new ResourceNotFoundException("user Not found."));
         return user;
     }
 
+    private static Set<Long> teamMemberIds(Project project) {
+        if (project.getTeam() == null) {
+            return Set.of();
+        }
+        // o ModelMapper pode deixar entradas nulas no time ao mapear a lista de IDs da requisição
+        return project.getTeam().stream().filter(Objects::nonNull).map(User::getUserId).collect(Collectors.toSet());
+    }
+
     // Verificando se o usuário é admin
     private boolean isADM(User user) {
         return user.getRoles().stream().anyMatch(role -> role.getRoleName().equals(ERole.ADMIN));
@@ -222,4 +425,10 @@ public class ProjectService {
             throw new AccessDeniedException (" FORBIDDEN - You do not have permission to modify this project."); 
         }
     }
+
+    /**
+     * A project and its ETag; the project is null when the client already has its current state.
+     */
+    public record TaggedProject(String etag, ProjectResponseDTO project) {
+    }
 }
@@ -0,0 +1,176 @@
+package com.teamtacles.teamtacles_api.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.teamtacles.teamtacles_api.model.ProjectStatusDelta;
+import com.teamtacles.teamtacles_api.model.enums.Status;
+import com.teamtacles.teamtacles_api.repository.ProjectStatusDeltaRepository;
+import com.teamtacles.teamtacles_api.repository.TaskRepository;
+import com.teamtacles.teamtacles_api.repository.projection.ProjectStatusCount;
+
+/**
+ * Service class responsible for the precomputed number of tasks of each project by status.
+ *
+ * Each change is recorded as a new {@link ProjectStatusDelta} row in the transaction of the task
+ * change itself, so concurrent writers of the same project never update a shared row. Reading a
+ * counter sums its rows; the scheduled compaction keeps that sum cheap by folding the rows of each
+ * counter into one, and {@link #rebuild()} recomputes every counter from the task table.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Service
+public class ProjectStatusCounterService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProjectStatusCounterService.class);
+
+    private final ProjectStatusDeltaRepository projectStatusDeltaRepository;
+    private final TaskRepository taskRepository;
+
+    public ProjectStatusCounterService(ProjectStatusDeltaRepository projectStatusDeltaRepository, TaskRepository taskRepository) {
+        this.projectStatusDeltaRepository = projectStatusDeltaRepository;
+        this.taskRepository = taskRepository;
+    }
+
+    /**
+     * Adds tasks to the counter of a project and status (removes them when the count is negative).
+     *
+     * @param projectId The ID of the Project.
+     * @param status The Status of the tasks.
+     * @param count The number of tasks to be added.
+     */
+    @Transactional
+    public void add(Long projectId, Status status, long count) {
+        if (status == null || count == 0) {
+            return;
+        }
+        projectStatusDeltaRepository.save(new ProjectStatusDelta(projectId, status, count));
+    }
+
+    /**
+     * Moves one task of a project from a status to another.
+     *
+     * @param projectId The ID of the Project.
+     * @param from The previous Status of the task.
+     * @param to The new Status of the task.
+     */
+    @Transactional
+    public void move(Long projectId, Status from, Status to) {
+        if (from == to) {
+            return;
+        }
+        add(projectId, from, -1);
+        add(projectId, to, 1);
+    }
+
+    /**
+     * Moves several tasks of a project, each from its previous status, to a single new status.
+     *
+     * @param projectId The ID of the Project.
+     * @param from The previous Status of each task.
+     * @param to The new Status of the tasks.
+     */
+    @Transactional
+    public void moveAll(Long projectId, Collection<Status> from, Status to) {
+        Map<Status, Long> deltas = new EnumMap<>(Status.class);
+        for (Status previous : from) {
+            if (previous != to) {
+                deltas.merge(previous, -1L, Long::sum);
+                deltas.merge(to, 1L, Long::sum);
+            }
+        }
+
+        List<ProjectStatusDelta> rows = new ArrayList<>(deltas.size());
+        deltas.forEach((status, delta) -> {
+            if (status != null) {
+                rows.add(new ProjectStatusDelta(projectId, status, delta));
+            }
+        });
+        projectStatusDeltaRepository.saveAll(rows);
+    }
+
+    /**
+     * Retrieves the number of tasks of a project by status, with every status present.
+     *
+     * @param projectId The ID of the Project.
+     * @return The number of tasks of each Status.
+     */
+    @Transactional(readOnly = true)
+    public Map<Status, Long> getCounts(Long projectId) {
+        Map<Status, Long> counts = new EnumMap<>(Status.class);
+        for (Status status : Status.values()) {
+            counts.put(status, 0L);
+        }
+        for (ProjectStatusCount count : projectStatusDeltaRepository.sumByProjectId(projectId)) {
+            counts.put(count.getStatus(), count.getTotal());
+        }
+        return counts;
+    }
+
+    /**
+     * Folds the delta rows of each counter into a single row, dropping the counters that add up to zero.
+     * Only rows that already existed when the compaction started are touched, so writers keep inserting
+     * meanwhile. If another compaction removed some of the rows first, the deleted count does not match
+     * and the whole compaction is rolled back, to be retried on the next run.
+     *
+     * @return The number of delta rows removed.
+     */
+    @Scheduled(fixedDelayString = "${teamtacles.project-status-counters.compaction-interval:1m}")
+    @Transactional
+    public long compact() {
+        Long maxId = projectStatusDeltaRepository.findMaxId();
+        if (maxId == null) {
+            return 0;
+        }
+
+        long removed = 0;
+        List<ProjectStatusDelta> compacted = new ArrayList<>();
+        for (ProjectStatusCount count : projectStatusDeltaRepository.findCompactableCounts(maxId)) {
+            int deleted = projectStatusDeltaRepository.deleteByProjectIdAndStatusUpTo(count.getProjectId(), count.getStatus(), maxId);
+            if (deleted != count.getRowCount()) {
+                throw new IllegalStateException("Status counters of project " + count.getProjectId() + " changed during compaction.");
+            }
+            if (count.getTotal() != 0) {
+                compacted.add(new ProjectStatusDelta(count.getProjectId(), count.getStatus(), count.getTotal()));
+            }
+            removed += deleted;
+        }
+        projectStatusDeltaRepository.saveAll(compacted);
+
+        removed -= compacted.size();
+        if (removed > 0) {
+            logger.debug("Compacted {} project status delta rows.", removed);
+        }
+        return removed;
+    }
+
+    /**
+     * Discards every counter and recomputes them from the task table, repairing any drift.
+     * The delta table is locked against writers first, so a task change is either committed
+     * before the recount (and counted from the task table) or recorded after the rebuild commits.
+     */
+    @Transactional
+    public void rebuild() {
+        // sem o lock, uma tarefa gravada entre o delete e a contagem seria contada duas vezes
+        projectStatusDeltaRepository.lockAgainstWriters();
+        projectStatusDeltaRepository.deleteAllDeltas();
+
+        List<ProjectStatusDelta> rows = new ArrayList<>();
+        for (ProjectStatusCount count : taskRepository.countByProjectAndStatus()) {
+            rows.add(new ProjectStatusDelta(count.getProjectId(), count.getStatus(), count.getTotal()));
+        }
+        projectStatusDeltaRepository.saveAll(rows);
+        logger.info("Rebuilt the status counters of {} project statuses.", rows.size());
+    }
+}
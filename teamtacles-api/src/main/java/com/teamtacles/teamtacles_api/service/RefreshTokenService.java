@@ -0,0 +1,161 @@
+package com.teamtacles.teamtacles_api.service;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.teamtacles.teamtacles_api.changebus.ChangeBus;
+import com.teamtacles.teamtacles_api.changebus.ChangeNotification;
+import com.teamtacles.teamtacles_api.dto.authentication.TokenResponseDTO;
+import com.teamtacles.teamtacles_api.model.RefreshToken;
+import com.teamtacles.teamtacles_api.model.RevokedToken;
+import com.teamtacles.teamtacles_api.model.User;
+import com.teamtacles.teamtacles_api.repository.RefreshTokenRepository;
+import com.teamtacles.teamtacles_api.repository.RevokedTokenRepository;
+import com.teamtacles.teamtacles_api.repository.UserRepository;
+import com.teamtacles.teamtacles_api.util.Digests;
+
+/**
+ * Service class responsible for issuing, rotating and revoking refresh tokens.
+ *
+ * A refresh token is a random value returned once to the client; only its SHA-256 hash is stored,
+ * and looked up through a unique index. Each refresh marks the token as used and issues a new pair
+ * of tokens of the same family. A used token presented again was stolen or replayed: the family is
+ * revoked, together with its access tokens still valid, which are added to the revocation list of
+ * every node through the change bus.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Service
+public class RefreshTokenService {
+
+    private static final int TOKEN_BYTES = 32;
+    // mantém a notificação bem abaixo do limite de 8000 bytes do PostgreSQL
+    private static final int MAX_TOKENS_PER_NOTIFICATION = 100;
+
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final UserRepository userRepository;
+    private final JwtService jwtService;
+    private final ChangeBus changeBus;
+    private final Duration refreshTokenTtl;
+
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository, RevokedTokenRepository revokedTokenRepository,
+        UserRepository userRepository, JwtService jwtService, ChangeBus changeBus,
+        @Value("${teamtacles.security.refresh-token.ttl:14d}") Duration refreshTokenTtl) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.userRepository = userRepository;
+        this.jwtService = jwtService;
+        this.changeBus = changeBus;
+        this.refreshTokenTtl = refreshTokenTtl;
+    }
+
+    /**
+     * Issues an access token and the first refresh token of a new family, on login.
+     *
+     * @param user The authenticated user.
+     * @return The access token and the refresh token.
+     */
+    @Transactional
+    public TokenResponseDTO issue(User user) {
+        return issue(user, UUID.randomUUID().toString());
+    }
+
+    /**
+     * Exchanges a refresh token for a new access token and a new refresh token of the same family.
+     * The given token can no longer be used.
+     *
+     * @param refreshToken The refresh token.
+     * @return The new access token and refresh token.
+     * @throws BadCredentialsException if the token is unknown, expired, revoked or was already used.
+     */
+    // sem rollback na falha: a revogação da família precisa ser gravada
+    @Transactional(noRollbackFor = BadCredentialsException.class)
+    public TokenResponseDTO refresh(String refreshToken) {
+        RefreshToken current = refreshTokenRepository.findByTokenHashForUpdate(Digests.sha256Hex(refreshToken))
+            .orElseThrow(() -> new BadCredentialsException("Invalid refresh token."));
+
+        Instant now = Instant.now();
+        if (current.getRevokedAt() != null) {
+            // token já usado apresentado de novo: foi roubado ou reenviado, revoga a família inteira
+            revokeFamily(current.getFamilyId(), now);
+            throw new BadCredentialsException("Invalid refresh token.");
+        }
+        if (current.getExpiresAt().isBefore(now)) {
+            throw new BadCredentialsException("Refresh token expired.");
+        }
+
+        User user = userRepository.findById(current.getUserId())
+            .orElseThrow(() -> new BadCredentialsException("Invalid refresh token."));
+        current.setRevokedAt(now);
+        return issue(user, current.getFamilyId());
+    }
+
+    /**
+     * Revokes the family of a refresh token and its access tokens still valid, on logout.
+     * An unknown token is ignored.
+     *
+     * @param refreshToken The refresh token.
+     */
+    @Transactional
+    public void revoke(String refreshToken) {
+        refreshTokenRepository.findByTokenHashForUpdate(Digests.sha256Hex(refreshToken))
+            .ifPresent(token -> revokeFamily(token.getFamilyId(), Instant.now()));
+    }
+
+    // as linhas expiradas não servem mais para detectar reuso nem para revogar access tokens
+    @Scheduled(fixedDelayString = "${teamtacles.security.refresh-token.purge-interval:1h}")
+    @Transactional
+    public void purgeExpired() {
+        Instant now = Instant.now();
+        refreshTokenRepository.deleteExpired(now);
+        revokedTokenRepository.deleteExpired(now);
+    }
+
+    private TokenResponseDTO issue(User user, String familyId) {
+        Jwt accessToken = jwtService.issueAccessToken(user);
+
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String refreshToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        refreshTokenRepository.save(new RefreshToken(null, Digests.sha256Hex(refreshToken), familyId, user.getUserId(),
+            Instant.now().plus(refreshTokenTtl), null, accessToken.getId(), accessToken.getExpiresAt()));
+
+        return new TokenResponseDTO(accessToken.getTokenValue(), refreshToken, "Bearer",
+            jwtService.getAccessTokenTtl().toSeconds());
+    }
+
+    private void revokeFamily(String familyId, Instant now) {
+        refreshTokenRepository.revokeFamily(familyId, now);
+
+        List<RevokedToken> accessTokens = refreshTokenRepository.findWithValidAccessTokenByFamilyId(familyId, now).stream()
+            .map(token -> new RevokedToken(token.getAccessTokenId(), token.getAccessTokenExpiresAt()))
+            .toList();
+        if (accessTokens.isEmpty()) {
+            return;
+        }
+        // gravados para os nós que iniciarem depois; os nós em execução recebem a notificação após o commit
+        revokedTokenRepository.saveAll(accessTokens);
+        List<String> tokenIds = accessTokens.stream().map(RevokedToken::getTokenId).toList();
+        for (int from = 0; from < tokenIds.size(); from += MAX_TOKENS_PER_NOTIFICATION) {
+            int to = Math.min(from + MAX_TOKENS_PER_NOTIFICATION, tokenIds.size());
+            changeBus.publish(ChangeNotification.tokensRevoked(List.copyOf(tokenIds.subList(from, to))));
+        }
+    }
+}
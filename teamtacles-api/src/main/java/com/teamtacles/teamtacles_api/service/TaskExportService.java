@@ -0,0 +1,180 @@
+package com.teamtacles.teamtacles_api.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.teamtacles.teamtacles_api.concurrent.BoundedExecutor;
+import com.teamtacles.teamtacles_api.config.ExecutorConfig;
+import com.teamtacles.teamtacles_api.exception.ServiceBusyException;
+import com.teamtacles.teamtacles_api.model.enums.ExportFormat;
+import com.teamtacles.teamtacles_api.model.enums.Status;
+import com.teamtacles.teamtacles_api.repository.TaskRepository;
+import com.teamtacles.teamtacles_api.monitoring.QueryStats;
+import com.teamtacles.teamtacles_api.repository.projection.TaskExportRow;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Service class responsible for writing the task export of the TeamTacles application.
+ * The tasks are read as flat rows through a forward-only cursor and written to the output
+ * one by one, as NDJSON (one JSON object per line) or CSV, so the memory used by an export
+ * stays constant regardless of the number of tasks.
+ *
+ * Each export holds a thread and a database connection until it is written, so at most
+ * {@code teamtacles.task-export.max-concurrent} exports run at once, on a pool of their own and
+ * under a timeout of their own ({@code teamtacles.task-export.timeout}); beyond that an export is
+ * refused with 503 right away.
+ *
+ * Access to the filters must be checked by the caller (see TaskService.exportTasksFiltered).
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Service
+public class TaskExportService {
+    private static final String CSV_HEADER = "id,title,description,dueDate,status,projectId,owner";
+
+    private final TaskRepository taskRepository;
+    private final ObjectWriter rowWriter;
+    private final Semaphore permits;
+    private final TaskExecutorAdapter exportExecutor;
+    private final Duration timeout;
+
+    public TaskExportService(TaskRepository taskRepository, ObjectMapper objectMapper,
+        @Qualifier(ExecutorConfig.TASK_EXPORT_EXECUTOR) BoundedExecutor exportExecutor,
+        @Value("${teamtacles.task-export.max-concurrent:4}") int maxConcurrent,
+        @Value("${teamtacles.task-export.timeout:10m}") Duration timeout) {
+        this.taskRepository = taskRepository;
+        this.rowWriter = objectMapper.writerFor(TaskExportRow.class);
+        this.permits = new Semaphore(maxConcurrent);
+        this.exportExecutor = new TaskExecutorAdapter(exportExecutor::execute);
+        // mantém as estatísticas de consultas da requisição na thread da exportação
+        this.exportExecutor.setTaskDecorator(QueryStats::propagate);
+        this.timeout = timeout;
+    }
+
+    /**
+     * Starts writing an export to the response asynchronously, on the export pool and under the
+     * export timeout, instead of the executor and timeout shared by the other async requests.
+     * The headers of the response must be set before the returned task is started.
+     *
+     * @param body The export, as prepared by TaskService.exportTasksFiltered.
+     * @param response The response the export is written to.
+     * @return The task to be returned by the controller.
+     * @throws ServiceBusyException if the maximum number of concurrent exports is already running.
+     */
+    public WebAsyncTask<Void> startExport(StreamingResponseBody body, HttpServletResponse response) {
+        if (!permits.tryAcquire()) {
+            throw new ServiceBusyException("Too many concurrent exports, please try again later.");
+        }
+        // liberada ao fim da escrita, ou ao fim da requisição se a exportação nem chegou a rodar (timeout, pool cheio)
+        AtomicBoolean released = new AtomicBoolean();
+        Runnable release = () -> {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        };
+        Callable<Void> export = () -> {
+            try {
+                body.writeTo(response.getOutputStream());
+                response.flushBuffer();
+                return null;
+            } finally {
+                release.run();
+            }
+        };
+        WebAsyncTask<Void> task = new WebAsyncTask<>(timeout.toMillis(), exportExecutor, export);
+        task.onCompletion(release);
+        return task;
+    }
+
+    /**
+     * Writes the tasks matching the filters to the output stream in the given format.
+     * The read-only transaction keeps the database cursor open while the rows are written
+     * (PostgreSQL only honours the fetch size outside of auto-commit).
+     *
+     * @param statusEnum The Status to filter by. Can be null.
+     * @param dueDate The maximum due date to filter by. Can be null.
+     * @param projectId The ID of the Project to filter by. Can be null.
+     * @param userId The ID of the User whose tasks (owned or responsible) are exported, or null to export the tasks of every user.
+     * @param format The format of the export.
+     * @param outputStream The stream the export is written to. It is flushed, but not closed.
+     * @throws IOException if writing to the output stream fails.
+     */
+    @Transactional(readOnly = true)
+    public void writeTasks(Status statusEnum, LocalDateTime dueDate, Long projectId, Long userId, ExportFormat format, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+
+        try (Stream<TaskExportRow> rows = userId == null
+                ? taskRepository.streamTasksFiltered(statusEnum, dueDate, projectId)
+                : taskRepository.streamTasksFilteredByUser(statusEnum, dueDate, projectId, userId)) {
+
+            if (format == ExportFormat.CSV) {
+                writer.write(CSV_HEADER);
+                writer.write('\n');
+            }
+
+            Iterator<TaskExportRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                TaskExportRow row = iterator.next();
+                if (format == ExportFormat.CSV) {
+                    writeCsvLine(row, writer);
+                } else {
+                    writer.write(rowWriter.writeValueAsString(row));
+                    writer.write('\n');
+                }
+            }
+        }
+        writer.flush();
+    }
+
+    private void writeCsvLine(TaskExportRow row, Writer writer) throws IOException {
+        writer.write(String.valueOf(row.getId()));
+        writer.write(',');
+        writer.write(csvField(row.getTitle()));
+        writer.write(',');
+        writer.write(csvField(row.getDescription()));
+        writer.write(',');
+        writer.write(row.getDueDate() == null ? "" : row.getDueDate().toString());
+        writer.write(',');
+        writer.write(row.getStatus() == null ? "" : row.getStatus().name());
+        writer.write(',');
+        writer.write(String.valueOf(row.getProjectId()));
+        writer.write(',');
+        writer.write(csvField(row.getOwner()));
+        writer.write('\n');
+    }
+
+    // campos com vírgula, aspas ou quebra de linha vão entre aspas, com as aspas internas duplicadas (RFC 4180)
+    private static String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
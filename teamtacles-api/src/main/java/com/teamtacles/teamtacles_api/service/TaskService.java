@@ -1,21 +1,39 @@
 package com.teamtacles.teamtacles_api.service;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import com.teamtacles.teamtacles_api.changebus.ChangeBus;
+import com.teamtacles.teamtacles_api.changebus.ChangeNotification;
+import com.teamtacles.teamtacles_api.dto.page.CursorPagedResponse;
 import com.teamtacles.teamtacles_api.dto.page.PagedResponse;
+import com.teamtacles.teamtacles_api.dto.request.TaskBulkRequestDTO;
 import com.teamtacles.teamtacles_api.dto.request.TaskRequestDTO;
 import com.teamtacles.teamtacles_api.dto.request.TaskRequestPatchDTO;
+import com.teamtacles.teamtacles_api.dto.request.TaskStatusBulkRequestDTO;
 import com.teamtacles.teamtacles_api.dto.response.ProjectResponseDTO;
+import com.teamtacles.teamtacles_api.dto.response.TaskEventDTO;
 import com.teamtacles.teamtacles_api.dto.response.TaskResponseDTO;
 import com.teamtacles.teamtacles_api.dto.response.TaskResponseFilteredDTO;
+import com.teamtacles.teamtacles_api.dto.response.TaskStatusResultDTO;
+import com.teamtacles.teamtacles_api.exception.PreconditionFailedException;
 import com.teamtacles.teamtacles_api.exception.ResourceNotFoundException;
+import com.teamtacles.teamtacles_api.mapper.CursorCodec;
+import com.teamtacles.teamtacles_api.mapper.ETagCodec;
 import com.teamtacles.teamtacles_api.mapper.PagedResponseMapper;
+import com.teamtacles.teamtacles_api.mapper.ResponseMapper;
 import com.teamtacles.teamtacles_api.model.Project;
 import com.teamtacles.teamtacles_api.model.Task;
 import com.teamtacles.teamtacles_api.model.User;
+import com.teamtacles.teamtacles_api.model.enums.CountMode;
 import com.teamtacles.teamtacles_api.model.enums.ERole;
+import com.teamtacles.teamtacles_api.model.enums.ExportFormat;
 import com.teamtacles.teamtacles_api.model.enums.Status;
+import com.teamtacles.teamtacles_api.model.enums.TaskEventType;
 import com.teamtacles.teamtacles_api.repository.ProjectRepository;
 import com.teamtacles.teamtacles_api.repository.TaskRepository;
 import com.teamtacles.teamtacles_api.repository.UserRepository;
@@ -23,9 +41,16 @@ import com.teamtacles.teamtacles_api.exception.InvalidTaskStateException;
 
 
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import org.modelmapper.ModelMapper;
 
@@ -39,22 +64,34 @@ import org.modelmapper.ModelMapper;
  * @since 2025-05-26
  */
 @Service
+@Timed(value = "teamtacles.service", histogram = true)
 public class TaskService {
 
+    private static final int TASK_EVENTS_PER_NOTIFICATION = 50;
+    private static final int MAX_SEARCH_TEXT_LENGTH = 200;
+
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
     private final ProjectRepository projectRepository;
     private final ProjectService projectService;
     private final ModelMapper modelMapper;
     private final PagedResponseMapper pagedResponseMapper;
+    private final ResponseMapper responseMapper;
+    private final TaskExportService taskExportService;
+    private final ProjectStatusCounterService projectStatusCounterService;
+    private final ChangeBus changeBus;
 
-    public TaskService(TaskRepository taskRepository, UserRepository userRepository, ProjectRepository projectRepository, ProjectService projectService, ModelMapper modelMapper, PagedResponseMapper pagedResponseMapper){
+    public TaskService(TaskRepository taskRepository, UserRepository userRepository, ProjectRepository projectRepository, ProjectService projectService, ModelMapper modelMapper, PagedResponseMapper pagedResponseMapper, ResponseMapper responseMapper, TaskExportService taskExportService, ProjectStatusCounterService projectStatusCounterService, ChangeBus changeBus){
         this.taskRepository = taskRepository;
         this.userRepository = userRepository;
         this.projectRepository = projectRepository;
         this.projectService = projectService;
         this.modelMapper = modelMapper;
         this.pagedResponseMapper = pagedResponseMapper;
+        this.responseMapper = responseMapper;
+        this.taskExportService = taskExportService;
+        this.projectStatusCounterService = projectStatusCounterService;
+        this.changeBus = changeBus;
     }
 
     /**
@@ -62,13 +99,14 @@ public class TaskService {
      * The authenticated user creating the task is set as the task owner.
      * Responsible users for the task are looked up by their IDs. If the owner is not
      * explicitly listed as responsible, they are added to the list.
-     * The task's initial status is set to Status.TODO.
+     * The task's initial status is set to Status.TODO, and the TODO counter of the project is incremented.
      *
      * @param id_project The ID of the Project to which the task belongs.
      * @param taskRequestDTO The TaskRequestDTO containing the details for the new task.
      * @param userFromToken The authenticated User who is creating the task.
      * @return A TaskResponseDTO representing the newly created task.
      */
+    @Transactional
     public TaskResponseDTO createTask(Long id_project, TaskRequestDTO taskRequestDTO, User userFromToken) {        
         Project project = findprojects(id_project);
         User creatorUser = findUsers(userFromToken.getUserId());
@@ -92,9 +130,83 @@ public class TaskService {
         convertedTask.setUsersResponsability(usersResponsability);
 
         Task createdTask = taskRepository.save(convertedTask);
-        return modelMapper.map(createdTask, TaskResponseDTO.class);
+        projectStatusCounterService.add(project.getId(), Status.TODO, 1);
+        publishTaskEvent(TaskEventType.CREATED, project.getId(), createdTask);
+        return responseMapper.toTaskResponseDTO(createdTask);
 	}
 
+    /**
+     * Creates several tasks within a specified project at once, as done by imports from other tools.
+     * The project and the permission of the authenticated user are checked only once, and every
+     * responsible user referenced by the tasks is loaded in a single query. The tasks follow the
+     * same rules as createTask: the authenticated user is the owner and a responsible user, and
+     * the initial status is Status.TODO. The inserts are sent to the database in JDBC batches.
+     *
+     * @param id_project The ID of the Project to which the tasks belong.
+     * @param taskBulkRequestDTO The TaskBulkRequestDTO containing the tasks to be created.
+     * @param userFromToken The authenticated User who is creating the tasks.
+     * @return The list of TaskResponseDTO of the created tasks, in the order they were sent.
+     * @throws ResourceNotFoundException if the project or any of the responsible users is not found.
+     */
+    @Transactional
+    public List<TaskResponseDTO> createTasks(Long id_project, TaskBulkRequestDTO taskBulkRequestDTO, User userFromToken) {
+        Project project = findprojects(id_project);
+        User creatorUser = findUsers(userFromToken.getUserId());
+
+        projectService.ensureUserCanViewProject(project, creatorUser);
+
+        Set<Long> responsibleIds = new HashSet<>();
+        for (TaskRequestDTO taskRequestDTO : taskBulkRequestDTO.getTasks()) {
+            responsibleIds.addAll(taskRequestDTO.getUsersResponsability());
+        }
+        responsibleIds.remove(creatorUser.getUserId());
+
+        // um único SELECT para todos os responsáveis das tarefas
+        Map<Long, User> usersById = new HashMap<>();
+        usersById.put(creatorUser.getUserId(), creatorUser);
+        for (User user : userRepository.findAllById(responsibleIds)) {
+            usersById.put(user.getUserId(), user);
+        }
+
+        List<Task> tasks = new ArrayList<>(taskBulkRequestDTO.getTasks().size());
+        for (TaskRequestDTO taskRequestDTO : taskBulkRequestDTO.getTasks()) {
+            List<User> usersResponsability = new ArrayList<>();
+
+            for (Long userId : taskRequestDTO.getUsersResponsability()) {
+                User user = usersById.get(userId);
+                if (user == null) {
+                    throw new ResourceNotFoundException("User Not Found.");
+                }
+                if (!usersResponsability.contains(user)) {
+                    usersResponsability.add(user);
+                }
+            }
+
+            if (!usersResponsability.contains(creatorUser)) {
+                usersResponsability.add(creatorUser);
+            }
+
+            Task convertedTask = modelMapper.map(taskRequestDTO, Task.class);
+            convertedTask.setProject(project);
+            convertedTask.setOwner(creatorUser);
+            convertedTask.setStatus(Status.TODO);
+            convertedTask.setUsersResponsability(usersResponsability);
+            tasks.add(convertedTask);
+        }
+
+        List<Task> createdTasks = taskRepository.saveAll(tasks);
+        projectStatusCounterService.add(project.getId(), Status.TODO, createdTasks.size());
+
+        List<TaskResponseDTO> response = new ArrayList<>(createdTasks.size());
+        List<TaskEventDTO> events = new ArrayList<>(createdTasks.size());
+        for (Task createdTask : createdTasks) {
+            events.add(new TaskEventDTO(TaskEventType.CREATED, project.getId(), createdTask.getId(), createdTask.getStatus()));
+            response.add(responseMapper.toTaskResponseDTO(createdTask));
+        }
+        publishTaskEvents(project.getId(), events);
+        return response;
+    }
+
     /**
      * Retrieves a single task by its ID within a specific project, ensuring the authenticated user has permission to view it.
      * The task must belong to the specified project.
@@ -114,9 +226,46 @@ public class TaskService {
         // Chama o método que verifica se o usuário é dono da tarefa ou se é um administrador
         ensureUserCanAccessTask(task, userFromToken);
         
-        return modelMapper.map(task, TaskResponseDTO.class);
+        return responseMapper.toTaskResponseDTO(task);
     }
-    
+
+    /**
+     * Retrieves a single task and its ETag, with the same checks as getTasksById, mapping it only
+     * when the client does not already have its current state: a poll for an unchanged task is
+     * answered with 304 (Not Modified) without mapping it.
+     *
+     * @param id_project The ID of the Project to which the task is expected to belong.
+     * @param id_task The unique ID of the task.
+     * @param userFromToken The authenticated User attempting to view the task.
+     * @param notModified Tells, from the ETag, whether the client already has the current state.
+     * @return The strong ETag of the task, with the mapped task, or without it when not modified.
+     */
+    public TaggedTask getTaskById(Long id_project, Long id_task, User userFromToken, Predicate<String> notModified){
+        Task task = taskRepository.findById(id_task)
+                .orElseThrow(() -> new ResourceNotFoundException("Task Not Found."));
+
+        ensureProjectMatchesTask(task, id_project);
+        ensureUserCanAccessTask(task, userFromToken);
+
+        String etag = buildTaskETag(task.getId(), task.getVersion());
+        if (notModified.test(etag)) {
+            return new TaggedTask(etag, null);
+        }
+        return new TaggedTask(etag, responseMapper.toTaskResponseDTO(task));
+    }
+
+    /**
+     * Builds the ETag of a task from its version and the state of its owner and responsible users,
+     * since their changes do not increment the version of the task.
+     *
+     * @param id The unique ID of the task.
+     * @param version The version of the task.
+     * @return The strong ETag of the task.
+     */
+    public String buildTaskETag(Long id, Long version){
+        return ETagCodec.encode(version, taskRepository.findRenderedUsers(id));
+    }
+
     /**
      * Retrieves a paginated list of tasks assigned to a specific user within a given project.
      * An administrator can retrieve tasks for any user in any project.
@@ -163,8 +312,50 @@ public class TaskService {
      * @param userFromToken The authenticated User making the request.
      * @return A PagedResponse containing a page of TaskResponseFilteredDTO objects.
      */
-    public PagedResponse<TaskResponseFilteredDTO> getAllTasksFiltered(String status, LocalDateTime dueDate, Long projectId, Pageable pageable, User userFromToken){        
+    public PagedResponse<TaskResponseFilteredDTO> getAllTasksFiltered(String status, LocalDateTime dueDate, Long projectId, Pageable pageable, User userFromToken){
+        return getAllTasksFiltered(null, status, dueDate, projectId, pageable, userFromToken);
+    }
+
+    /**
+     * Retrieves a paginated and filtered list of tasks, optionally searching their title and description.
+     * When a search text is given, the hits are ranked by relevance instead of following the sort of the pageable.
+     * Access rules are the same as in getAllTasksFiltered without a search text.
+     *
+     * @param text The text to search for in the title and description. Can be null or blank to only filter.
+     * @param status The status of the task as a String ("TODO", "IN_PROGRESS", "DONE"). Can be null.
+     * @param dueDate The due date to filter tasks by (tasks due on or before this date). Can be null.
+     * @param projectId The ID of the Project to filter tasks by. Can be null.
+     * @param pageable Pagination information (page number, page size, sorting).
+     * @param userFromToken The authenticated User making the request.
+     * @return A PagedResponse containing a page of TaskResponseFilteredDTO objects.
+     * @throws IllegalArgumentException if the search text is longer than 200 characters.
+     */
+    public PagedResponse<TaskResponseFilteredDTO> getAllTasksFiltered(String text, String status, LocalDateTime dueDate, Long projectId, Pageable pageable, User userFromToken){
+        return getAllTasksFiltered(text, status, dueDate, projectId, pageable, CountMode.EXACT, userFromToken);
+    }
+
+    /**
+     * Retrieves a paginated and filtered list of tasks, obtaining the total as the count mode says:
+     * EXACT counts the matching tasks, CACHED reuses a count of the same filters made in the last seconds,
+     * and NONE skips the count, reporting only whether there is a next page (totals are returned as -1).
+     * Access rules are the same as in getAllTasksFiltered without a count mode.
+     *
+     * @param text The text to search for in the title and description. Can be null or blank to only filter.
+     * @param status The status of the task as a String ("TODO", "IN_PROGRESS", "DONE"). Can be null.
+     * @param dueDate The due date to filter tasks by (tasks due on or before this date). Can be null.
+     * @param projectId The ID of the Project to filter tasks by. Can be null.
+     * @param pageable Pagination information (page number, page size, sorting).
+     * @param countMode How to obtain the total number of tasks.
+     * @param userFromToken The authenticated User making the request.
+     * @return A PagedResponse containing a page of TaskResponseFilteredDTO objects.
+     * @throws IllegalArgumentException if the search text is longer than 200 characters.
+     */
+    public PagedResponse<TaskResponseFilteredDTO> getAllTasksFiltered(String text, String status, LocalDateTime dueDate, Long projectId, Pageable pageable, CountMode countMode, User userFromToken){
         Status statusEnum = transformStatusToEnum(status);
+        boolean search = text != null && !text.isBlank();
+        if (search && text.length() > MAX_SEARCH_TEXT_LENGTH) {
+            throw new IllegalArgumentException("The search text must have at most " + MAX_SEARCH_TEXT_LENGTH + " characters.");
+        }
 
         if(projectId != null){
             Project project = projectRepository.findById(projectId)
@@ -173,8 +364,20 @@ public class TaskService {
             projectService.ensureUserCanViewProject(project, userFromToken);
         }
 
-        Page<Task> tasksList;
-        if(isADM(userFromToken)){
+        // sem paginação não há página seguinte: a lista completa já diz o total
+        CountMode mode = pageable.isPaged() ? countMode : CountMode.EXACT;
+        Slice<Task> tasksList;
+        if(search){
+            tasksList = isADM(userFromToken)
+                ? taskRepository.searchTasks(text.trim(), statusEnum, dueDate, projectId, pageable, mode)
+                : taskRepository.searchTasksByUser(text.trim(), statusEnum, dueDate, projectId, userFromToken.getUserId(), pageable, mode);
+        }
+        else if(mode != CountMode.EXACT){
+            tasksList = isADM(userFromToken)
+                ? taskRepository.findTasksFiltered(statusEnum, dueDate, projectId, pageable, mode)
+                : taskRepository.findTasksFilteredByUser(statusEnum, dueDate, projectId, userFromToken.getUserId(), pageable, mode);
+        }
+        else if(isADM(userFromToken)){
             tasksList = taskRepository.findTasksFiltered(statusEnum, dueDate, projectId, pageable);
         }
         else{
@@ -183,6 +386,81 @@ public class TaskService {
         return pagedResponseMapper.toPagedResponse(tasksList, TaskResponseFilteredDTO.class);
     }
     
+    /**
+     * Prepares the streaming export of all the tasks matching the filters, without pagination.
+     * The filters and the access to the project are checked right away, so errors are reported
+     * before anything is written; the returned body then streams the tasks to the response.
+     * Access rules are the same as in getAllTasksFiltered.
+     *
+     * @param status The status of the task as a String ("TODO", "IN_PROGRESS", "DONE"). Can be null.
+     * @param dueDate The due date to filter tasks by (tasks due on or before this date). Can be null.
+     * @param projectId The ID of the Project to filter tasks by. Can be null.
+     * @param format The format of the export (NDJSON or CSV).
+     * @param userFromToken The authenticated User making the request.
+     * @return A StreamingResponseBody that writes the tasks in the given format.
+     */
+    public StreamingResponseBody exportTasksFiltered(String status, LocalDateTime dueDate, Long projectId, ExportFormat format, User userFromToken) {
+        Status statusEnum = transformStatusToEnum(status);
+
+        if(projectId != null){
+            Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new ResourceNotFoundException("Project not found."));
+
+            projectService.ensureUserCanViewProject(project, userFromToken);
+        }
+
+        // administradores exportam as tarefas de todos os usuários
+        Long userId = isADM(userFromToken) ? null : userFromToken.getUserId();
+        return outputStream -> taskExportService.writeTasks(statusEnum, dueDate, projectId, userId, format, outputStream);
+    }
+
+    /**
+     * Retrieves a filtered list of tasks using keyset (cursor) pagination ordered by due date and ID.
+     * Deep pages cost the same as the first one and no count query is run.
+     * Access rules are the same as in getAllTasksFiltered.
+     *
+     * @param status The status of the task as a String ("TODO", "IN_PROGRESS", "DONE"). Can be null.
+     * @param dueDate The due date to filter tasks by (tasks due on or before this date). Can be null.
+     * @param projectId The ID of the Project to filter tasks by. Can be null.
+     * @param cursor The nextCursor returned with the previous page. Null for the first page.
+     * @param size The maximum number of tasks of the page.
+     * @param userFromToken The authenticated User making the request.
+     * @return A CursorPagedResponse containing the TaskResponseFilteredDTO objects of the page.
+     */
+    public CursorPagedResponse<TaskResponseFilteredDTO> getAllTasksFilteredByCursor(String status, LocalDateTime dueDate, Long projectId, String cursor, int size, User userFromToken) {
+        CursorCodec.ensureValidPageSize(size);
+        Status statusEnum = transformStatusToEnum(status);
+
+        LocalDateTime afterDueDate = null;
+        Long afterId = null;
+        if (cursor != null) {
+            String[] position = CursorCodec.decode(cursor, 2);
+            try {
+                afterDueDate = LocalDateTime.parse(position[0]);
+                afterId = Long.valueOf(position[1]);
+            } catch (DateTimeParseException | NumberFormatException ex) {
+                throw new IllegalArgumentException("Invalid cursor.");
+            }
+        }
+
+        if(projectId != null){
+            Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new ResourceNotFoundException("Project not found."));
+
+            projectService.ensureUserCanViewProject(project, userFromToken);
+        }
+
+        // busca um elemento a mais para saber se existe próxima página sem precisar de count
+        List<Task> tasks;
+        if(isADM(userFromToken)){
+            tasks = taskRepository.findTasksFilteredAfter(statusEnum, dueDate, projectId, afterDueDate, afterId, size + 1);
+        }
+        else{
+            tasks = taskRepository.findTasksFilteredByUserAfter(statusEnum, dueDate, projectId, userFromToken.getUserId(), afterDueDate, afterId, size + 1);
+        }
+        return pagedResponseMapper.toCursorPagedResponse(tasks, size, task -> CursorCodec.encode(task.getDueDate(), task.getId()), TaskResponseFilteredDTO.class);
+    }
+
      /**
      * Updates an existing task within a specified project.
      * The task must belong to the specified project.
@@ -194,12 +472,31 @@ public class TaskService {
      * @param userFromToken The authenticated User attempting to update the task.
      * @return A TaskResponseDTO representing the updated task.
      */
+    @Transactional
     public TaskResponseDTO updateTask(Long id_project, Long id_task, TaskRequestDTO taskRequestDTO, User userFromToken) {
+        return updateTask(id_project, id_task, taskRequestDTO, null, userFromToken);
+    }
+
+    /**
+     * Updates an existing task within a specified project, only if it still has the version the client read.
+     * A concurrent update committed between the read and the write is also rejected, by the version check of the UPDATE.
+     *
+     * @param id_project The ID of the Project to which the task is expected to belong.
+     * @param id_task The unique ID of the task to update.
+     * @param taskRequestDTO The TaskRequestDTO containing the updated task details.
+     * @param ifMatch The If-Match header sent by the client, or null for an unconditional update.
+     * @param userFromToken The authenticated User attempting to update the task.
+     * @return A TaskResponseDTO representing the updated task, with its new version.
+     * @throws PreconditionFailedException if the task was modified since the client read it.
+     */
+    @Transactional
+    public TaskResponseDTO updateTask(Long id_project, Long id_task, TaskRequestDTO taskRequestDTO, String ifMatch, User userFromToken) {
         Task task = taskRepository.findById(id_task)
             .orElseThrow(() -> new ResourceNotFoundException("Task Not Found."));
         // Chama o método que verifica se o usuário é dono da tarefa ou se é um administrador
         ensureProjectMatchesTask(task, id_project);
         ensureUserCanAccessTask(task, userFromToken);
+        ETagCodec.ensureMatches(ifMatch, buildTaskETag(task.getId(), task.getVersion()));
 
         List<User> usersResponsability = new ArrayList<>();
         
@@ -213,14 +510,18 @@ public class TaskService {
         task.setOwner(task.getOwner());
         task.setUsersResponsability(usersResponsability);
         Task updated = taskRepository.save(task);
+        // grava já, para que a resposta carregue a nova versão (ETag)
+        taskRepository.flush();
+        publishTaskEvent(TaskEventType.UPDATED, id_project, updated);
         
-        return modelMapper.map(updated, TaskResponseDTO.class);
+        return responseMapper.toTaskResponseDTO(updated);
     }
 
     /**
      * Partially updates an existing task, primarily used for updating the task's Status.
      * The task must belong to the specified project.
      * Only the task owner, a responsible user, or an administrator can update a task.
+     * The task is moved between the status counters of the project in the same transaction.
      *
      * @param id_project The ID of the Project to which the task is expected to belong.
      * @param id_task The unique ID of the task to partially update.
@@ -228,30 +529,102 @@ public class TaskService {
      * @param userFromToken The authenticated User attempting to update the task's status.
      * @return A TaskResponseDTO representing the partially updated task.
      */    
+    @Transactional
     public TaskResponseDTO updateStatus(Long id_project, Long id_task, TaskRequestPatchDTO taskRequestPatchDTO, User userFromToken){
+        return updateStatus(id_project, id_task, taskRequestPatchDTO, null, userFromToken);
+    }
+
+    /**
+     * Partially updates an existing task, only if it still has the version the client read.
+     *
+     * @param id_project The ID of the Project to which the task is expected to belong.
+     * @param id_task The unique ID of the task to partially update.
+     * @param taskRequestPatchDTO The TaskRequestPatchDTO containing the status to be updated.
+     * @param ifMatch The If-Match header sent by the client, or null for an unconditional update.
+     * @param userFromToken The authenticated User attempting to update the task's status.
+     * @return A TaskResponseDTO representing the partially updated task, with its new version.
+     * @throws PreconditionFailedException if the task was modified since the client read it.
+     */
+    @Transactional
+    public TaskResponseDTO updateStatus(Long id_project, Long id_task, TaskRequestPatchDTO taskRequestPatchDTO, String ifMatch, User userFromToken){
         Task task = taskRepository.findById(id_task)
             .orElseThrow(() -> new ResourceNotFoundException("Task Not Found."));
         
         ensureProjectMatchesTask(task, id_project);
         ensureUserCanAccessTask(task, userFromToken);
+        ETagCodec.ensureMatches(ifMatch, buildTaskETag(task.getId(), task.getVersion()));
 
+        Status previousStatus = task.getStatus();
         taskRequestPatchDTO.getStatus().ifPresent(task::setStatus);
         task.setId(id_task);
         task.setOwner(task.getOwner());
         
         Task taskUpdated = taskRepository.save(task);
-        return modelMapper.map(taskUpdated, TaskResponseDTO.class);
+        taskRepository.flush();
+        projectStatusCounterService.move(task.getProject().getId(), previousStatus, taskUpdated.getStatus());
+        publishTaskEvent(TaskEventType.STATUS_CHANGED, id_project, taskUpdated);
+        return responseMapper.toTaskResponseDTO(taskUpdated);
+    }
+
+    /**
+     * Changes the status of several tasks of a project in a single request, as done when a column
+     * of cards is moved on a task board. Access is checked for all the tasks at once: an administrator
+     * may update any task of the project, other users only the tasks they own or are responsible for.
+     * The allowed tasks are updated with a single UPDATE statement and the others are reported as failures.
+     * Their previous statuses are read under a row lock, so the status counters of the project are moved exactly.
+     *
+     * @param id_project The ID of the Project to which the tasks are expected to belong.
+     * @param taskStatusBulkRequestDTO The TaskStatusBulkRequestDTO containing the task IDs and the new status.
+     * @param userFromToken The authenticated User attempting to update the tasks.
+     * @return One TaskStatusResultDTO per distinct task ID, in the order they were sent.
+     * @throws ResourceNotFoundException if the project is not found.
+     */
+    @Transactional
+    public List<TaskStatusResultDTO> updateStatuses(Long id_project, TaskStatusBulkRequestDTO taskStatusBulkRequestDTO, User userFromToken) {
+        findprojects(id_project);
+
+        Set<Long> taskIds = new LinkedHashSet<>(taskStatusBulkRequestDTO.getTaskIds());
+
+        Set<Long> existingIds = new HashSet<>(taskRepository.findIdsByIdInAndProjectId(taskIds, id_project));
+        Set<Long> allowedIds = isADM(userFromToken) || existingIds.isEmpty()
+            ? existingIds
+            : new HashSet<>(taskRepository.findIdsByIdInAndProjectIdAccessibleBy(existingIds, id_project, userFromToken.getUserId()));
+
+        if (!allowedIds.isEmpty()) {
+            List<Status> previousStatuses = taskRepository.lockStatusesByIdIn(allowedIds);
+            taskRepository.updateStatusByIdIn(allowedIds, taskStatusBulkRequestDTO.getStatus());
+            projectStatusCounterService.moveAll(id_project, previousStatuses, taskStatusBulkRequestDTO.getStatus());
+            List<TaskEventDTO> events = new ArrayList<>(allowedIds.size());
+            for (Long taskId : allowedIds) {
+                events.add(new TaskEventDTO(TaskEventType.STATUS_CHANGED, id_project, taskId, taskStatusBulkRequestDTO.getStatus()));
+            }
+            publishTaskEvents(id_project, events);
+        }
+
+        List<TaskStatusResultDTO> results = new ArrayList<>(taskIds.size());
+        for (Long taskId : taskIds) {
+            if (allowedIds.contains(taskId)) {
+                results.add(new TaskStatusResultDTO(taskId, true, null));
+            } else if (existingIds.contains(taskId)) {
+                results.add(new TaskStatusResultDTO(taskId, false, "FORBIDDEN - You do not have permission to modify this task."));
+            } else {
+                results.add(new TaskStatusResultDTO(taskId, false, "Task Not Found."));
+            }
+        }
+        return results;
     }
 
     /**
      * Deletes a task from the system.
      * The task must belong to the specified project.
      * Only the task owner, a responsible user, or an administrator can delete a task.
+     * The task is removed from the status counters of the project in the same transaction.
      *
      * @param id_project The ID of the Project to which the task is expected to belong.
      * @param id_task The unique ID of the task to delete.
      * @param userFromToken The authenticated User attempting to delete the task.
      */    
+    @Transactional
     public void deleteTask(Long id_project, Long id_task, User userFromToken) {
         Task task = taskRepository.findById(id_task)
             .orElseThrow(() -> new ResourceNotFoundException("Task Not Found."));
@@ -260,6 +633,21 @@ public class TaskService {
         ensureUserCanAccessTask(task, userFromToken);
 
         taskRepository.delete(task);
+        projectStatusCounterService.add(task.getProject().getId(), task.getStatus(), -1);
+        publishTaskEvent(TaskEventType.DELETED, id_project, task);
+    }
+
+    // entregue aos inscritos do projeto, em todos os nós, somente após o commit (ProjectEventService)
+    private void publishTaskEvent(TaskEventType type, Long projectId, Task task) {
+        changeBus.publish(ChangeNotification.tasks(projectId, List.of(new TaskEventDTO(type, projectId, task.getId(), task.getStatus()))));
+    }
+
+    // em lotes, para respeitar o limite de 8000 bytes da notificação do PostgreSQL
+    private void publishTaskEvents(Long projectId, List<TaskEventDTO> events) {
+        for (int from = 0; from < events.size(); from += TASK_EVENTS_PER_NOTIFICATION) {
+            List<TaskEventDTO> chunk = events.subList(from, Math.min(from + TASK_EVENTS_PER_NOTIFICATION, events.size()));
+            changeBus.publish(ChangeNotification.tasks(projectId, new ArrayList<>(chunk)));
+        }
     }
     
     private User findUsers(Long id_task){
@@ -304,4 +692,10 @@ public class TaskService {
         } 
         return null;
     }
+
+    /**
+     * A task and its ETag; the task is null when the client already has its current state.
+     */
+    public record TaggedTask(String etag, TaskResponseDTO task) {
+    }
 }
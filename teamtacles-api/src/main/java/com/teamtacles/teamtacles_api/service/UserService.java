@@ -3,9 +3,12 @@ package com.teamtacles.teamtacles_api.service;
 import java.util.List;
 import java.util.Set;
 
-import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
 
+import io.micrometer.core.annotation.Timed;
+
+import com.teamtacles.teamtacles_api.changebus.ChangeBus;
+import com.teamtacles.teamtacles_api.changebus.ChangeNotification;
 import com.teamtacles.teamtacles_api.dto.page.PagedResponse;
 import com.teamtacles.teamtacles_api.dto.request.RoleRequestDTO;
 import com.teamtacles.teamtacles_api.dto.request.UserRequestDTO;
@@ -15,17 +18,21 @@ import com.teamtacles.teamtacles_api.exception.PasswordMismatchException;
 import com.teamtacles.teamtacles_api.exception.ResourceNotFoundException;
 import com.teamtacles.teamtacles_api.exception.UsernameAlreadyExistsException;
 import com.teamtacles.teamtacles_api.mapper.PagedResponseMapper;
+import com.teamtacles.teamtacles_api.mapper.ResponseMapper;
 import com.teamtacles.teamtacles_api.model.Role;
 import com.teamtacles.teamtacles_api.model.User;
+import com.teamtacles.teamtacles_api.model.enums.CountMode;
 import com.teamtacles.teamtacles_api.model.enums.ERole;
+import com.teamtacles.teamtacles_api.repository.CountCache;
 import com.teamtacles.teamtacles_api.repository.RoleRepository;
 import com.teamtacles.teamtacles_api.repository.UserRepository;
-import java.util.stream.Collectors; 
-import com.teamtacles.teamtacles_api.dto.response.RoleResponseDTO;
+import com.teamtacles.teamtacles_api.security.AuthenticatedUserCache;
+import com.teamtacles.teamtacles_api.security.PasswordHasher;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.data.domain.Slice;
+import org.springframework.transaction.annotation.Transactional;
 
 /** 
  * Service class responsible for managing user-related business logic in the TeamTacles application.
@@ -37,21 +44,28 @@ import org.springframework.security.crypto.password.PasswordEncoder;
  * @since 2025-05-25
  */
 @Service
+@Timed(value = "teamtacles.service", histogram = true)
 public class UserService {
     
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final RoleRepository roleRepository;
     private final PagedResponseMapper pagedResponseMapper;
-    private final ModelMapper modelMapper; 
+    private final ResponseMapper responseMapper;
+    private final AuthenticatedUserCache authenticatedUserCache;
+    private final ChangeBus changeBus;
+    private final CountCache countCache;
 
 
-   public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder, RoleRepository roleRepository, PagedResponseMapper pagedResponseMapper, ModelMapper modelMapper) {
+   public UserService(UserRepository userRepository, PasswordHasher passwordHasher, RoleRepository roleRepository, PagedResponseMapper pagedResponseMapper, ResponseMapper responseMapper, AuthenticatedUserCache authenticatedUserCache, ChangeBus changeBus, CountCache countCache) {
         this.userRepository = userRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHasher = passwordHasher;
         this.roleRepository = roleRepository;
         this.pagedResponseMapper = pagedResponseMapper;
-        this.modelMapper = modelMapper;
+        this.responseMapper = responseMapper;
+        this.authenticatedUserCache = authenticatedUserCache;
+        this.changeBus = changeBus;
+        this.countCache = countCache;
     }
 
     /**
@@ -76,31 +90,21 @@ public class UserService {
         User user = new User();
         user.setUserName(userRequestDTO.getUserName());
         user.setEmail(userRequestDTO.getEmail());
-        user.setPassword(passwordEncoder.encode(userRequestDTO.getPassword()));
+        user.setPassword(passwordHasher.encode(userRequestDTO.getPassword()));
         Role userRole = roleRepository.findByRoleName(ERole.USER)
             .orElseThrow(() -> new ResourceNotFoundException("Error: Role USER not found."));
         user.setRoles(Set.of(userRole));
         User savedUser = userRepository.save(user);
 
-        UserResponseDTO userResponseDTO = modelMapper.map(savedUser, UserResponseDTO.class);
-
-        // Mapeia roles para RoleResponseDTO
-        if(savedUser.getRoles() != null) {
-            userResponseDTO.setRoles(
-                savedUser.getRoles().stream()
-                    .map(roleEntity -> modelMapper.map(roleEntity, RoleResponseDTO.class))
-                    .collect(Collectors.toSet())
-            );
-            
-        }
-
-        return userResponseDTO;
+        return responseMapper.toUserResponseDTO(savedUser);
     }
 
     /**
      * Updates the role of an existing user.
      * This method retrieves a user by their ID, assigns a new role based on the request,
      * clearing any previous roles, and then saves the updated user.
+     * The cached authentication data of the user is evicted, on this node and through the change bus on
+     * the others, so the new role applies to the next request.
      *
      * @param The unique ID of the user whose role is to be updated.
      * @param The RoleRequestDTO containing the new role name.
@@ -119,20 +123,27 @@ public class UserService {
         user.getRoles().add(userNewRole);
 
         User updatedUser = userRepository.save(user);
-        UserResponseDTO userResponseDTO = modelMapper.map(updatedUser, UserResponseDTO.class);
-
-        // Mapeia roles para RoleResponseDTO
-        if(updatedUser.getRoles() != null) {
-            userResponseDTO.setRoles(
-                updatedUser.getRoles().stream()
-                    .map(roleEntity -> modelMapper.map(roleEntity, RoleResponseDTO.class))
-                    .collect(Collectors.toSet())
-            );
-        }
-
-        
-        return userResponseDTO;
+        // remove o usuário do cache de autenticação para que a nova role valha na próxima requisição
+        authenticatedUserCache.evict(id);
+        // e nos demais nós, após o commit
+        changeBus.publish(ChangeNotification.userRoles(id));
+        return responseMapper.toUserResponseDTO(updatedUser);
+    }
 
+    /**
+     * Replaces the stored password hash of a user with one made with the current BCrypt cost.
+     * Called after a successful login; the hash is only replaced if it is still the one that was
+     * verified, so a password changed in the meantime is never overwritten.
+     *
+     * @param userId The ID of the user.
+     * @param currentHash The hash verified on login.
+     * @param newHash The hash of the same password with the current cost.
+     */
+    @Transactional
+    public void updatePasswordHash(Long userId, String currentHash, String newHash) {
+        userRepository.findById(userId)
+            .filter(user -> currentHash.equals(user.getPassword()))
+            .ifPresent(user -> user.setPassword(newHash));
     }
 
     /**
@@ -142,7 +153,28 @@ public class UserService {
      * @return A PagedResponse containing a page of UserResponseDTO objects.
      */
     public PagedResponse<UserResponseDTO> getAllUsers(Pageable pageable) {
-        Page<User> users = userRepository.findAll(pageable);
+        return getAllUsers(pageable, CountMode.EXACT);
+    }
+
+    /**
+     * Retrieves a paginated list of all users, obtaining the total as the count mode says:
+     * EXACT counts the users, CACHED reuses a count made in the last seconds,
+     * and NONE skips the count, reporting only whether there is a next page (totals are returned as -1).
+     *
+     * @param pageable Pagination information (page number, page size, sorting).
+     * @param countMode How to obtain the total number of users.
+     * @return A PagedResponse containing a page of UserResponseDTO objects.
+     */
+    public PagedResponse<UserResponseDTO> getAllUsers(Pageable pageable, CountMode countMode) {
+        if (countMode == CountMode.EXACT || pageable.isUnpaged()) {
+            Page<User> users = userRepository.findAll(pageable);
+            return pagedResponseMapper.toPagedResponse(users, UserResponseDTO.class);
+        }
+
+        Slice<User> users = userRepository.findAllBy(pageable);
+        if (countMode == CountMode.CACHED) {
+            users = countCache.toSlice(users.getContent(), pageable, countMode, CountCache.key("users"), userRepository::count);
+        }
         return pagedResponseMapper.toPagedResponse(users, UserResponseDTO.class);
     }
 }
@@ -0,0 +1,43 @@
+package com.teamtacles.teamtacles_api.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * SHA-256 helpers shared by the code that stores or compares hashes instead of the values
+ * themselves: refresh tokens, the verified JWT cache keys and the ETags.
+ *
+ * @author TeamTacles
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class Digests {
+
+    private Digests() {
+    }
+
+    /**
+     * Returns a new SHA-256 digest, for callers that feed it incrementally.
+     *
+     * @return A new MessageDigest for SHA-256.
+     */
+    public static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available.", ex);
+        }
+    }
+
+    /**
+     * Hashes a string with SHA-256.
+     *
+     * @param value The string to hash, encoded as UTF-8.
+     * @return The hash as 64 lowercase hexadecimal characters.
+     */
+    public static String sha256Hex(String value) {
+        return HexFormat.of().formatHex(sha256().digest(value.getBytes(StandardCharsets.UTF_8)));
+    }
+}
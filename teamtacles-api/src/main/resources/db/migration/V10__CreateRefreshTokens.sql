@@ -0,0 +1,25 @@
+-- refresh tokens: só o hash SHA-256 do token é gravado; family_id agrupa as rotações de um mesmo login
+-- revoked_at marca o token já usado (rotacionado) ou revogado; reapresentá-lo revoga a família inteira
+CREATE TABLE IF NOT EXISTS refresh_token (
+    id BIGSERIAL PRIMARY KEY,
+    token_hash VARCHAR(64) NOT NULL,
+    family_id VARCHAR(36) NOT NULL,
+    user_id BIGINT NOT NULL,
+    expires_at TIMESTAMP NOT NULL,
+    revoked_at TIMESTAMP,
+    access_token_id VARCHAR(36) NOT NULL,
+    access_token_expires_at TIMESTAMP NOT NULL,
+    FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS idx_refresh_token_token_hash ON refresh_token (token_hash);
+CREATE INDEX IF NOT EXISTS idx_refresh_token_family_id ON refresh_token (family_id);
+CREATE INDEX IF NOT EXISTS idx_refresh_token_expires_at ON refresh_token (expires_at);
+
+-- access tokens (jti) revogados antes de expirar: a lista de revogação de cada nó é carregada daqui
+CREATE TABLE IF NOT EXISTS revoked_token (
+    token_id VARCHAR(36) PRIMARY KEY,
+    expires_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_revoked_token_expires_at ON revoked_token (expires_at);
@@ -0,0 +1,3 @@
+CREATE INDEX IF NOT EXISTS idx_task_project_status_due_date ON task (project_id, status, due_date);
+
+CREATE INDEX IF NOT EXISTS idx_users_responsability_user_task ON users_responsability (user_id, task_id);
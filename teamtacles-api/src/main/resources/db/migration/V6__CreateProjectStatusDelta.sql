@@ -0,0 +1,16 @@
+-- contadores de tarefas por projeto e status, mantidos como linhas de delta (somente INSERT),
+-- para que escritores concorrentes de um mesmo projeto não disputem a mesma linha;
+-- a compactação periódica soma os deltas em uma única linha por projeto e status
+CREATE TABLE IF NOT EXISTS project_status_delta (
+    id BIGSERIAL PRIMARY KEY,
+    project_id BIGINT NOT NULL,
+    status VARCHAR(10) NOT NULL,
+    delta BIGINT NOT NULL,
+    FOREIGN KEY (project_id) REFERENCES project(id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS idx_project_status_delta_project_status ON project_status_delta (project_id, status);
+
+-- contagem inicial a partir das tarefas existentes
+INSERT INTO project_status_delta (project_id, status, delta)
+SELECT project_id, status, COUNT(*) FROM task WHERE status IS NOT NULL GROUP BY project_id, status;
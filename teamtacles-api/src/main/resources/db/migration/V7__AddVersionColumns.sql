@@ -0,0 +1,4 @@
+-- versão usada no controle de concorrência otimista (@Version) e exposta como ETag
+ALTER TABLE task ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE project ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,85 @@
+package com.teamtacles.teamtacles_api.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.teamtacles.teamtacles_api.model.Project;
+import com.teamtacles.teamtacles_api.model.Task;
+import com.teamtacles.teamtacles_api.model.User;
+import com.teamtacles.teamtacles_api.model.enums.ERole;
+import com.teamtacles.teamtacles_api.service.ProjectService;
+import com.teamtacles.teamtacles_api.service.TaskService;
+
+/**
+ * Measures the access checks of ProjectService and TaskService for a regular user.
+ * The project check asks the repository (answered here by a stub) instead of scanning the team,
+ * so its cost must not grow with the team size. The task check still scans the responsible users,
+ * with the user as the last one, the worst case of the scan; it is measured through
+ * TaskService.getTaskById with a client that already has the current ETag, so the task is not mapped.
+ *
+ * Run with: mvn -Pbenchmark verify -Dbenchmark.include=AccessCheckBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AccessCheckBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    private int teamSize;
+
+    private ProjectService projectService;
+    private TaskService taskService;
+    private Project project;
+    private Task task;
+    private User member;
+    private User admin;
+
+    @Setup
+    public void setUp() {
+        // as verificações não usam os demais repositórios nem os mappers
+        projectService = new ProjectService(BenchmarkData.teamMemberRepository(), null, null, null, null, null, null);
+
+        List<User> team = BenchmarkData.users(teamSize);
+        member = team.get(teamSize - 1);
+        admin = BenchmarkData.user(teamSize + 1L, ERole.ADMIN);
+        project = BenchmarkData.project(1L, team);
+
+        task = BenchmarkData.tasks(project, 1).get(0);
+        task.setOwner(team.get(0));
+        task.setUsersResponsability(team);
+        task.setVersion(0L);
+        taskService = new TaskService(BenchmarkData.taskRepository(task), null, null, projectService, null, null, null, null, null, null);
+    }
+
+    @Benchmark
+    public Project ensureUserCanViewProjectAsMember() {
+        projectService.ensureUserCanViewProject(project, member);
+        return project;
+    }
+
+    @Benchmark
+    public Project ensureUserCanViewProjectAsAdmin() {
+        projectService.ensureUserCanViewProject(project, admin);
+        return project;
+    }
+
+    @Benchmark
+    public TaskService.TaggedTask getTaskByIdAsResponsible() {
+        return taskService.getTaskById(project.getId(), task.getId(), member, etag -> true);
+    }
+}
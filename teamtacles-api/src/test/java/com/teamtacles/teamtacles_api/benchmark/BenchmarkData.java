@@ -0,0 +1,100 @@
+package com.teamtacles.teamtacles_api.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import com.teamtacles.teamtacles_api.model.Project;
+import com.teamtacles.teamtacles_api.model.Role;
+import com.teamtacles.teamtacles_api.model.Task;
+import com.teamtacles.teamtacles_api.model.User;
+import com.teamtacles.teamtacles_api.model.enums.ERole;
+import com.teamtacles.teamtacles_api.model.enums.Status;
+import com.teamtacles.teamtacles_api.repository.ProjectRepository;
+import com.teamtacles.teamtacles_api.repository.TaskRepository;
+
+// monta entidades em memória para os benchmarks, sem banco de dados
+public final class BenchmarkData {
+
+    private BenchmarkData() {
+    }
+
+    // repositório que responde apenas isTeamMember (sempre verdadeiro), sem o custo de um mock do Mockito
+    public static ProjectRepository teamMemberRepository() {
+        return (ProjectRepository) Proxy.newProxyInstance(ProjectRepository.class.getClassLoader(),
+            new Class<?>[] { ProjectRepository.class },
+            (proxy, method, args) -> {
+                if (method.getName().equals("isTeamMember")) {
+                    return Boolean.TRUE;
+                }
+                throw new UnsupportedOperationException(method.getName());
+            });
+    }
+
+    // repositório que devolve sempre a mesma tarefa, sem usuários renderizados para a ETag
+    public static TaskRepository taskRepository(Task task) {
+        return (TaskRepository) Proxy.newProxyInstance(TaskRepository.class.getClassLoader(),
+            new Class<?>[] { TaskRepository.class },
+            (proxy, method, args) -> switch (method.getName()) {
+                case "findById" -> Optional.of(task);
+                case "findRenderedUsers" -> List.of();
+                default -> throw new UnsupportedOperationException(method.getName());
+            });
+    }
+
+    public static User user(long id, ERole roleName) {
+        Role role = new Role();
+        role.setId(roleName == ERole.ADMIN ? 2L : 1L);
+        role.setRoleName(roleName);
+
+        User user = new User();
+        user.setUserId(id);
+        user.setUserName("user" + id);
+        user.setEmail("user" + id + "@example.com");
+        user.setPassword("12345");
+        user.setRoles(Set.of(role));
+        return user;
+    }
+
+    public static List<User> users(int count) {
+        List<User> users = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            users.add(user(i, ERole.USER));
+        }
+        return users;
+    }
+
+    public static Project project(long id, List<User> team) {
+        Project project = new Project();
+        project.setId(id);
+        project.setTitle("Project " + id);
+        project.setDescription("Benchmark project " + id);
+        project.setCreator(team.get(0));
+        project.setTeam(team);
+        project.setTasks(new ArrayList<>());
+        return project;
+    }
+
+    // cada tarefa tem o owner e três responsáveis tirados do time do projeto
+    public static List<Task> tasks(Project project, int count) {
+        List<User> team = project.getTeam();
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Task task = new Task();
+            task.setId((long) i + 1);
+            task.setTitle("Task " + i);
+            task.setDescription("Benchmark task " + i);
+            task.setDueDate(LocalDateTime.now().plusDays(i + 1));
+            task.setStatus(Status.values()[i % Status.values().length]);
+            task.setOwner(team.get(i % team.size()));
+            task.setUsersResponsability(List.of(team.get(i % team.size()), team.get((i + 1) % team.size()), team.get((i + 2) % team.size())));
+            task.setProject(project);
+            tasks.add(task);
+        }
+        project.getTasks().addAll(tasks);
+        return tasks;
+    }
+}
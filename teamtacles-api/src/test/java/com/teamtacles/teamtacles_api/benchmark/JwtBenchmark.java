@@ -0,0 +1,137 @@
+package com.teamtacles.teamtacles_api.benchmark;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import com.teamtacles.teamtacles_api.model.User;
+import com.teamtacles.teamtacles_api.model.enums.ERole;
+import com.teamtacles.teamtacles_api.security.AuthenticatedUserCache;
+import com.teamtacles.teamtacles_api.security.CachingJwtDecoder;
+import com.teamtacles.teamtacles_api.security.CustomJwtAuthenticationConverter;
+import com.teamtacles.teamtacles_api.security.TokenRevocationList;
+import com.teamtacles.teamtacles_api.service.JwtService;
+
+/**
+ * Measures the JWT paths: issuing a token on login and turning a decoded token into the
+ * authentication of a request (with the authenticated user cache warm).
+ *
+ * The decode benchmarks compare the RS256 verification of every request with the verified token
+ * cache (CachingJwtDecoder): cold is a miss on every call (hash + verification + insert), warm is
+ * the same token reused across requests, as clients do until it expires.
+ *
+ * Run with: mvn -Pbenchmark verify -Dbenchmark.include=JwtBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtBenchmark {
+
+    private JwtService jwtService;
+    private NimbusJwtDecoder jwtDecoder;
+    private CachingJwtDecoder warmDecoder;
+    private CustomJwtAuthenticationConverter converter;
+    private User user;
+    private String token;
+    private Jwt jwt;
+
+    @Setup
+    public void setUp() throws NoSuchAlgorithmException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        KeyPair keyPair = generator.generateKeyPair();
+        RSAPublicKey publicKey = (RSAPublicKey) keyPair.getPublic();
+        RSAPrivateKey privateKey = (RSAPrivateKey) keyPair.getPrivate();
+
+        // mesma configuração do SecurityConfig
+        RSAKey jwk = new RSAKey.Builder(publicKey).privateKey(privateKey).build();
+        jwtService = new JwtService(new NimbusJwtEncoder(new ImmutableJWKSet<>(new JWKSet(jwk))), Duration.ofMinutes(15));
+        jwtDecoder = NimbusJwtDecoder.withPublicKey(publicKey).build();
+
+        user = BenchmarkData.user(1L, ERole.USER);
+        token = jwtService.generateToken(user);
+        jwt = jwtDecoder.decode(token);
+
+        warmDecoder = new CachingJwtDecoder(jwtDecoder, 10_000, Duration.ofHours(1));
+        warmDecoder.decode(token);
+
+        AuthenticatedUserCache authenticatedUserCache = new AuthenticatedUserCache(10_000, Duration.ofHours(1));
+        authenticatedUserCache.get(user.getUserId(), id -> user);
+        converter = new CustomJwtAuthenticationConverter();
+        ReflectionTestUtils.setField(converter, "authenticatedUserCache", authenticatedUserCache);
+        ReflectionTestUtils.setField(converter, "tokenRevocationList", new TokenRevocationList(null, Duration.ofMinutes(15), 10_000));
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public AbstractAuthenticationToken convert() {
+        return converter.convert(jwt);
+    }
+
+    @Benchmark
+    public AbstractAuthenticationToken decodeAndConvert() {
+        return converter.convert(jwtDecoder.decode(token));
+    }
+
+    @Benchmark
+    public Jwt decodeUncached() {
+        return jwtDecoder.decode(token);
+    }
+
+    @Benchmark
+    public Jwt decodeCachedCold(ColdDecoder cold) {
+        return cold.decoder.decode(token);
+    }
+
+    @Benchmark
+    public Jwt decodeCachedWarm() {
+        return warmDecoder.decode(token);
+    }
+
+    @Benchmark
+    public AbstractAuthenticationToken decodeCachedAndConvert() {
+        return converter.convert(warmDecoder.decode(token));
+    }
+
+    // um cache vazio a cada chamada: a eviction do Caffeine é assíncrona, então um cache de tamanho 0 ainda acertaria
+    @State(Scope.Thread)
+    public static class ColdDecoder {
+        private CachingJwtDecoder decoder;
+
+        @Setup(Level.Invocation)
+        public void setUp(JwtBenchmark benchmark) {
+            decoder = new CachingJwtDecoder(benchmark.jwtDecoder, 10_000, Duration.ofHours(1));
+        }
+    }
+}
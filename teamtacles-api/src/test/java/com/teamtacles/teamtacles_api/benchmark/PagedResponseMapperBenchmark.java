@@ -0,0 +1,70 @@
+package com.teamtacles.teamtacles_api.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import com.teamtacles.teamtacles_api.dto.page.PagedResponse;
+import com.teamtacles.teamtacles_api.dto.response.TaskResponseFilteredDTO;
+import com.teamtacles.teamtacles_api.dto.response.UserResponseDTO;
+import com.teamtacles.teamtacles_api.mapper.PagedResponseMapper;
+import com.teamtacles.teamtacles_api.mapper.ResponseMapper;
+import com.teamtacles.teamtacles_api.model.Project;
+import com.teamtacles.teamtacles_api.model.Task;
+import com.teamtacles.teamtacles_api.model.User;
+
+/**
+ * Measures PagedResponseMapper.toPagedResponse on the task search and user listing pages.
+ *
+ * Run with: mvn -Pbenchmark verify -Dbenchmark.include=PagedResponseMapperBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PagedResponseMapperBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int pageSize;
+
+    private PagedResponseMapper pagedResponseMapper;
+    private Page<Task> tasksPage;
+    private Page<User> usersPage;
+
+    @Setup
+    public void setUp() {
+        pagedResponseMapper = new PagedResponseMapper(new ResponseMapper(new ModelMapper()));
+
+        List<User> users = BenchmarkData.users(pageSize);
+        Project project = BenchmarkData.project(1L, users);
+        tasksPage = new PageImpl<>(BenchmarkData.tasks(project, pageSize), PageRequest.of(0, pageSize), pageSize * 10L);
+        usersPage = new PageImpl<>(users, PageRequest.of(0, pageSize), pageSize * 10L);
+    }
+
+    @Benchmark
+    public PagedResponse<TaskResponseFilteredDTO> taskPage() {
+        return pagedResponseMapper.toPagedResponse(tasksPage, TaskResponseFilteredDTO.class);
+    }
+
+    @Benchmark
+    public PagedResponse<UserResponseDTO> userPage() {
+        return pagedResponseMapper.toPagedResponse(usersPage, UserResponseDTO.class);
+    }
+}
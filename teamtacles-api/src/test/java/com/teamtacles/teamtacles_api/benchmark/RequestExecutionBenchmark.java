@@ -0,0 +1,113 @@
+package com.teamtacles.teamtacles_api.benchmark;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Compares the request execution of Tomcat's default platform-thread pool (200 threads)
+ * with one virtual thread per request, under a burst of concurrent requests.
+ * Each request borrows a connection from a HikariCP pool, runs a query on an in-memory H2
+ * database and holds the connection for a fixed latency, as the JDBC calls of TaskService
+ * and ProjectService do against PostgreSQL.
+ *
+ * With a JDBC pool smaller than the platform pool both modes are limited by the connections;
+ * with a larger pool the virtual threads keep more requests in flight. The fork traces any
+ * carrier thread pinned while blocked (-Djdk.tracePinnedThreads=short).
+ *
+ * Run with: mvn -Pbenchmark verify -Dbenchmark.include=RequestExecutionBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djdk.tracePinnedThreads=short")
+public class RequestExecutionBenchmark {
+
+    // mesmo tamanho padrão do pool do Tomcat (server.tomcat.threads.max)
+    private static final int PLATFORM_POOL_SIZE = 200;
+
+    @Param({"platform", "virtual"})
+    private String executor;
+
+    @Param({"20", "400"})
+    private int jdbcPoolSize;
+
+    @Param({"2000"})
+    private int concurrentRequests;
+
+    @Param({"5"})
+    private long queryLatencyMillis;
+
+    private HikariDataSource dataSource;
+    private ExecutorService executorService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:request-benchmark;DB_CLOSE_DELAY=-1");
+        config.setUsername("sa");
+        config.setMaximumPoolSize(jdbcPoolSize);
+        config.setMinimumIdle(jdbcPoolSize);
+        dataSource = new HikariDataSource(config);
+
+        executorService = "virtual".equals(executor)
+            ? Executors.newVirtualThreadPerTaskExecutor()
+            : Executors.newFixedThreadPool(PLATFORM_POOL_SIZE);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executorService.shutdownNow();
+        dataSource.close();
+    }
+
+    @Benchmark
+    public long handleConcurrentRequests() throws Exception {
+        List<Future<Long>> responses = new ArrayList<>(concurrentRequests);
+        for (int i = 0; i < concurrentRequests; i++) {
+            responses.add(executorService.submit(this::handleRequest));
+        }
+
+        long total = 0;
+        for (Future<Long> response : responses) {
+            total += response.get();
+        }
+        return total;
+    }
+
+    private long handleRequest() throws Exception {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT 1")) {
+            resultSet.next();
+            // tempo de ida e volta ao banco, com a conexão ainda emprestada
+            Thread.sleep(queryLatencyMillis);
+            return resultSet.getLong(1);
+        }
+    }
+}
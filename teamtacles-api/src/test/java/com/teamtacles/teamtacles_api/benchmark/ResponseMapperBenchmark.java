@@ -0,0 +1,94 @@
+package com.teamtacles.teamtacles_api.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.teamtacles.teamtacles_api.dto.response.ProjectResponseDTO;
+import com.teamtacles.teamtacles_api.dto.response.TaskResponseDTO;
+import com.teamtacles.teamtacles_api.dto.response.TaskResponseFilteredDTO;
+import com.teamtacles.teamtacles_api.mapper.ResponseMapper;
+import com.teamtacles.teamtacles_api.model.Project;
+import com.teamtacles.teamtacles_api.model.Task;
+
+/**
+ * Compares the reflective ModelMapper with the hand-written ResponseMapper
+ * on the conversions done by the task and project listings.
+ *
+ * Run with: mvn -Pbenchmark verify -Dbenchmark.include=ResponseMapperBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseMapperBenchmark {
+
+    @Param({"20", "100"})
+    private int tasksPerPage;
+
+    private ModelMapper modelMapper;
+    private ResponseMapper responseMapper;
+    private List<Task> tasks;
+    private Project project;
+
+    @Setup
+    public void setUp() {
+        modelMapper = new ModelMapper();
+        responseMapper = new ResponseMapper(modelMapper);
+        project = BenchmarkData.project(1L, BenchmarkData.users(10));
+        tasks = BenchmarkData.tasks(project, tasksPerPage);
+    }
+
+    @Benchmark
+    public List<TaskResponseFilteredDTO> taskPageWithModelMapper() {
+        List<TaskResponseFilteredDTO> mapped = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            mapped.add(modelMapper.map(task, TaskResponseFilteredDTO.class));
+        }
+        return mapped;
+    }
+
+    @Benchmark
+    public List<TaskResponseFilteredDTO> taskPageWithResponseMapper() {
+        List<TaskResponseFilteredDTO> mapped = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            mapped.add(responseMapper.toTaskResponseFilteredDTO(task));
+        }
+        return mapped;
+    }
+
+    @Benchmark
+    public TaskResponseDTO singleTaskWithModelMapper() {
+        return modelMapper.map(tasks.get(0), TaskResponseDTO.class);
+    }
+
+    @Benchmark
+    public TaskResponseDTO singleTaskWithResponseMapper() {
+        return responseMapper.toTaskResponseDTO(tasks.get(0));
+    }
+
+    @Benchmark
+    public ProjectResponseDTO projectWithModelMapper() {
+        return modelMapper.map(project, ProjectResponseDTO.class);
+    }
+
+    @Benchmark
+    public ProjectResponseDTO projectWithResponseMapper() {
+        return responseMapper.toProjectResponseDTO(project);
+    }
+}
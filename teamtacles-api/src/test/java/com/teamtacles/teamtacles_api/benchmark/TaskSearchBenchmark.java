@@ -0,0 +1,162 @@
+package com.teamtacles.teamtacles_api.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the full-text task search (tsvector column with a GIN index, ranked by ts_rank) with
+ * the case-insensitive LIKE fallback, on a PostgreSQL table of a million tasks. Each invocation
+ * runs the page query (20 hits) and the count query of /api/project/task/search?q=...
+ *
+ * The tasks are generated in a scratch schema, and the search column and index are created by
+ * the same migration as the application (db/vendor/postgresql/V8__AddTaskSearchVector.sql).
+ * Rare words match a few hundred tasks, common words a large share of the table.
+ *
+ * Requires a PostgreSQL database (-Dbenchmark.db.url, -Dbenchmark.db.username, -Dbenchmark.db.password).
+ * Run with: mvn -Pbenchmark verify -Dbenchmark.include=TaskSearchBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class TaskSearchBenchmark {
+
+    private static final String SCHEMA = "task_search_benchmark";
+    private static final String MIGRATION = "db/vendor/postgresql/V8__AddTaskSearchVector.sql";
+    private static final int PAGE_SIZE = 20;
+
+    private static final String FULL_TEXT_PAGE = """
+        SELECT t.id FROM task t
+        WHERE t.search_vector @@ websearch_to_tsquery('simple', ?)
+        ORDER BY ts_rank(t.search_vector, websearch_to_tsquery('simple', ?)) DESC, t.id
+        LIMIT ?""";
+    private static final String FULL_TEXT_COUNT =
+        "SELECT COUNT(*) FROM task t WHERE t.search_vector @@ websearch_to_tsquery('simple', ?)";
+    private static final String LIKE_PAGE = """
+        SELECT t.id FROM task t
+        WHERE lower(t.title) LIKE ? OR lower(t.description) LIKE ?
+        ORDER BY t.id
+        LIMIT ?""";
+    private static final String LIKE_COUNT =
+        "SELECT COUNT(*) FROM task t WHERE lower(t.title) LIKE ? OR lower(t.description) LIKE ?";
+
+    @Param({"fulltext", "like"})
+    private String mode;
+
+    @Param({"1000000"})
+    private int taskCount;
+
+    // palavra rara (~0,05% das tarefas) e palavra comum (~10%)
+    @Param({"quarterly", "review"})
+    private String text;
+
+    private Connection connection;
+    private PreparedStatement pageStatement;
+    private PreparedStatement countStatement;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        connection = DriverManager.getConnection(
+            System.getProperty("benchmark.db.url", "jdbc:postgresql://localhost:5432/teamtacles"),
+            System.getProperty("benchmark.db.username", "postgres"),
+            System.getProperty("benchmark.db.password", "postgres"));
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+            statement.execute("CREATE SCHEMA " + SCHEMA);
+            statement.execute("SET search_path TO " + SCHEMA);
+            statement.execute("""
+                CREATE TABLE task (
+                    id BIGSERIAL PRIMARY KEY,
+                    title VARCHAR(50) NOT NULL,
+                    description VARCHAR(250),
+                    due_date TIMESTAMP NOT NULL,
+                    status VARCHAR(10),
+                    user_id BIGINT NOT NULL,
+                    project_id BIGINT NOT NULL
+                )""");
+            // títulos e descrições combinando palavras com frequências diferentes
+            statement.execute("""
+                INSERT INTO task (title, description, due_date, status, user_id, project_id)
+                SELECT
+                    (ARRAY['Fix','Write','Update','Plan','Deploy'])[1 + i % 5] || ' '
+                        || (ARRAY['login','report','backlog','api','docs','tests','pipeline'])[1 + i % 7]
+                        || CASE WHEN i % 2000 = 0 THEN ' quarterly' ELSE '' END,
+                    'Task ' || i || ' needs '
+                        || (ARRAY['review','approval','testing','design','refactoring','cleanup','merge','release','triage','pairing'])[1 + (i / 7) % 10]
+                        || ' before the ' || (ARRAY['sprint','milestone','demo'])[1 + i % 3] || ' ends',
+                    now() + (i % 365) * interval '1 day',
+                    (ARRAY['TODO','INPROGRESS','DONE'])[1 + i % 3],
+                    1 + i % 1000,
+                    1 + i % 5000
+                FROM generate_series(1, %d) AS i""".formatted(taskCount));
+            statement.execute(readMigration());
+            statement.execute("ANALYZE task");
+        }
+
+        boolean fullText = "fulltext".equals(mode);
+        pageStatement = connection.prepareStatement(fullText ? FULL_TEXT_PAGE : LIKE_PAGE);
+        countStatement = connection.prepareStatement(fullText ? FULL_TEXT_COUNT : LIKE_COUNT);
+        String parameter = fullText ? text : "%" + text + "%";
+        pageStatement.setString(1, parameter);
+        pageStatement.setString(2, parameter);
+        pageStatement.setInt(3, PAGE_SIZE);
+        countStatement.setString(1, parameter);
+        if (!fullText) {
+            countStatement.setString(2, parameter);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public long searchPage() throws SQLException {
+        long checksum = 0;
+        try (ResultSet resultSet = pageStatement.executeQuery()) {
+            while (resultSet.next()) {
+                checksum += resultSet.getLong(1);
+            }
+        }
+        try (ResultSet resultSet = countStatement.executeQuery()) {
+            resultSet.next();
+            checksum += resultSet.getLong(1);
+        }
+        return checksum;
+    }
+
+    private static String readMigration() throws IOException {
+        try (InputStream input = TaskSearchBenchmark.class.getClassLoader().getResourceAsStream(MIGRATION)) {
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
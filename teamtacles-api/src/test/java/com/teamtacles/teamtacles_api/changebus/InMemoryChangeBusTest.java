@@ -0,0 +1,68 @@
+package com.teamtacles.teamtacles_api.changebus;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class InMemoryChangeBusTest {
+
+    private ApplicationEventPublisher eventPublisher;
+    private InMemoryChangeBus changeBus;
+
+    @BeforeEach
+    void setUp() {
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        changeBus = new InMemoryChangeBus(eventPublisher);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should deliver the notification immediately outside of a transaction")
+    void shouldDeliverImmediatelyWithoutTransaction() {
+        ChangeNotification notification = ChangeNotification.userRoles(1L);
+
+        changeBus.publish(notification);
+
+        verify(eventPublisher).publishEvent(notification);
+    }
+
+    @Test
+    @DisplayName("Should deliver the notification only after the transaction commits")
+    void shouldDeliverAfterCommit() {
+        ChangeNotification notification = ChangeNotification.projectMembership(1L);
+        TransactionSynchronizationManager.initSynchronization();
+
+        changeBus.publish(notification);
+        verify(eventPublisher, never()).publishEvent(notification);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(eventPublisher).publishEvent(notification);
+    }
+
+    @Test
+    @DisplayName("Should not deliver the notification when the transaction rolls back")
+    void shouldNotDeliverOnRollback() {
+        ChangeNotification notification = ChangeNotification.projectMembership(1L);
+        TransactionSynchronizationManager.initSynchronization();
+
+        changeBus.publish(notification);
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        verify(eventPublisher, never()).publishEvent(notification);
+    }
+}
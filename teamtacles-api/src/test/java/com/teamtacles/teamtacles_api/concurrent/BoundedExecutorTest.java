@@ -0,0 +1,73 @@
+package com.teamtacles.teamtacles_api.concurrent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.teamtacles.teamtacles_api.exception.ServiceBusyException;
+
+public class BoundedExecutorTest {
+
+    private BoundedExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should refuse new tasks when every thread is busy and the queue is full")
+    void shouldThrowServiceBusyException_whenPoolIsFull() throws Exception {
+        executor = new BoundedExecutor("test", 1, 1, "Busy.");
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+
+        CompletableFuture<String> running = executor.supplyAsync(() -> {
+            started.countDown();
+            await(release);
+            return "running";
+        });
+        started.await();
+        CompletableFuture<String> queued = executor.supplyAsync(() -> "queued");
+
+        ServiceBusyException ex = assertThrows(ServiceBusyException.class, () -> executor.execute(() -> { }));
+        assertEquals("Busy.", ex.getMessage());
+        assertEquals(1, executor.rejectedCount());
+        assertEquals(1, executor.queueSize());
+
+        release.countDown();
+        assertEquals("running", running.join());
+        assertEquals("queued", queued.join());
+    }
+
+    @Test
+    @DisplayName("Should hand tasks directly to a free thread when the queue capacity is 0")
+    void shouldRunWithoutQueue_whenQueueCapacityIsZero() {
+        executor = new BoundedExecutor("test", 1, 0, "Busy.");
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<String> running = executor.supplyAsync(() -> {
+            await(release);
+            return "running";
+        });
+
+        assertThrows(ServiceBusyException.class, () -> executor.supplyAsync(() -> "refused"));
+
+        release.countDown();
+        assertEquals("running", running.join());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.teamtacles.teamtacles_api.mapper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+
+import com.teamtacles.teamtacles_api.benchmark.BenchmarkData;
+import com.teamtacles.teamtacles_api.dto.response.ProjectResponseDTO;
+import com.teamtacles.teamtacles_api.dto.response.ProjectResponseFilteredDTO;
+import com.teamtacles.teamtacles_api.dto.response.RoleResponseDTO;
+import com.teamtacles.teamtacles_api.dto.response.TaskResponseDTO;
+import com.teamtacles.teamtacles_api.dto.response.TaskResponseFilteredDTO;
+import com.teamtacles.teamtacles_api.dto.response.UserResponseDTO;
+import com.teamtacles.teamtacles_api.model.Project;
+import com.teamtacles.teamtacles_api.model.Role;
+import com.teamtacles.teamtacles_api.model.Task;
+import com.teamtacles.teamtacles_api.model.User;
+import com.teamtacles.teamtacles_api.model.enums.ERole;
+
+public class ResponseMapperTest {
+
+    private ModelMapper modelMapper;
+    private ResponseMapper responseMapper;
+    private Project project;
+    private List<Task> tasks;
+
+    @BeforeEach
+    void setUp() {
+        modelMapper = new ModelMapper();
+        responseMapper = new ResponseMapper(modelMapper);
+        project = BenchmarkData.project(1L, BenchmarkData.users(4));
+        tasks = BenchmarkData.tasks(project, 3);
+    }
+
+    @Test
+    @DisplayName("Should map tasks to the same DTOs as ModelMapper")
+    void shouldMapTasksLikeModelMapper() {
+        for (Task task : tasks) {
+            assertEquals(modelMapper.map(task, TaskResponseDTO.class), responseMapper.toTaskResponseDTO(task));
+            assertEquals(modelMapper.map(task, TaskResponseFilteredDTO.class), responseMapper.toTaskResponseFilteredDTO(task));
+        }
+    }
+
+    @Test
+    @DisplayName("Should map projects and users to the same DTOs as ModelMapper")
+    void shouldMapProjectsAndUsersLikeModelMapper() {
+        assertEquals(modelMapper.map(project, ProjectResponseDTO.class), responseMapper.toProjectResponseDTO(project));
+        assertEquals(modelMapper.map(project, ProjectResponseFilteredDTO.class), responseMapper.toProjectResponseFilteredDTO(project));
+        assertEquals(modelMapper.map(project.getCreator(), UserResponseDTO.class), responseMapper.toUserResponseDTO(project.getCreator()));
+    }
+
+    @Test
+    @DisplayName("Should keep missing associations as null")
+    void shouldKeepMissingAssociationsAsNull() {
+        Task task = tasks.get(0);
+        task.setOwner(null);
+        task.setUsersResponsability(null);
+        task.setProject(null);
+
+        TaskResponseFilteredDTO dto = responseMapper.toTaskResponseFilteredDTO(task);
+
+        assertNull(dto.getOwner());
+        assertNull(dto.getUsersResponsability());
+        assertNull(dto.getProject());
+        assertNull(responseMapper.toUserResponseDTO(null));
+    }
+
+    @Test
+    @DisplayName("Should dispatch by target class and fall back to ModelMapper for other conversions")
+    void shouldDispatchByTargetClassAndFallBackToModelMapper() {
+        User user = BenchmarkData.user(9L, ERole.ADMIN);
+        Role role = user.getRoles().iterator().next();
+
+        assertEquals(responseMapper.toUserResponseDTO(user), responseMapper.map(user, UserResponseDTO.class));
+        assertEquals(responseMapper.toTaskResponseDTO(tasks.get(0)), responseMapper.map(tasks.get(0), TaskResponseDTO.class));
+        assertEquals(new RoleResponseDTO(ERole.ADMIN), responseMapper.map(role, RoleResponseDTO.class));
+    }
+}
@@ -0,0 +1,92 @@
+package com.teamtacles.teamtacles_api.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.teamtacles.teamtacles_api.repository.ProjectRepository;
+import com.teamtacles.teamtacles_api.repository.TaskRepository;
+import com.teamtacles.teamtacles_api.repository.UserRepository;
+import com.teamtacles.teamtacles_api.util.TestDataAux;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles("test")
+public class PrometheusEndpointTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestDataAux testDataAux;
+
+    @BeforeEach
+    void setUpEnvironment() {
+        taskRepository.deleteAll();
+        projectRepository.deleteAll();
+        userRepository.deleteAll();
+        testDataAux.setUpTestUsers();
+    }
+
+    @Test
+    @DisplayName("Should expose service latency histograms and exception counters in Prometheus format")
+    void testPrometheusEndpoint_ShouldExposeServiceAndExceptionMetrics() throws Exception {
+        // projeto inexistente: passa pelo ProjectService (cálculo da ETag) e pelo contador de ResourceNotFoundException
+        mockMvc.perform(get("/api/project/{id}", 99999)
+            .header("Authorization", "Bearer " + testDataAux.getNormalUserToken()))
+            .andExpect(status().isNotFound());
+
+        String metrics = mockMvc.perform(get("/actuator/prometheus").with(httpBasic("prometheus", "scraper-secret")))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+
+        assertTrue(metrics.contains("teamtacles_service_seconds_bucket{"), "Service timers should publish histogram buckets");
+        assertTrue(metrics.contains("class=\"com.teamtacles.teamtacles_api.service.ProjectService\""), "Service timers should be tagged by class");
+        assertTrue(metrics.contains("method=\"getProjectById\""), "Service timers should be tagged by method");
+        assertTrue(metrics.contains("teamtacles_exceptions_total{application=\"teamtacles-api\",exception=\"ResourceNotFoundException\"} 1.0"), "Handled ResourceNotFoundException should be counted");
+        assertTrue(metrics.contains("exception=\"AccessDeniedException\""), "AccessDeniedException counter should be registered");
+        assertTrue(metrics.contains("cache_gets_total{application=\"teamtacles-api\",cache=\"authenticatedUsers\""), "User cache metrics should be published");
+    }
+
+    @Test
+    @DisplayName("Should reject Prometheus scrapes without the scraper credentials")
+    void testPrometheusEndpoint_WithoutScraperCredentials_ShouldReturnUnauthorized() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus"))
+            .andExpect(status().isUnauthorized());
+
+        mockMvc.perform(get("/actuator/prometheus").with(httpBasic("prometheus", "wrong-password")))
+            .andExpect(status().isUnauthorized());
+
+        // o token da API não vale para o actuator
+        mockMvc.perform(get("/actuator/prometheus")
+            .header("Authorization", "Bearer " + testDataAux.getAdminUserToken()))
+            .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("Should keep the health endpoint public")
+    void testHealthEndpoint_WithoutCredentials_ShouldReturnOk() throws Exception {
+        mockMvc.perform(get("/actuator/health"))
+            .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,122 @@
+package com.teamtacles.teamtacles_api.monitoring;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.teamtacles.teamtacles_api.repository.ProjectRepository;
+import com.teamtacles.teamtacles_api.repository.TaskRepository;
+import com.teamtacles.teamtacles_api.repository.UserRepository;
+import com.teamtacles.teamtacles_api.util.TestDataAux;
+import com.teamtacles.teamtacles_api.util.TestDataProjectAux;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@ExtendWith(OutputCaptureExtension.class)
+public class QueryStatsTest {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestDataAux testDataAux;
+
+    @Autowired
+    private TestDataProjectAux testDataProjectAux;
+
+    @BeforeEach
+    void setUpEnvironment() {
+        taskRepository.deleteAll();
+        projectRepository.deleteAll();
+        userRepository.deleteAll();
+        testDataAux.setUpTestUsers();
+        testDataProjectAux.setUpTestProject();
+    }
+
+    @Test
+    @DisplayName("Should report the database cost of the request in the header and in the request log line")
+    void testQueryStats_ShouldReportHeaderAndLogLine(CapturedOutput output) throws Exception {
+        String header = mockMvc.perform(get("/api/project/{id}", testDataProjectAux.getProject().getId())
+            .header("Authorization", "Bearer " + testDataAux.getNormalUserToken()))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getHeader(QueryStatsHeaderAdvice.HEADER);
+
+        assertNotNull(header, "X-Query-Stats header should be present outside of production");
+        assertTrue(header.matches("statements=[1-9]\\d*; jdbcTimeMs=\\d+; entities=[1-9]\\d*; collections=\\d+"), header);
+        assertTrue(output.getOut().contains("GET /api/project/" + testDataProjectAux.getProject().getId() + " status=200 timeMs="),
+            "The request log line should be written");
+    }
+
+    @Test
+    @DisplayName("Should write the log line of an async request once, on its last dispatch, with the final status")
+    void testQueryStats_WhenRequestIsAsync_ShouldLogFinalStatus(CapturedOutput output) throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/auth/authenticate")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"userName\": \"testuser\", \"password\": \"wrong\"}"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        assertFalse(output.getOut().contains("POST /api/auth/authenticate status="),
+            "The line should not be written while the request is still async");
+
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isUnauthorized());
+
+        assertTrue(output.getOut().contains("POST /api/auth/authenticate status=401 timeMs="),
+            "The line should be written on the last dispatch, with the final status");
+    }
+
+    @Test
+    @DisplayName("Should log queries slower than the threshold with their bind parameters")
+    void testQueryStatsListener_ShouldLogSlowQueryWithParameters(CapturedOutput output) throws Exception {
+        QueryInfo queryInfo = new QueryInfo("SELECT * FROM task WHERE project_id = ?");
+        queryInfo.getParametersList().add(List.of(new ParameterSetOperation(
+            PreparedStatement.class.getMethod("setLong", int.class, long.class), new Object[] {1, 42L})));
+        ExecutionInfo execInfo = new ExecutionInfo();
+        execInfo.setElapsedTime(750);
+        execInfo.setSuccess(true);
+
+        new QueryStatsListener(Duration.ofMillis(500)).afterQuery(execInfo, List.of(queryInfo));
+        new QueryStatsListener(Duration.ofSeconds(1)).afterQuery(execInfo, List.of(new QueryInfo("SELECT 1")));
+
+        assertTrue(output.getOut().contains("Slow query"), "Slow query should be logged");
+        assertTrue(output.getOut().contains("SELECT * FROM task WHERE project_id = ?"), "SQL should be logged");
+        assertTrue(output.getOut().contains("Params:[(1=42)]"), "Bind parameters should be logged");
+        assertFalse(output.getOut().contains("SELECT 1"), "Queries under the threshold should not be logged");
+    }
+}
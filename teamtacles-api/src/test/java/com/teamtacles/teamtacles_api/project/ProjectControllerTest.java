@@ -1,13 +1,18 @@
 package com.teamtacles.teamtacles_api.project;
 
+import static org.hamcrest.Matchers.not;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.time.LocalDateTime;
@@ -23,10 +28,15 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
 import com.teamtacles.teamtacles_api.dto.request.ProjectRequestDTO;
 import com.teamtacles.teamtacles_api.dto.request.ProjectRequestPatchDTO;
+import com.teamtacles.teamtacles_api.dto.request.RoleRequestDTO;
+import com.teamtacles.teamtacles_api.dto.request.TaskRequestDTO;
 import com.teamtacles.teamtacles_api.model.Project;
+import com.teamtacles.teamtacles_api.model.User;
 import com.teamtacles.teamtacles_api.model.Task;
 import com.teamtacles.teamtacles_api.repository.ProjectRepository;
 import com.teamtacles.teamtacles_api.repository.UserRepository;
@@ -150,6 +160,91 @@ public class ProjectControllerTest {
             .andExpect(jsonPath("$.content").isEmpty());
     }
 
+    @Test
+    @DisplayName("Should return the summary of all projects with member and task counts as ADMIN")
+    void testGetProjectSummaries_WhenAdmin_ShouldReturnCounts() throws Exception {
+        createProjectWithTask();
+        createAdminOwnerProject();
+
+        mockMvc.perform(get("/api/project/summary")
+            .param("sort", "id")
+            .header("Authorization", "Bearer " + testDataAux.getAdminUserToken()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.totalElements").value(2))
+            .andExpect(jsonPath("$.content[0].title").value("API Project Summary"))
+            .andExpect(jsonPath("$.content[0].memberCount").value(2))
+            .andExpect(jsonPath("$.content[0].taskCount").value(1))
+            .andExpect(jsonPath("$.content[1].memberCount").value(1))
+            .andExpect(jsonPath("$.content[1].taskCount").value(0));
+    }
+
+    @Test
+    @DisplayName("Should return only the summary of the projects of the user's team")
+    void testGetProjectSummaries_WhenUser_ShouldReturnTeamProjects() throws Exception {
+        createUserOwnerProject();
+        createAdminOwnerProject();
+
+        mockMvc.perform(get("/api/project/summary")
+            .header("Authorization", "Bearer " + testDataAux.getNormalUserToken()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.totalElements").value(1))
+            .andExpect(jsonPath("$.content[0].title").value("API Project User"))
+            .andExpect(jsonPath("$.content[0].memberCount").value(1))
+            .andExpect(jsonPath("$.content[0].tasks").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Should walk all projects by cursor as ADMIN")
+    void testGetAllProjectsByCursor_WhenAdmin_ShouldReturnAllPages() throws Exception {
+        createUserOwnerProject();
+        createAdminOwnerProject();
+        createAdminOwnerProjectAndUserTeam();
+
+        String response = mockMvc.perform(get("/api/project/all/cursor")
+            .param("size", "2")
+            .header("Authorization", "Bearer " + testDataAux.getAdminUserToken()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content.length()").value(2))
+            .andExpect(jsonPath("$.hasNext").value(true))
+            .andExpect(jsonPath("$.nextCursor").isNotEmpty())
+            .andReturn().getResponse().getContentAsString();
+
+        String nextCursor = JsonPath.read(response, "$.nextCursor");
+
+        mockMvc.perform(get("/api/project/all/cursor")
+            .param("size", "2")
+            .param("cursor", nextCursor)
+            .header("Authorization", "Bearer " + testDataAux.getAdminUserToken()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content.length()").value(1))
+            .andExpect(jsonPath("$.content[0].title").value("API Project"))
+            .andExpect(jsonPath("$.hasNext").value(false))
+            .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Should return only the projects of the user's team by cursor")
+    void testGetAllProjectsByCursor_WhenUser_ShouldReturnTeamProjects() throws Exception {
+        createUserOwnerProject();
+        createAdminOwnerProject();
+
+        mockMvc.perform(get("/api/project/all/cursor")
+            .header("Authorization", "Bearer " + testDataAux.getNormalUserToken()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content.length()").value(1))
+            .andExpect(jsonPath("$.content[0].title").value("API Project User"))
+            .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    @Test
+    @DisplayName("Should return 400 when the cursor is invalid")
+    void testGetAllProjectsByCursor_WithInvalidCursor_ShouldReturn400() throws Exception {
+        mockMvc.perform(get("/api/project/all/cursor")
+            .param("cursor", "not-a-cursor")
+            .header("Authorization", "Bearer " + testDataAux.getAdminUserToken()))
+            .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("Should return any project by id when admin")
     void testGetProjectById_WhenAdmin_ShouldReturn200() throws Exception {
@@ -218,6 +313,128 @@ public class ProjectControllerTest {
             .andExpect(jsonPath("$.title").value("Backend project"));
     }
 
+    @Test
+    @DisplayName("Should reject partial update with a stale If-Match with 412 PRECONDITION FAILED")
+    void testPartialUpdate_WithStaleIfMatch_ShouldReturn412() throws Exception {
+
+        Project savedProject = createUserOwnerProject();
+        String etag = mockMvc.perform(get("/api/project/{project_id}", savedProject.getId())
+            .header("Authorization", "Bearer " + testDataAux.getNormalUserToken()))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getHeader("ETag");
+
+        ProjectRequestPatchDTO dto = new ProjectRequestPatchDTO();
+        dto.setTitle(Optional.of("Backend project"));
+
+        String newEtag = mockMvc.perform(patch("/api/project/{project_id}", savedProject.getId())
+            .header("Authorization", "Bearer " + testDataAux.getNormalUserToken())
+            .header("If-Match", etag)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(dto)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.version").value(savedProject.getVersion() + 1))
+            .andReturn().getResponse().getHeader("ETag");
+        assertNotEquals(etag, newEtag);
+
+        dto.setTitle(Optional.of("Frontend project"));
+
+        mockMvc.perform(patch("/api/project/{project_id}", savedProject.getId())
+            .header("Authorization", "Bearer " + testDataAux.getNormalUserToken())
+            .header("If-Match", etag)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(dto)))
+            .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    @DisplayName("Should answer If-None-Match with 304 NOT MODIFIED until a task of the project changes")
+    void testGetProjectById_WithIfNoneMatch_ShouldReturn304UntilTasksChange() throws Exception {
+
+        Project savedProject = createUserOwnerProject();
+        String etag = mockMvc.perform(get("/api/project/{project_id}", savedProject.getId())
+            .header("Authorization", "Bearer " + testDataAux.getNormalUserToken()))
+            .andExpect(status().isOk())
+            .andExpect(header().exists("ETag"))
+            .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/project/{project_id}", savedProject.getId())
+            .header("Authorization", "Bearer " + testDataAux.getNormalUserToken())
+            .header("If-None-Match", etag))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string("ETag", etag))
+            .andExpect(content().string(""));
+
+        TaskRequestDTO taskDTO = new TaskRequestDTO();
+        taskDTO.setTitle("Polling task");
+        taskDTO.setDueDate(LocalDateTime.now().plusDays(5));
+        mockMvc.perform(post("/api/project/{project_id}/task", savedProject.getId())
+            .header("Authorization", "Bearer " + testDataAux.getNormalUserToken())
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(taskDTO)))
+            .andExpect(status().isCreated());
+
+        // a versão do projeto não muda, mas a nova tarefa muda a ETag
+        mockMvc.perform(get("/api/project/{project_id}", savedProject.getId())
+            .header("Authorization", "Bearer " + testDataAux.getNormalUserToken())
+            .header("If-None-Match", etag))
+            .andExpect(status().isOk())
+            .andExpect(header().string("ETag", not(etag)))
+            .andExpect(jsonPath("$.tasks[0].title").value("Polling task"));
+    }
+
+    @Test
+    @DisplayName("Should change the ETag of a project when a user rendered in it changes")
+    void testGetProjectById_WhenTeamMemberChanges_ShouldChangeETag() throws Exception {
+
+        Project savedProject = createUserOwnerProject();
+        String etag = mockMvc.perform(get("/api/project/{project_id}", savedProject.getId())
+            .header("Authorization", "Bearer " + testDataAux.getNormalUserToken()))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getHeader("ETag");
+
+        // nem o projeto nem as tarefas mudam, mas o email exibido no time muda
+        User member = userRepository.findById(testDataAux.getNormalUser().getUserId()).orElseThrow();
+        member.setEmail("renamed@example.com");
+        userRepository.save(member);
+
+        mockMvc.perform(get("/api/project/{project_id}", savedProject.getId())
+            .header("Authorization", "Bearer " + testDataAux.getNormalUserToken())
+            .header("If-None-Match", etag))
+            .andExpect(status().isOk())
+            .andExpect(header().string("ETag", not(etag)))
+            .andExpect(jsonPath("$.team[0].email").value("renamed@example.com"));
+    }
+
+    @Test
+    @DisplayName("Should not subscribe to the events of a project when User not in the team with 403 FORBIDDEN")
+    void testSubscribeToEvents_WhenUserNotInTeam_ShouldReturn403() throws Exception {
+
+        Project savedProject = createAdminOwnerProject();
+
+        mockMvc.perform(get("/api/project/{project_id}/events", savedProject.getId())
+            .header("Authorization", "Bearer " + testDataAux.getNormalUserToken()))
+            .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("Should close the event stream of a demoted admin who is not in the team")
+    void testSubscribeToEvents_WhenAdminDemoted_ShouldCloseStream() throws Exception {
+
+        Project savedProject = createAdminOwnerProject();
+        User member = testDataAux.getNormalUser();
+        changeRole(member, "ADMIN");
+
+        MvcResult events = mockMvc.perform(get("/api/project/{project_id}/events", savedProject.getId())
+            .header("Authorization", "Bearer " + testDataAux.getNormalUserToken()))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        changeRole(member, "USER");
+
+        // o stream é encerrado pela revalidação disparada pela troca de papel
+        events.getAsyncResult(5000);
+    }
+
     @Test
     @DisplayName("Should not partially update project with User in team with 403 FORBIDDEN")
     void testPartialUpdate_WhenUserInTeam_ShouldReturn403() throws Exception {
@@ -352,6 +569,23 @@ public class ProjectControllerTest {
         return projectRepository.save(project);
     }
 
+    private Project createProjectWithTask() {
+        Project project = new Project();
+        project.setTitle("API Project Summary");
+        project.setDescription("Team task management API");
+        project.setTeam(List.of(testDataAux.getNormalUser(), testDataAux.getAdminUser()));
+        project.setCreator(testDataAux.getAdminUser());
+
+        Task task = new Task();
+        task.setTitle("Summary Task");
+        task.setDueDate(LocalDateTime.now().plusDays(1));
+        task.setOwner(testDataAux.getAdminUser());
+        task.setProject(project);
+        project.setTasks(List.of(task));
+
+        return projectRepository.save(project);
+    }
+
     private Project createAdminOwnerProjectAndUserTeam() {
         Project project = new Project();
         project.setTitle("API Project");
@@ -373,4 +607,15 @@ public class ProjectControllerTest {
         return projectRepository.save(project);
     }
 
+
+    private void changeRole(User user, String role) throws Exception {
+        RoleRequestDTO dto = new RoleRequestDTO();
+        dto.setRole(role);
+
+        mockMvc.perform(patch("/api/user/{id_user}/exchangepaper", user.getUserId())
+            .header("Authorization", "Bearer " + testDataAux.getAdminUserToken())
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(dto)))
+            .andExpect(status().isOk());
+    }
 }
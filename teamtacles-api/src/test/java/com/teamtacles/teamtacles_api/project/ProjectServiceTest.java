@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -26,14 +27,17 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 
+import com.teamtacles.teamtacles_api.changebus.ChangeBus;
 import com.teamtacles.teamtacles_api.dto.page.PagedResponse;
 import com.teamtacles.teamtacles_api.dto.request.ProjectRequestDTO;
 import com.teamtacles.teamtacles_api.dto.request.ProjectRequestPatchDTO;
 import com.teamtacles.teamtacles_api.dto.request.TaskRequestDTO;
 import com.teamtacles.teamtacles_api.dto.response.ProjectResponseDTO;
+import com.teamtacles.teamtacles_api.dto.response.ProjectResponseFilteredDTO;
 import com.teamtacles.teamtacles_api.exception.InvalidTaskStateException;
 import com.teamtacles.teamtacles_api.exception.ResourceNotFoundException;
 import com.teamtacles.teamtacles_api.mapper.PagedResponseMapper;
+import com.teamtacles.teamtacles_api.mapper.ResponseMapper;
 import com.teamtacles.teamtacles_api.model.Project;
 import com.teamtacles.teamtacles_api.model.Role;
 import com.teamtacles.teamtacles_api.model.User;
@@ -41,7 +45,9 @@ import com.teamtacles.teamtacles_api.model.enums.ERole;
 import com.teamtacles.teamtacles_api.repository.ProjectRepository;
 import com.teamtacles.teamtacles_api.repository.RoleRepository;
 import com.teamtacles.teamtacles_api.repository.UserRepository;
+import com.teamtacles.teamtacles_api.repository.projection.ProjectSummary;
 import com.teamtacles.teamtacles_api.service.ProjectService;
+import com.teamtacles.teamtacles_api.service.ProjectStatusCounterService;
 
 @ExtendWith(MockitoExtension.class)
 @ActiveProfiles("test")
@@ -59,9 +65,18 @@ public class ProjectServiceTest {
     @Mock
     private ModelMapper modelMapper;
 
+    @Mock
+    private ResponseMapper responseMapper;
+
     @Mock
     private PagedResponseMapper pagedResponseMapper;
 
+    @Mock
+    private ProjectStatusCounterService projectStatusCounterService;
+
+    @Mock
+    private ChangeBus changeBus;
+
     @InjectMocks
     private ProjectService projectService;
 
@@ -117,7 +132,7 @@ public class ProjectServiceTest {
         when(userRepository.findById(4L)).thenReturn(Optional.of(user4));
         when(modelMapper.map(projectRequestDTO, Project.class)).thenReturn(mappedProject);
         when(projectRepository.save(mappedProject)).thenReturn(projectSaved);
-        when(modelMapper.map(projectSaved, ProjectResponseDTO.class)).thenReturn(projectResponse);
+        when(responseMapper.toProjectResponseDTO(projectSaved)).thenReturn(projectResponse);
 
         ProjectResponseDTO response = projectService.createProject(projectRequestDTO, user4);
 
@@ -155,7 +170,8 @@ public class ProjectServiceTest {
         projectResponse.setDescription(existingProject.getDescription());
 
         when(projectRepository.findById(projectId)).thenReturn(Optional.of(existingProject));
-        when(modelMapper.map(existingProject, ProjectResponseDTO.class)).thenReturn(projectResponse);
+        when(projectRepository.isTeamMember(projectId, user4.getUserId())).thenReturn(true);
+        when(responseMapper.toProjectResponseDTO(existingProject)).thenReturn(projectResponse);
 
         ProjectResponseDTO response = projectService.getProjectById(projectId, user4);
 
@@ -163,6 +179,34 @@ public class ProjectServiceTest {
         assert response.getTitle().equals(projectRequestDTO.getTitle());
     }
 
+    @Test
+    @DisplayName("Should throw AccessDeniedException when user is not in the project's team")
+    void shouldThrowAccessDeniedExceptionWhenUserIsNotInTeam() {
+        Long projectId = 1L;
+
+        Project existingProject = new Project();
+        existingProject.setId(projectId);
+        existingProject.setCreator(user4);
+
+        when(projectRepository.findById(projectId)).thenReturn(Optional.of(existingProject));
+        when(projectRepository.isTeamMember(projectId, user3.getUserId())).thenReturn(false);
+
+        assertThrows(AccessDeniedException.class, () -> projectService.getProjectById(projectId, user3));
+        // a verificação não deve carregar o time do projeto
+        verify(responseMapper, never()).toProjectResponseDTO(any());
+    }
+
+    @Test
+    @DisplayName("Should not query the team when the user is an admin")
+    void shouldNotQueryTeamWhenUserIsAdmin() {
+        Project existingProject = new Project();
+        existingProject.setId(1L);
+
+        projectService.ensureUserCanViewProject(existingProject, userADM);
+
+        verify(projectRepository, never()).isTeamMember(any(), any());
+    }
+
     @Test
     @DisplayName("Should throw ResourceNotFoundException when project is not found by ID")
     void shouldThrowResourceNotFoundExceptionWhenProjectNotFoundById() {
@@ -199,13 +243,40 @@ public class ProjectServiceTest {
         when(projectRepository.findById(projectId)).thenReturn(Optional.of(existingProject));
         doNothing().when(modelMapper).map(projectRequestDTO, existingProject);
         when(projectRepository.save(existingProject)).thenReturn(projectSaved);
-        when(modelMapper.map(projectSaved, ProjectResponseDTO.class)).thenReturn(projectResponse);
+        when(responseMapper.toProjectResponseDTO(projectSaved)).thenReturn(projectResponse);
 
         ProjectResponseDTO response = projectService.updateProject(projectId, projectRequestDTO, user4);
 
         assertNotNull(response);
         assert response.getTitle().equals(projectRequestDTO.getTitle());
         assert response.getDescription().equals(projectRequestDTO.getDescription());
+        // o time não mudou: nenhum nó precisa revalidar os inscritos
+        verify(changeBus, never()).publish(any());
+    }
+
+    @Test
+    @DisplayName("Should publish a membership change when the update changes the team")
+    void shouldPublishMembershipChangeWhenTeamChanges() {
+        Long projectId = 1L;
+
+        Project existingProject = new Project();
+        existingProject.setId(projectId);
+        existingProject.setCreator(user4);
+        existingProject.setTeam(List.of(user4, user1));
+
+        Project projectSaved = new Project();
+        projectSaved.setId(projectId);
+        projectSaved.setCreator(user4);
+        projectSaved.setTeam(List.of(user4));
+
+        when(projectRepository.findById(projectId)).thenReturn(Optional.of(existingProject));
+        doNothing().when(modelMapper).map(projectRequestDTO, existingProject);
+        when(projectRepository.save(existingProject)).thenReturn(projectSaved);
+        when(responseMapper.toProjectResponseDTO(projectSaved)).thenReturn(new ProjectResponseDTO());
+
+        projectService.updateProject(projectId, projectRequestDTO, user4);
+
+        verify(changeBus).publish(any());
     }
 
     @Test
@@ -234,7 +305,7 @@ public class ProjectServiceTest {
         when(projectRepository.findById(projectId)).thenReturn(Optional.of(existingProject));
         doNothing().when(modelMapper).map(projectRequestDTO, existingProject);
         when(projectRepository.save(existingProject)).thenReturn(projectSaved);
-        when(modelMapper.map(projectSaved, ProjectResponseDTO.class)).thenReturn(projectResponse);
+        when(responseMapper.toProjectResponseDTO(projectSaved)).thenReturn(projectResponse);
 
         ProjectResponseDTO response = projectService.updateProject(projectId, projectRequestDTO, userADM);
 
@@ -292,13 +363,14 @@ public class ProjectServiceTest {
         when(projectRepository.findById(projectId)).thenReturn(Optional.of(existingProject));
         doNothing().when(modelMapper).map(patchDTO, existingProject);
         when(projectRepository.save(existingProject)).thenReturn(projectSaved);
-        when(modelMapper.map(projectSaved, ProjectResponseDTO.class)).thenReturn(projectResponse);
+        when(responseMapper.toProjectResponseDTO(projectSaved)).thenReturn(projectResponse);
 
         ProjectResponseDTO response = projectService.partialUpdateProject(projectId, patchDTO, user4);
 
         assertNotNull(response);
         assert response.getTitle().equals(patchDTO.getTitle().get());
         assert response.getDescription().equals(patchDTO.getDescription().get());    
+        verify(changeBus, never()).publish(any());
     }
 
     @Test
@@ -331,7 +403,7 @@ public class ProjectServiceTest {
         when(projectRepository.findById(projectId)).thenReturn(Optional.of(existingProject));
         doNothing().when(modelMapper).map(patchDTO, existingProject);
         when(projectRepository.save(existingProject)).thenReturn(projectSaved);
-        when(modelMapper.map(projectSaved, ProjectResponseDTO.class)).thenReturn(projectResponse);
+        when(responseMapper.toProjectResponseDTO(projectSaved)).thenReturn(projectResponse);
 
         ProjectResponseDTO response = projectService.partialUpdateProject(projectId, patchDTO, userADM);
 
@@ -417,4 +489,36 @@ public class ProjectServiceTest {
         // O criador desse projeto é o user1, então passandp CreateUser lançar a exceção
         assertThrows(AccessDeniedException.class, () -> projectService.deleteProject(projectId, user4));
     }
+
+    @Test
+    @DisplayName("Should list only the summaries of the user's team projects")
+    void shouldListTeamProjectSummariesWhenUserIsNotAdmin() {
+        PageRequest pageable = PageRequest.of(0, 10);
+        PageImpl<ProjectSummary> summaries = new PageImpl<>(List.of(), pageable, 0);
+        PagedResponse<ProjectResponseFilteredDTO> pagedResponse = new PagedResponse<>(List.of(), 0, 10, 0, 0, true);
+
+        when(projectRepository.findSummariesByTeamMember(user1.getUserId(), pageable)).thenReturn(summaries);
+        when(pagedResponseMapper.toPagedResponse(summaries, ProjectResponseFilteredDTO.class)).thenReturn(pagedResponse);
+
+        PagedResponse<ProjectResponseFilteredDTO> response = projectService.getProjectSummaries(pageable, user1);
+
+        assertNotNull(response);
+        verify(projectRepository, never()).findAllSummaries(any());
+    }
+
+    @Test
+    @DisplayName("Should not read the status counters of a project the user is not in the team of")
+    void shouldThrowWhenNonMemberReadsStatusCounts() {
+        Long projectId = 1L;
+
+        Project existingProject = new Project();
+        existingProject.setId(projectId);
+        existingProject.setCreator(user1);
+        existingProject.setTeam(List.of(user1, user2));
+
+        when(projectRepository.findById(projectId)).thenReturn(Optional.of(existingProject));
+
+        assertThrows(AccessDeniedException.class, () -> projectService.getStatusCounts(projectId, user4));
+        verify(projectStatusCounterService, never()).getCounts(any());
+    }
 }
@@ -0,0 +1,114 @@
+package com.teamtacles.teamtacles_api.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import com.teamtacles.teamtacles_api.changebus.ChangeNotification;
+import com.teamtacles.teamtacles_api.model.Role;
+import com.teamtacles.teamtacles_api.model.User;
+import com.teamtacles.teamtacles_api.model.enums.ERole;
+
+public class AuthenticatedUserCacheTest {
+
+    private AuthenticatedUserCache authenticatedUserCache;
+    private AtomicInteger loads;
+    private Function<Long, User> loader;
+
+    @BeforeEach
+    void setUp() {
+        authenticatedUserCache = new AuthenticatedUserCache(100, Duration.ofMinutes(5));
+        loads = new AtomicInteger();
+
+        Role userRole = new Role(1L, ERole.USER);
+        loader = id -> {
+            loads.incrementAndGet();
+            User user = new User();
+            user.setUserId(id);
+            user.setUserName("user" + id);
+            user.setPassword("$2a$10$hash");
+            user.setRoles(Set.of(userRole));
+            return user;
+        };
+    }
+
+    @Test
+    @DisplayName("Should load the user once and answer the following lookups from the cache")
+    void shouldLoadOnceAndCountHits() {
+        authenticatedUserCache.get(1L, loader);
+        authenticatedUserCache.get(1L, loader);
+        authenticatedUserCache.get(1L, loader);
+
+        assertEquals(1, loads.get());
+        assertEquals(2, authenticatedUserCache.stats().hitCount());
+        assertEquals(1, authenticatedUserCache.stats().missCount());
+    }
+
+    @Test
+    @DisplayName("Should reload the user after it is evicted")
+    void shouldReloadAfterEviction() {
+        authenticatedUserCache.get(1L, loader);
+        authenticatedUserCache.evict(1L);
+        authenticatedUserCache.get(1L, loader);
+
+        assertEquals(2, loads.get());
+        assertEquals(1, authenticatedUserCache.invalidationCount());
+    }
+
+    @Test
+    @DisplayName("Should cache a snapshot without the password hash")
+    void shouldCacheSnapshotWithoutPassword() {
+        User cached = authenticatedUserCache.get(1L, loader);
+
+        assertEquals("user1", cached.getUserName());
+        assertEquals(1, cached.getRoles().size());
+        assertNull(cached.getPassword());
+    }
+
+    @Test
+    @DisplayName("Should propagate the loader exception and not cache missing users")
+    void shouldNotCacheMissingUsers() {
+        Function<Long, User> missing = id -> {
+            loads.incrementAndGet();
+            throw new UsernameNotFoundException("User not found with id: " + id);
+        };
+
+        assertThrows(UsernameNotFoundException.class, () -> authenticatedUserCache.get(9L, missing));
+        assertThrows(UsernameNotFoundException.class, () -> authenticatedUserCache.get(9L, missing));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("Should evict the user when a role change arrives from the change bus")
+    void shouldEvictOnUserRolesNotification() {
+        authenticatedUserCache.get(1L, loader);
+        authenticatedUserCache.get(2L, loader);
+        authenticatedUserCache.onChange(ChangeNotification.userRoles(1L));
+        authenticatedUserCache.get(1L, loader);
+        authenticatedUserCache.get(2L, loader);
+
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    @DisplayName("Should drop every user when the change bus is reset")
+    void shouldInvalidateAllOnReset() {
+        authenticatedUserCache.get(1L, loader);
+        authenticatedUserCache.get(2L, loader);
+        authenticatedUserCache.onChange(ChangeNotification.reset());
+        authenticatedUserCache.get(1L, loader);
+        authenticatedUserCache.get(2L, loader);
+
+        assertEquals(4, loads.get());
+    }
+}
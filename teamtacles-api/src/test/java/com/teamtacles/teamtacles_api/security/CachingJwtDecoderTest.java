@@ -0,0 +1,79 @@
+package com.teamtacles.teamtacles_api.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+@ExtendWith(MockitoExtension.class)
+public class CachingJwtDecoderTest {
+
+    @Mock
+    private JwtDecoder delegate;
+
+    private CachingJwtDecoder cachingJwtDecoder;
+
+    @BeforeEach
+    void setUp() {
+        cachingJwtDecoder = new CachingJwtDecoder(delegate, 100, Duration.ofHours(1));
+    }
+
+    @Test
+    @DisplayName("Should verify a reused token only once")
+    void shouldVerifyTokenOnce_whenReused() {
+        Jwt jwt = jwt(Instant.now().plusSeconds(900));
+        when(delegate.decode("token")).thenReturn(jwt);
+
+        assertSame(jwt, cachingJwtDecoder.decode("token"));
+        assertSame(jwt, cachingJwtDecoder.decode("token"));
+
+        verify(delegate, times(1)).decode("token");
+        assertEquals(1, cachingJwtDecoder.stats().hitCount());
+    }
+
+    @Test
+    @DisplayName("Should not cache the tokens rejected by the delegate decoder")
+    void shouldNotCacheInvalidTokens() {
+        when(delegate.decode("invalid")).thenThrow(new BadJwtException("Invalid signature"));
+
+        assertThrows(BadJwtException.class, () -> cachingJwtDecoder.decode("invalid"));
+        assertThrows(BadJwtException.class, () -> cachingJwtDecoder.decode("invalid"));
+
+        verify(delegate, times(2)).decode("invalid");
+    }
+
+    @Test
+    @DisplayName("Should verify the token again once it has expired")
+    void shouldNotReuseExpiredTokens() {
+        when(delegate.decode("expired")).thenReturn(jwt(Instant.now().minusSeconds(1)));
+
+        cachingJwtDecoder.decode("expired");
+        cachingJwtDecoder.decode("expired");
+
+        verify(delegate, times(2)).decode("expired");
+    }
+
+    private static Jwt jwt(Instant expiresAt) {
+        return Jwt.withTokenValue("token")
+            .header("alg", "RS256")
+            .subject("testuser")
+            .issuedAt(expiresAt.minusSeconds(900))
+            .expiresAt(expiresAt)
+            .build();
+    }
+}
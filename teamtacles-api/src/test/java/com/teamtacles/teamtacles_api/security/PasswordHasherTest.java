@@ -0,0 +1,77 @@
+package com.teamtacles.teamtacles_api.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.teamtacles.teamtacles_api.exception.ServiceBusyException;
+
+public class PasswordHasherTest {
+
+    private PasswordHasher passwordHasher;
+
+    @AfterEach
+    void tearDown() {
+        passwordHasher.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should verify passwords on the hashing pool")
+    void shouldVerifyPasswords() {
+        passwordHasher = new PasswordHasher(new BCryptPasswordEncoder(4), 4, 1, 4);
+        String encodedPassword = passwordHasher.encode("12345");
+
+        assertTrue(passwordHasher.matchesAsync("12345", encodedPassword).join());
+        assertFalse(passwordHasher.matchesAsync("54321", encodedPassword).join());
+    }
+
+    @Test
+    @DisplayName("Should ask for a rehash only when the cost of the hash differs from the configured cost")
+    void shouldNeedRehash_whenCostDiffers() {
+        passwordHasher = new PasswordHasher(new BCryptPasswordEncoder(5), 5, 1, 4);
+
+        assertFalse(passwordHasher.needsRehash(new BCryptPasswordEncoder(5).encode("12345")));
+        assertTrue(passwordHasher.needsRehash(new BCryptPasswordEncoder(4).encode("12345")));
+        assertTrue(passwordHasher.needsRehash(new BCryptPasswordEncoder(6).encode("12345")));
+        assertFalse(passwordHasher.needsRehash("not-a-bcrypt-hash"));
+    }
+
+    @Test
+    @DisplayName("Should refuse new operations when the queue is full")
+    void shouldThrowServiceBusyException_whenQueueIsFull() {
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blockingEncoder = new BCryptPasswordEncoder(4) {
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                try {
+                    release.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                return true;
+            }
+        };
+        passwordHasher = new PasswordHasher(blockingEncoder, 4, 1, 1);
+
+        // uma operação em execução e uma na fila ocupam o pool inteiro
+        CompletableFuture<Boolean> running = passwordHasher.matchesAsync("12345", "hash");
+        CompletableFuture<Boolean> queued = passwordHasher.matchesAsync("12345", "hash");
+
+        assertThrows(ServiceBusyException.class, () -> passwordHasher.matchesAsync("12345", "hash"));
+        assertEquals(1, passwordHasher.rejectedCount());
+
+        release.countDown();
+        assertTrue(running.join());
+        assertTrue(queued.join());
+    }
+}
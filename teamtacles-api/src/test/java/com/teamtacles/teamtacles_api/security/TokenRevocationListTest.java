@@ -0,0 +1,112 @@
+package com.teamtacles.teamtacles_api.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.teamtacles.teamtacles_api.changebus.ChangeNotification;
+import com.teamtacles.teamtacles_api.model.RevokedToken;
+import com.teamtacles.teamtacles_api.repository.RevokedTokenRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class TokenRevocationListTest {
+
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+
+    private TokenRevocationList tokenRevocationList;
+
+    @BeforeEach
+    void setUp() {
+        tokenRevocationList = new TokenRevocationList(revokedTokenRepository, Duration.ofMinutes(15), 1000);
+    }
+
+    @Test
+    @DisplayName("Should report only the revoked tokens, clearing the Bloom filter false positives")
+    void shouldReportOnlyRevokedTokens() {
+        List<String> revoked = IntStream.range(0, 1000).mapToObj(i -> UUID.randomUUID().toString()).toList();
+        tokenRevocationList.revoke(revoked, Instant.now().plusSeconds(60));
+
+        revoked.forEach(tokenId -> assertTrue(tokenRevocationList.isRevoked(tokenId)));
+        for (int i = 0; i < 10_000; i++) {
+            assertFalse(tokenRevocationList.isRevoked(UUID.randomUUID().toString()));
+        }
+        // dimensionado para 1% de falsos positivos
+        assertTrue(tokenRevocationList.falsePositiveCount() < 300, "Too many false positives: " + tokenRevocationList.falsePositiveCount());
+        assertFalse(tokenRevocationList.isRevoked(null));
+    }
+
+    @Test
+    @DisplayName("Should add the tokens revoked on any node from the change bus")
+    void shouldRevokeTokens_whenNotified() {
+        tokenRevocationList.onChange(ChangeNotification.tokensRevoked(List.of("a-token-id")));
+
+        assertTrue(tokenRevocationList.isRevoked("a-token-id"));
+    }
+
+    @Test
+    @DisplayName("Should drop the expired tokens when pruned and reload the current ones on a reset")
+    void shouldPruneExpiredTokens_andReloadOnReset() {
+        tokenRevocationList.revoke(List.of("expired"), Instant.now().minusSeconds(1));
+        tokenRevocationList.revoke(List.of("valid"), Instant.now().plusSeconds(60));
+
+        tokenRevocationList.pruneExpired();
+
+        assertFalse(tokenRevocationList.isRevoked("expired"));
+        assertTrue(tokenRevocationList.isRevoked("valid"));
+
+        when(revokedTokenRepository.findByExpiresAtAfter(any()))
+            .thenReturn(List.of(new RevokedToken("from-database", Instant.now().plusSeconds(60))));
+        tokenRevocationList.onChange(ChangeNotification.reset());
+
+        assertTrue(tokenRevocationList.isRevoked("from-database"));
+        assertFalse(tokenRevocationList.isRevoked("valid"));
+        assertEquals(1, tokenRevocationList.size());
+    }
+
+    @Test
+    @DisplayName("Should keep reporting a revoked token while the list is reloaded")
+    void shouldKeepRevokedTokens_whileReloading() {
+        List<RevokedToken> stored = IntStream.range(0, 1000)
+            .mapToObj(i -> new RevokedToken(i == 0 ? "kept" : UUID.randomUUID().toString(), Instant.now().plusSeconds(60)))
+            .toList();
+        when(revokedTokenRepository.findByExpiresAtAfter(any())).thenReturn(stored);
+        tokenRevocationList.reload();
+
+        AtomicBoolean reloading = new AtomicBoolean(true);
+        AtomicInteger accepted = new AtomicInteger();
+        CompletableFuture<Void> reader = CompletableFuture.runAsync(() -> {
+            while (reloading.get()) {
+                if (!tokenRevocationList.isRevoked("kept")) {
+                    accepted.incrementAndGet();
+                }
+            }
+        });
+        for (int i = 0; i < 200; i++) {
+            tokenRevocationList.reload();
+            tokenRevocationList.pruneExpired();
+        }
+        reloading.set(false);
+        reader.join();
+
+        assertEquals(0, accepted.get(), "A revoked token was accepted during a reload");
+    }
+}
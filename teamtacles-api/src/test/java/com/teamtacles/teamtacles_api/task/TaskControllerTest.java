@@ -10,15 +10,21 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
+import com.teamtacles.teamtacles_api.dto.request.TaskBulkRequestDTO;
 import com.teamtacles.teamtacles_api.dto.request.TaskRequestDTO;
 import com.teamtacles.teamtacles_api.dto.request.TaskRequestPatchDTO;
+import com.teamtacles.teamtacles_api.dto.request.TaskStatusBulkRequestDTO;
 import com.teamtacles.teamtacles_api.model.Project;
 import com.teamtacles.teamtacles_api.model.Task;
+import com.teamtacles.teamtacles_api.model.User;
 import com.teamtacles.teamtacles_api.model.enums.Status;
 import com.teamtacles.teamtacles_api.repository.ProjectRepository;
 import com.teamtacles.teamtacles_api.repository.TaskRepository;
 import com.teamtacles.teamtacles_api.repository.UserRepository;
+import com.teamtacles.teamtacles_api.service.ProjectStatusCounterService;
 import com.teamtacles.teamtacles_api.util.TestDataAux;
 import com.teamtacles.teamtacles_api.util.TestDataProjectAux;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -30,6 +36,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -59,6 +66,9 @@ public class TaskControllerTest {
     @Autowired
     private TestDataProjectAux testDataProjectAux;
 
+    @Autowired
+    private ProjectStatusCounterService projectStatusCounterService;
+
     @BeforeEach
     void setUpEnvironment() {
         taskRepository.deleteAll();
@@ -90,6 +100,129 @@ public class TaskControllerTest {
         assertEquals(testDataAux.getNormalUser().getUserId(), tasks.get(0).getOwner().getUserId(), "Task should be assigned to the correct user");   
     }
 
+    @Test
+    @DisplayName("Should stream all tasks as NDJSON when ADMIN")
+    void testExportTasks_WhenAdmin_ShouldStreamNdjson() throws Exception {
+        Task userTask = createUserTask();
+        Task adminTask = createAdminTask();
+
+        MvcResult result = mockMvc.perform(get("/api/project/task/export")
+                .header("Authorization", "Bearer " + testDataAux.getAdminUserToken()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/x-ndjson"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"tasks.ndjson\""))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length, "One line should be written per task");
+        assertEquals(userTask.getId(), ((Number) JsonPath.read(lines[0], "$.id")).longValue());
+        assertEquals(adminTask.getId(), ((Number) JsonPath.read(lines[1], "$.id")).longValue());
+        assertEquals("testadmin", JsonPath.read(lines[1], "$.owner"));
+    }
+
+    @Test
+    @DisplayName("Should stream only the user's tasks as CSV")
+    void testExportTasks_WhenUser_ShouldStreamOwnTasksAsCsv() throws Exception {
+        Task userTask = createUserTask();
+        createAdminTask();
+
+        MvcResult result = mockMvc.perform(get("/api/project/task/export")
+                .param("format", "csv")
+                .header("Authorization", "Bearer " + testDataAux.getNormalUserToken()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "text/csv"))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length, "The header and the user's task should be written");
+        assertEquals("id,title,description,dueDate,status,projectId,owner", lines[0]);
+        assertTrue(lines[1].startsWith(userTask.getId() + ",Review project documentation,"));
+        assertTrue(lines[1].endsWith(",TODO," + testDataProjectAux.getProject().getId() + ",testuser"));
+    }
+
+    @Test
+    @DisplayName("Should return 400 when the export format is invalid")
+    void testExportTasks_WithInvalidFormat_ShouldReturn400() throws Exception {
+        mockMvc.perform(get("/api/project/task/export")
+                .param("format", "xml")
+                .header("Authorization", "Bearer " + testDataAux.getAdminUserToken()))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should create several tasks at once and return 201 CREATED")
+    void testCreateTasks_ShouldReturn201() throws Exception {
+        List<TaskRequestDTO> tasks = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            TaskRequestDTO dto = new TaskRequestDTO();
+            dto.setTitle("Imported task " + i);
+            dto.setDueDate(LocalDateTime.now().plusDays(5));
+            dto.setUsersResponsability(List.of(testDataAux.getNormalUser().getUserId(), testDataAux.getAdminUser().getUserId()));
+            tasks.add(dto);
+        }
+
+        mockMvc.perform(post("/api/project/{project_id}/task/bulk", testDataProjectAux.getProject().getId())
+                .header("Authorization", "Bearer " + testDataAux.getNormalUserToken())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new TaskBulkRequestDTO(tasks))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.length()").value(120))
+                .andExpect(jsonPath("$[0].title").value("Imported task 0"))
+                .andExpect(jsonPath("$[119].title").value("Imported task 119"))
+                .andExpect(jsonPath("$[0].status").value("TODO"))
+                .andExpect(jsonPath("$[0].usersResponsability.length()").value(2));
+
+        assertEquals(120, taskRepository.count(), "Every task of the batch should be created");
+    }
+
+    @Test
+    @DisplayName("Should not create any task of the batch when a responsible user doesnt exists - return 404")
+    void testCreateTasks_WhenUserIdDoesntExists_ShouldReturn404() throws Exception {
+        TaskRequestDTO validTask = new TaskRequestDTO();
+        validTask.setTitle("Valid task");
+        validTask.setDueDate(LocalDateTime.now().plusDays(5));
+
+        TaskRequestDTO invalidTask = new TaskRequestDTO();
+        invalidTask.setTitle("Task with unknown user");
+        invalidTask.setDueDate(LocalDateTime.now().plusDays(5));
+        invalidTask.setUsersResponsability(List.of(99999L));
+
+        mockMvc.perform(post("/api/project/{project_id}/task/bulk", testDataProjectAux.getProject().getId())
+                .header("Authorization", "Bearer " + testDataAux.getNormalUserToken())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new TaskBulkRequestDTO(List.of(validTask, invalidTask)))))
+                .andExpect(status().isNotFound());
+
+        assertEquals(0, taskRepository.count(), "No task of the batch should be created");
+    }
+
+    @Test
+    @DisplayName("Should return 400 when the batch is empty or has an invalid task")
+    void testCreateTasks_WithInvalidBatch_ShouldReturn400() throws Exception {
+        mockMvc.perform(post("/api/project/{project_id}/task/bulk", testDataProjectAux.getProject().getId())
+                .header("Authorization", "Bearer " + testDataAux.getNormalUserToken())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new TaskBulkRequestDTO(List.of()))))
+                .andExpect(status().isBadRequest());
+
+        TaskRequestDTO withoutTitle = new TaskRequestDTO();
+        withoutTitle.setDueDate(LocalDateTime.now().plusDays(5));
+
+        mockMvc.perform(post("/api/project/{project_id}/task/bulk", testDataProjectAux.getProject().getId())
+                .header("Authorization", "Bearer " + testDataAux.getNormalUserToken())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new TaskBulkRequestDTO(List.of(withoutTitle)))))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("Should throw exception when creating task in non-existent project return 404")
     void testCreateTask_WhenProjectDoesntExists_ShouldReturn404() throws Exception {
@@ -266,6 +399,62 @@ public class TaskControllerTest {
                 .andExpect(jsonPath("$.content[1].title").doesNotExist()); // não aparece para o usuario
     }
 
+    @Test
+    @DisplayName("Should search the title and description of the tasks visible to the user with 200 OK")
+    void testSearchTasks_WhenUserSearchesText_ShouldReturnOnlyVisibleMatches() throws Exception {
+        Task savedTask = createUserTask();
+        Task savedTask2 = createAdminTask();
+
+        mockMvc.perform(get("/api/project/task/search")
+                .param("q", "DOCUMENTATION")
+                .header("Authorization", "Bearer " + testDataAux.getNormalUserToken()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(1))
+                .andExpect(jsonPath("$.content[0].title").value("Review project documentation"));
+
+        // a tarefa do admin também corresponde à busca, mas não é visível para o usuário
+        mockMvc.perform(get("/api/project/task/search")
+                .param("q", "admin's task")
+                .header("Authorization", "Bearer " + testDataAux.getNormalUserToken()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(0));
+
+        mockMvc.perform(get("/api/project/task/search")
+                .param("q", "admin's task")
+                .header("Authorization", "Bearer " + testDataAux.getAdminUserToken()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(1))
+                .andExpect(jsonPath("$.content[0].title").value("Admin's Task"));
+    }
+
+    @Test
+    @DisplayName("Should page tasks without counting them when count is none")
+    void testGetTasksFiltered_WhenCountIsNone_ShouldReturnHasNextWithoutTotals() throws Exception {
+        createUserTask();
+        createAdminTask();
+
+        mockMvc.perform(get("/api/project/task/search")
+                .param("size", "1")
+                .param("sort", "id")
+                .param("count", "none")
+                .header("Authorization", "Bearer " + testDataAux.getAdminUserToken()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.totalElements").value(-1))
+                .andExpect(jsonPath("$.hasNext").value(true));
+
+        mockMvc.perform(get("/api/project/task/search")
+                .param("page", "1")
+                .param("size", "1")
+                .param("sort", "id")
+                .param("count", "none")
+                .header("Authorization", "Bearer " + testDataAux.getAdminUserToken()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.last").value(true))
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
     @Test
     @DisplayName("Should return tasks filtered by status, dueDate and projectId when admin with 200 OK")
     void testGetTasksFiltered_WhenAdminWithFilters_ShouldReturn200() throws Exception {
@@ -327,6 +516,92 @@ public class TaskControllerTest {
             .andExpect(jsonPath("$.content[0].status").value(status));
     }
 
+    @Test
+    @DisplayName("Should return no tasks when the supplied filters exclude them")
+    void testGetTasksFiltered_WithExcludingFilters_ShouldReturnEmptyPage() throws Exception {
+        createUserTask();
+
+        mockMvc.perform(get("/api/project/task/search")
+            .param("status", Status.DONE.toString())
+            .header("Authorization", "Bearer " + testDataAux.getNormalUserToken()))
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content.length()").value(0))
+            .andExpect(jsonPath("$.totalElements").value(0));
+
+        mockMvc.perform(get("/api/project/task/search")
+            .param("dueDate", LocalDateTime.now().plusDays(1).toString())
+            .header("Authorization", "Bearer " + testDataAux.getAdminUserToken()))
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content.length()").value(0))
+            .andExpect(jsonPath("$.totalElements").value(0));
+    }
+
+    @Test
+    @DisplayName("Should walk the filtered tasks by cursor ordered by due date as admin")
+    void testGetTasksFilteredByCursor_WhenAdmin_ShouldReturnAllPages() throws Exception {
+        Task firstTask = createUserTask();
+        Task secondTask = createAdminTask();
+        Task thirdTask = createUserTask();
+
+        String response = mockMvc.perform(get("/api/project/task/search/cursor")
+            .param("projectId", String.valueOf(testDataProjectAux.getProject().getId()))
+            .param("size", "2")
+            .header("Authorization", "Bearer " + testDataAux.getAdminUserToken()))
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content.length()").value(2))
+            .andExpect(jsonPath("$.content[0].id").value(firstTask.getId()))
+            .andExpect(jsonPath("$.content[1].id").value(secondTask.getId()))
+            .andExpect(jsonPath("$.hasNext").value(true))
+            .andReturn().getResponse().getContentAsString();
+
+        String nextCursor = JsonPath.read(response, "$.nextCursor");
+
+        mockMvc.perform(get("/api/project/task/search/cursor")
+            .param("projectId", String.valueOf(testDataProjectAux.getProject().getId()))
+            .param("size", "2")
+            .param("cursor", nextCursor)
+            .header("Authorization", "Bearer " + testDataAux.getAdminUserToken()))
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content.length()").value(1))
+            .andExpect(jsonPath("$.content[0].id").value(thirdTask.getId()))
+            .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    @Test
+    @DisplayName("Should return by cursor only the tasks of the normal user")
+    void testGetTasksFilteredByCursor_WhenUser_ShouldReturnOwnTasks() throws Exception {
+        Task savedTask = createUserTask();
+        createAdminTask();
+
+        mockMvc.perform(get("/api/project/task/search/cursor")
+            .header("Authorization", "Bearer " + testDataAux.getNormalUserToken()))
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content.length()").value(1))
+            .andExpect(jsonPath("$.content[0].id").value(savedTask.getId()))
+            .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    @Test
+    @DisplayName("Should return 400 Bad Request when the cursor or the size is invalid")
+    void testGetTasksFilteredByCursor_WithInvalidCursor_ShouldReturn400() throws Exception {
+        mockMvc.perform(get("/api/project/task/search/cursor")
+            .param("cursor", "bm90LWEtY3Vyc29y")
+            .header("Authorization", "Bearer " + testDataAux.getAdminUserToken()))
+            .andDo(print())
+            .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/project/task/search/cursor")
+            .param("size", "0")
+            .header("Authorization", "Bearer " + testDataAux.getAdminUserToken()))
+            .andDo(print())
+            .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("Should return 404 Not Found when filtering tasks with non-existent projectId")
     void testGetTasksFiltered_WithNonExistentProjectId_ShouldReturn404() throws Exception {
@@ -381,6 +656,158 @@ public class TaskControllerTest {
                 .andExpect(jsonPath("$.status").value("INPROGRESS"));
     }
 
+    @Test
+    @DisplayName("Should update the status of several tasks as ADMIN and report unknown tasks")
+    void testUpdateStatuses_WhenAdmin_ShouldReturnResultPerTask() throws Exception {
+        Task userTask = createUserTask();
+        Task adminTask = createAdminTask();
+
+        TaskStatusBulkRequestDTO dto = new TaskStatusBulkRequestDTO(List.of(userTask.getId(), adminTask.getId(), 99999L), Status.DONE);
+
+        mockMvc.perform(patch("/api/project/{id_project}/task/bulk/updateStatus", testDataProjectAux.getProject().getId())
+                .header("Authorization", "Bearer " + testDataAux.getAdminUserToken())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0].taskId").value(userTask.getId()))
+                .andExpect(jsonPath("$[0].success").value(true))
+                .andExpect(jsonPath("$[1].success").value(true))
+                .andExpect(jsonPath("$[2].taskId").value(99999))
+                .andExpect(jsonPath("$[2].success").value(false))
+                .andExpect(jsonPath("$[2].message").value("Task Not Found."));
+
+        assertEquals(Status.DONE, taskRepository.findById(userTask.getId()).get().getStatus());
+        assertEquals(Status.DONE, taskRepository.findById(adminTask.getId()).get().getStatus());
+    }
+
+    @Test
+    @DisplayName("Should update only the tasks the User is responsible for and report the others as forbidden")
+    void testUpdateStatuses_WhenUser_ShouldUpdateOnlyAllowedTasks() throws Exception {
+        Task userTask = createUserTask();
+        Task adminTask = createAdminTask();
+
+        TaskStatusBulkRequestDTO dto = new TaskStatusBulkRequestDTO(List.of(userTask.getId(), adminTask.getId()), Status.INPROGRESS);
+
+        mockMvc.perform(patch("/api/project/{id_project}/task/bulk/updateStatus", testDataProjectAux.getProject().getId())
+                .header("Authorization", "Bearer " + testDataAux.getNormalUserToken())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].success").value(true))
+                .andExpect(jsonPath("$[0].message").doesNotExist())
+                .andExpect(jsonPath("$[1].success").value(false))
+                .andExpect(jsonPath("$[1].message").value("FORBIDDEN - You do not have permission to modify this task."));
+
+        assertEquals(Status.INPROGRESS, taskRepository.findById(userTask.getId()).get().getStatus());
+        assertEquals(Status.TODO, taskRepository.findById(adminTask.getId()).get().getStatus());
+    }
+
+    @Test
+    @DisplayName("Should keep the project status counters in step with task creation, status changes and deletion")
+    void testStatusCounts_ShouldFollowTaskChanges() throws Exception {
+        Long projectId = testDataProjectAux.getProject().getId();
+
+        List<TaskRequestDTO> tasks = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            TaskRequestDTO dto = new TaskRequestDTO();
+            dto.setTitle("Board task " + i);
+            dto.setDueDate(LocalDateTime.now().plusDays(5));
+            tasks.add(dto);
+        }
+        MvcResult created = mockMvc.perform(post("/api/project/{project_id}/task/bulk", projectId)
+                .header("Authorization", "Bearer " + testDataAux.getNormalUserToken())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new TaskBulkRequestDTO(tasks))))
+                .andExpect(status().isCreated())
+                .andReturn();
+        List<Number> ids = JsonPath.read(created.getResponse().getContentAsString(), "$[*].id");
+
+        mockMvc.perform(patch("/api/project/{id_project}/task/bulk/updateStatus", projectId)
+                .header("Authorization", "Bearer " + testDataAux.getNormalUserToken())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new TaskStatusBulkRequestDTO(List.of(ids.get(0).longValue(), ids.get(1).longValue()), Status.DONE))))
+                .andExpect(status().isOk());
+
+        TaskRequestPatchDTO patchDTO = new TaskRequestPatchDTO();
+        patchDTO.setStatus(Optional.of(Status.INPROGRESS));
+        mockMvc.perform(patch("/api/project/{id_project}/task/{id_task}/updateStatus", projectId, ids.get(2).longValue())
+                .header("Authorization", "Bearer " + testDataAux.getNormalUserToken())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(patchDTO)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(delete("/api/project/{id_project}/task/{id_task}", projectId, ids.get(0).longValue())
+                .header("Authorization", "Bearer " + testDataAux.getNormalUserToken()))
+                .andExpect(status().isNoContent());
+
+        projectStatusCounterService.compact();
+
+        mockMvc.perform(get("/api/project/{id}/status-counts", projectId)
+                .header("Authorization", "Bearer " + testDataAux.getNormalUserToken()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.projectId").value(projectId))
+                .andExpect(jsonPath("$.counts.TODO").value(0))
+                .andExpect(jsonPath("$.counts.INPROGRESS").value(1))
+                .andExpect(jsonPath("$.counts.DONE").value(1));
+
+        // a reconstrução parte das tarefas e chega aos mesmos números
+        mockMvc.perform(post("/api/project/status-counts/rebuild")
+                .header("Authorization", "Bearer " + testDataAux.getNormalUserToken()))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/api/project/status-counts/rebuild")
+                .header("Authorization", "Bearer " + testDataAux.getAdminUserToken()))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/project/{id}/status-counts", projectId)
+                .header("Authorization", "Bearer " + testDataAux.getAdminUserToken()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.counts.TODO").value(0))
+                .andExpect(jsonPath("$.counts.INPROGRESS").value(1))
+                .andExpect(jsonPath("$.counts.DONE").value(1));
+    }
+
+    @Test
+    @DisplayName("Should push the task changes of the project to its event stream subscribers")
+    void testProjectEvents_ShouldPushTaskChanges() throws Exception {
+        Task userTask = createUserTask();
+        Long projectId = testDataProjectAux.getProject().getId();
+
+        MvcResult events = mockMvc.perform(get("/api/project/{id}/events", projectId)
+                .header("Authorization", "Bearer " + testDataAux.getNormalUserToken()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        TaskRequestPatchDTO patchDTO = new TaskRequestPatchDTO();
+        patchDTO.setStatus(Optional.of(Status.DONE));
+        mockMvc.perform(patch("/api/project/{id_project}/task/{id_task}/updateStatus", projectId, userTask.getId())
+                .header("Authorization", "Bearer " + testDataAux.getNormalUserToken())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(patchDTO)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(delete("/api/project/{id_project}/task/{id_task}", projectId, userTask.getId())
+                .header("Authorization", "Bearer " + testDataAux.getNormalUserToken()))
+                .andExpect(status().isNoContent());
+
+        String body = awaitContent(events, "event:DELETED");
+        assertEquals("text/event-stream", events.getResponse().getContentType());
+        assertTrue(body.contains("event:STATUS_CHANGED\ndata:{\"type\":\"STATUS_CHANGED\",\"projectId\":" + projectId + ",\"taskId\":" + userTask.getId() + ",\"status\":\"DONE\"}"), body);
+        assertTrue(body.indexOf("event:STATUS_CHANGED") < body.indexOf("event:DELETED"), "Events should be pushed in commit order");
+    }
+
+    @Test
+    @DisplayName("Should return 400 when the status is missing in the bulk status update")
+    void testUpdateStatuses_WithoutStatus_ShouldReturn400() throws Exception {
+        Task userTask = createUserTask();
+
+        mockMvc.perform(patch("/api/project/{id_project}/task/bulk/updateStatus", testDataProjectAux.getProject().getId())
+                .header("Authorization", "Bearer " + testDataAux.getNormalUserToken())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new TaskStatusBulkRequestDTO(List.of(userTask.getId()), null))))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("Should forbid partial update of task by unauthorized User with 403 FORBIDDEN")
     void testPartialUpdate_WhenUserNotResponsible_ShouldReturn403() throws Exception {
@@ -397,6 +824,94 @@ public class TaskControllerTest {
                 .andExpect(status().isForbidden());
     }
 
+    @Test
+    @DisplayName("Should answer If-None-Match with the current ETag with 304 NOT MODIFIED")
+    void testGetTaskById_WithIfNoneMatch_ShouldReturn304() throws Exception {
+        Task userTask = createUserTask();
+        Long projectId = testDataProjectAux.getProject().getId();
+
+        String etag = mockMvc.perform(get("/api/project/{id_project}/task/{id_task}", projectId, userTask.getId())
+                .header("Authorization", "Bearer " + testDataAux.getNormalUserToken()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/project/{id_project}/task/{id_task}", projectId, userTask.getId())
+                .header("Authorization", "Bearer " + testDataAux.getNormalUserToken())
+                .header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        // a permissão é verificada antes da comparação da ETag
+        mockMvc.perform(get("/api/project/{id_project}/task/{id_task}", projectId, createAdminTask().getId())
+                .header("Authorization", "Bearer " + testDataAux.getNormalUserToken())
+                .header("If-None-Match", etag))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("Should change the ETag of a task when its owner changes")
+    void testGetTaskById_WhenOwnerChanges_ShouldChangeETag() throws Exception {
+        Task userTask = createUserTask();
+        Long projectId = testDataProjectAux.getProject().getId();
+
+        String etag = mockMvc.perform(get("/api/project/{id_project}/task/{id_task}", projectId, userTask.getId())
+                .header("Authorization", "Bearer " + testDataAux.getNormalUserToken()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        // a versão da tarefa não muda, mas o email exibido do dono muda
+        User owner = userRepository.findById(testDataAux.getNormalUser().getUserId()).orElseThrow();
+        owner.setEmail("renamed@example.com");
+        userRepository.save(owner);
+
+        mockMvc.perform(get("/api/project/{id_project}/task/{id_task}", projectId, userTask.getId())
+                .header("Authorization", "Bearer " + testDataAux.getNormalUserToken())
+                .header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(etag)))
+                .andExpect(jsonPath("$.owner.email").value("renamed@example.com"));
+    }
+
+    @Test
+    @DisplayName("Should apply the status update only while If-Match has the current ETag, else 412 PRECONDITION FAILED")
+    void testPartialUpdate_WithIfMatch_ShouldRejectStaleETag() throws Exception {
+        Task userTask = createUserTask();
+        Long projectId = testDataProjectAux.getProject().getId();
+
+        String etag = mockMvc.perform(get("/api/project/{id_project}/task/{id_task}", projectId, userTask.getId())
+                .header("Authorization", "Bearer " + testDataAux.getNormalUserToken()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        TaskRequestPatchDTO dto = new TaskRequestPatchDTO();
+        dto.setStatus(Optional.of(Status.INPROGRESS));
+
+        String newEtag = mockMvc.perform(patch("/api/project/{id_project}/task/{id_task}/updateStatus", projectId, userTask.getId())
+                .header("Authorization", "Bearer " + testDataAux.getNormalUserToken())
+                .header("If-Match", etag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        assertNotEquals(etag, newEtag);
+
+        // a segunda requisição com a ETag antiga perde a corrida e não sobrescreve a primeira
+        dto.setStatus(Optional.of(Status.DONE));
+        mockMvc.perform(patch("/api/project/{id_project}/task/{id_task}/updateStatus", projectId, userTask.getId())
+                .header("Authorization", "Bearer " + testDataAux.getNormalUserToken())
+                .header("If-Match", etag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(get("/api/project/{id_project}/task/{id_task}", projectId, userTask.getId())
+                .header("Authorization", "Bearer " + testDataAux.getNormalUserToken()))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", newEtag))
+                .andExpect(jsonPath("$.status").value("INPROGRESS"));
+    }
+
     @Test
     @DisplayName("Should fully update task as Admin with 200 OK")
     void testFullUpdate_WhenAdmin_ShouldReturn200() throws Exception {
@@ -483,6 +998,17 @@ public class TaskControllerTest {
                 .andExpect(status().isForbidden());
     }
 
+    // os eventos são enviados por uma thread virtual, após o commit
+    private String awaitContent(MvcResult result, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 5000;
+        String content = result.getResponse().getContentAsString();
+        while (!content.contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            content = result.getResponse().getContentAsString();
+        }
+        return content;
+    }
+
     private Task createUserTask() {
         Task task = new Task();
         task.setTitle("Review project documentation");
@@ -0,0 +1,59 @@
+package com.teamtacles.teamtacles_api.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teamtacles.teamtacles_api.concurrent.BoundedExecutor;
+import com.teamtacles.teamtacles_api.exception.ServiceBusyException;
+import com.teamtacles.teamtacles_api.repository.TaskRepository;
+import com.teamtacles.teamtacles_api.service.TaskExportService;
+
+public class TaskExportServiceTest {
+
+    private BoundedExecutor exportExecutor;
+    private TaskExportService taskExportService;
+
+    @BeforeEach
+    void setUp() {
+        exportExecutor = new BoundedExecutor("taskExport", 1, 1, "Busy.");
+        taskExportService = new TaskExportService(mock(TaskRepository.class), new ObjectMapper(), exportExecutor, 1, Duration.ofMinutes(10));
+    }
+
+    @AfterEach
+    void tearDown() {
+        exportExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should refuse an export with 503 while the maximum number of exports is running, and accept it once one ends")
+    void shouldThrowServiceBusyException_whenTooManyExportsRun() throws Exception {
+        StreamingResponseBody body = outputStream -> outputStream.write("1\n".getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        WebAsyncTask<Void> running = taskExportService.startExport(body, response);
+        assertEquals(Duration.ofMinutes(10).toMillis(), running.getTimeout());
+        assertNotNull(running.getExecutor());
+
+        assertThrows(ServiceBusyException.class, () -> taskExportService.startExport(body, new MockHttpServletResponse()));
+
+        // a exportação termina e libera a vaga
+        running.getCallable().call();
+        assertEquals("1\n", response.getContentAsString());
+
+        assertNotNull(taskExportService.startExport(body, new MockHttpServletResponse()));
+    }
+}
@@ -0,0 +1,141 @@
+package com.teamtacles.teamtacles_api.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.teamtacles.teamtacles_api.model.Role;
+import com.teamtacles.teamtacles_api.model.Task;
+import com.teamtacles.teamtacles_api.model.User;
+import com.teamtacles.teamtacles_api.model.enums.ERole;
+import com.teamtacles.teamtacles_api.model.enums.Status;
+import com.teamtacles.teamtacles_api.repository.ProjectRepository;
+import com.teamtacles.teamtacles_api.repository.RoleRepository;
+import com.teamtacles.teamtacles_api.repository.TaskRepository;
+import com.teamtacles.teamtacles_api.repository.UserRepository;
+import com.teamtacles.teamtacles_api.util.TestDataAux;
+import com.teamtacles.teamtacles_api.util.TestDataProjectAux;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class TaskFetchGraphTest {
+
+    private static final int TASK_COUNT = 30;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TestDataAux testDataAux;
+
+    @Autowired
+    private TestDataProjectAux testDataProjectAux;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUpEnvironment() {
+        taskRepository.deleteAll();
+        projectRepository.deleteAll();
+        userRepository.deleteAll();
+        testDataAux.setUpTestUsers();
+        testDataProjectAux.setUpTestProject();
+
+        // cada tarefa tem responsáveis diferentes, para que páginas maiores carreguem mais usuários e roles
+        Role userRole = roleRepository.findByRoleName(ERole.USER).orElseThrow();
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < TASK_COUNT; i++) {
+            User member = new User();
+            member.setUserName("member" + i);
+            member.setEmail("member" + i + "@example.com");
+            member.setPassword("12345");
+            member.setRoles(Set.of(userRole));
+            member = userRepository.save(member);
+
+            Task task = new Task();
+            task.setTitle("Task " + i);
+            task.setDescription("Task description " + i);
+            task.setDueDate(LocalDateTime.now().plusDays(i + 1));
+            task.setStatus(Status.TODO);
+            task.setOwner(member);
+            task.setUsersResponsability(List.of(testDataAux.getNormalUser(), member));
+            task.setProject(testDataProjectAux.getProject());
+            tasks.add(task);
+        }
+        taskRepository.saveAll(tasks);
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("Should run the same number of statements for /task/search regardless of the page size")
+    void searchTasks_shouldRunConstantStatementsPerPage() throws Exception {
+        String url = "/api/project/task/search?projectId=" + testDataProjectAux.getProject().getId() + "&sort=dueDate&size=";
+
+        // aquece o cache de usuários autenticados para medir apenas a busca
+        statementsFor(url + 1, 1);
+
+        long smallPage = statementsFor(url + 5, 5);
+        long largePage = statementsFor(url + 25, 25);
+
+        assertEquals(smallPage, largePage, "The number of statements must not grow with the page size.");
+    }
+
+    @Test
+    @DisplayName("Should run the same number of statements for tasks of a user regardless of the page size")
+    void tasksOfUser_shouldRunConstantStatementsPerPage() throws Exception {
+        String url = "/api/project/" + testDataProjectAux.getProject().getId() + "/tasks/user/" + testDataAux.getNormalUser().getUserId() + "?size=";
+
+        statementsFor(url + 1, 1);
+
+        long smallPage = statementsFor(url + 5, 5);
+        long largePage = statementsFor(url + 25, 25);
+
+        assertEquals(smallPage, largePage, "The number of statements must not grow with the page size.");
+    }
+
+    private long statementsFor(String url, int expectedSize) throws Exception {
+        statistics.clear();
+        mockMvc.perform(get(url)
+                .header("Authorization", "Bearer " + testDataAux.getAdminUserToken()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(expectedSize))
+                .andExpect(jsonPath("$.totalElements").value(TASK_COUNT));
+        return statistics.getPrepareStatementCount();
+    }
+}
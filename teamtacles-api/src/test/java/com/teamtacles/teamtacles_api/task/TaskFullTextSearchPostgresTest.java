@@ -0,0 +1,155 @@
+package com.teamtacles.teamtacles_api.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.teamtacles.teamtacles_api.model.Task;
+import com.teamtacles.teamtacles_api.model.User;
+import com.teamtacles.teamtacles_api.model.enums.CountMode;
+import com.teamtacles.teamtacles_api.model.enums.ERole;
+import com.teamtacles.teamtacles_api.model.enums.Status;
+import com.teamtacles.teamtacles_api.repository.ProjectRepository;
+import com.teamtacles.teamtacles_api.repository.RoleRepository;
+import com.teamtacles.teamtacles_api.repository.TaskRepository;
+import com.teamtacles.teamtacles_api.repository.UserRepository;
+import com.teamtacles.teamtacles_api.util.TestDataAux;
+import com.teamtacles.teamtacles_api.util.TestDataProjectAux;
+
+// a busca ranqueada (SQL nativo sobre task.search_vector) só existe no PostgreSQL: no H2 dos demais testes roda o LIKE
+// executado em um PostgreSQL real via Testcontainers; ignorado quando não há Docker
+@SpringBootTest
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+public class TaskFullTextSearchPostgresTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    // mesmo perfil de teste, mas com o PostgreSQL do container: o Flyway aplica também db/vendor/postgresql
+    @DynamicPropertySource
+    static void postgresProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.datasource.driverClassName", postgres::getDriverClassName);
+        registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.PostgreSQLDialect");
+    }
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private TestDataAux testDataAux;
+
+    @Autowired
+    private TestDataProjectAux testDataProjectAux;
+
+    private Task titleAndDescription;
+    private Task titleOnly;
+    private Task descriptionOnly;
+
+    @BeforeEach
+    void setUpEnvironment() {
+        taskRepository.deleteAll();
+        projectRepository.deleteAll();
+        userRepository.deleteAll();
+        testDataAux.setUpTestUsers();
+        testDataProjectAux.setUpTestProject();
+
+        User member = new User();
+        member.setUserName("member");
+        member.setEmail("member@example.com");
+        member.setPassword("12345");
+        member.setRoles(Set.of(roleRepository.findByRoleName(ERole.USER).orElseThrow()));
+        member = userRepository.save(member);
+
+        User normalUser = testDataAux.getNormalUser();
+        // o título pesa mais que a descrição: "deploy" no título e na descrição > só no título > só na descrição
+        titleAndDescription = taskRepository.save(task("Deploy pipeline", "Fix the deploy of the API", normalUser));
+        titleOnly = taskRepository.save(task("Deploy", "Release of the mobile app", member));
+        descriptionOnly = taskRepository.save(task("Write docs", "Notes about the deploy", normalUser));
+        taskRepository.save(task("Unrelated", "Nothing to see here", normalUser));
+    }
+
+    @Test
+    @DisplayName("Should order the hits by rank, title matches first")
+    void searchTaskIds_shouldOrderByRank() {
+        Slice<Long> ids = search("deploy", null, PageRequest.of(0, 10));
+
+        assertEquals(List.of(titleAndDescription.getId(), titleOnly.getId(), descriptionOnly.getId()), ids.getContent());
+    }
+
+    @Test
+    @DisplayName("Should return only the tasks the user owns or is responsible for")
+    void searchTaskIds_shouldApplyUserVisibility() {
+        Slice<Long> ids = search("deploy", testDataAux.getNormalUser().getUserId(), PageRequest.of(0, 10));
+
+        assertEquals(List.of(titleAndDescription.getId(), descriptionOnly.getId()), ids.getContent());
+    }
+
+    @Test
+    @DisplayName("Should count every hit when the page does not hold them all")
+    void searchTaskIds_shouldCountHits() {
+        Slice<Long> ids = search("deploy", null, PageRequest.of(0, 2));
+
+        Page<?> page = assertInstanceOf(Page.class, ids);
+        assertEquals(List.of(titleAndDescription.getId(), titleOnly.getId()), page.getContent());
+        assertEquals(3, page.getTotalElements());
+        assertEquals(2, page.getTotalPages());
+    }
+
+    @Test
+    @DisplayName("Should accept web search syntax, excluding the words prefixed with a minus sign")
+    void searchTaskIds_shouldExcludeNegatedWords() {
+        Slice<Long> ids = search("deploy -docs", null, PageRequest.of(0, 10));
+
+        assertEquals(List.of(titleAndDescription.getId(), titleOnly.getId()), ids.getContent());
+        assertFalse(ids.hasNext());
+    }
+
+    private Slice<Long> search(String text, Long userId, PageRequest pageable) {
+        return taskRepository.searchTaskIds(text, null, null, testDataProjectAux.getProject().getId(), userId,
+            pageable, CountMode.EXACT, null);
+    }
+
+    private Task task(String title, String description, User owner) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setDescription(description);
+        task.setDueDate(LocalDateTime.now().plusDays(1));
+        task.setStatus(Status.TODO);
+        task.setOwner(owner);
+        task.setUsersResponsability(List.of(owner));
+        task.setProject(testDataProjectAux.getProject());
+        return task;
+    }
+}
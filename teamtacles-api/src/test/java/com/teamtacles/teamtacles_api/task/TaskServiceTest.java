@@ -15,6 +15,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayOutputStream;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -29,28 +30,43 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.modelmapper.ModelMapper;
 import org.springframework.test.context.ActiveProfiles;
+import com.teamtacles.teamtacles_api.dto.request.TaskBulkRequestDTO;
 import com.teamtacles.teamtacles_api.dto.request.TaskRequestDTO;
 import com.teamtacles.teamtacles_api.dto.request.TaskRequestPatchDTO;
+import com.teamtacles.teamtacles_api.dto.request.TaskStatusBulkRequestDTO;
 import com.teamtacles.teamtacles_api.dto.response.ProjectResponseFilteredDTO;
+import com.teamtacles.teamtacles_api.dto.response.TaskEventDTO;
+import com.teamtacles.teamtacles_api.changebus.ChangeBus;
+import com.teamtacles.teamtacles_api.changebus.ChangeNotification;
 import com.teamtacles.teamtacles_api.dto.response.TaskResponseDTO;
+import com.teamtacles.teamtacles_api.dto.response.TaskStatusResultDTO;
 import com.teamtacles.teamtacles_api.exception.InvalidTaskStateException;
+import com.teamtacles.teamtacles_api.exception.PreconditionFailedException;
 import com.teamtacles.teamtacles_api.exception.ResourceNotFoundException;
 import com.teamtacles.teamtacles_api.mapper.PagedResponseMapper;
+import com.teamtacles.teamtacles_api.mapper.ResponseMapper;
 import com.teamtacles.teamtacles_api.model.Project;
 import com.teamtacles.teamtacles_api.model.Role;
 import com.teamtacles.teamtacles_api.model.Task;
 import com.teamtacles.teamtacles_api.model.User;
+import com.teamtacles.teamtacles_api.model.enums.CountMode;
 import com.teamtacles.teamtacles_api.model.enums.ERole;
+import com.teamtacles.teamtacles_api.model.enums.ExportFormat;
 import com.teamtacles.teamtacles_api.repository.ProjectRepository;
 import com.teamtacles.teamtacles_api.repository.TaskRepository;
 import com.teamtacles.teamtacles_api.repository.UserRepository;
 import com.teamtacles.teamtacles_api.service.ProjectService;
+import com.teamtacles.teamtacles_api.service.ProjectStatusCounterService;
+import com.teamtacles.teamtacles_api.service.TaskExportService;
 import com.teamtacles.teamtacles_api.service.TaskService;
 import com.teamtacles.teamtacles_api.model.enums.Status;
+import com.teamtacles.teamtacles_api.model.enums.TaskEventType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import com.teamtacles.teamtacles_api.dto.page.PagedResponse;
 import org.springframework.security.access.AccessDeniedException; 
 import com.teamtacles.teamtacles_api.dto.response.TaskResponseFilteredDTO;
@@ -75,9 +91,21 @@ public class TaskServiceTest {
     @Mock
     private ModelMapper modelMapper;
 
+    @Mock
+    private ResponseMapper responseMapper;
+
     @Mock
     private PagedResponseMapper pagedResponseMapper;
 
+    @Mock
+    private TaskExportService taskExportService;
+
+    @Mock
+    private ProjectStatusCounterService projectStatusCounterService;
+
+    @Mock
+    private ChangeBus changeBus;
+
     @InjectMocks
     private TaskService taskService;
 
@@ -180,12 +208,12 @@ public class TaskServiceTest {
         savedTaskEntity.setUsersResponsability(List.of(responsibleUser));
         when(taskRepository.save(any(Task.class))).thenReturn(savedTaskEntity);
 
-        // Configuração do que o modelMapper deve retornar
+        // Configuração do que o responseMapper deve retornar
         TaskResponseDTO expectedResponseDTO = new TaskResponseDTO();
         expectedResponseDTO.setId(savedTaskEntity.getId());
         expectedResponseDTO.setTitle(savedTaskEntity.getTitle());
 
-        when(modelMapper.map(savedTaskEntity, TaskResponseDTO.class)).thenReturn(expectedResponseDTO);
+        when(responseMapper.toTaskResponseDTO(savedTaskEntity)).thenReturn(expectedResponseDTO);
 
         // Act
         TaskResponseDTO actualResponseDTO = taskService.createTask(testProject.getId(), requestDTO, normalUser);
@@ -207,6 +235,7 @@ public class TaskServiceTest {
         assertEquals(testProject, taskPassedToSave.getProject(), "The task should be associated with the correct project.");
         assertTrue(taskPassedToSave.getUsersResponsability().contains(responsibleUser), "The responsible user should be in the list.");
         assertEquals(requestDTO.getTitle(), taskPassedToSave.getTitle(), "The title of the task passed to save should match the DTO.");
+        verify(projectStatusCounterService).add(testProject.getId(), Status.TODO, 1);
     }
 
     @Test
@@ -288,6 +317,69 @@ public class TaskServiceTest {
         verify(taskRepository, never()).save(any(Task.class)); 
     }
 
+    @Test
+    @DisplayName("1.5: Should create several tasks loading all responsible users in a single query")
+    void createTasks_shouldLoadResponsibleUsersOnce_whenDataIsValid() {
+        // Arrange
+        TaskRequestDTO firstRequest = new TaskRequestDTO();
+        firstRequest.setTitle("First imported task");
+        firstRequest.setDueDate(LocalDateTime.now().plusDays(7));
+        firstRequest.setUsersResponsability(List.of(responsibleUser.getUserId()));
+
+        TaskRequestDTO secondRequest = new TaskRequestDTO();
+        secondRequest.setTitle("Second imported task");
+        secondRequest.setDueDate(LocalDateTime.now().plusDays(8));
+        secondRequest.setUsersResponsability(List.of(responsibleUser.getUserId(), normalUser.getUserId()));
+
+        TaskBulkRequestDTO bulkRequest = new TaskBulkRequestDTO(List.of(firstRequest, secondRequest));
+
+        when(projectRepository.findById(testProject.getId())).thenReturn(Optional.of(testProject));
+        when(userRepository.findById(normalUser.getUserId())).thenReturn(Optional.of(normalUser));
+        when(userRepository.findAllById(Set.of(responsibleUser.getUserId()))).thenReturn(List.of(responsibleUser));
+        when(modelMapper.map(any(TaskRequestDTO.class), eq(Task.class))).thenAnswer(invocation -> new Task());
+        when(taskRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(responseMapper.toTaskResponseDTO(any(Task.class))).thenReturn(new TaskResponseDTO());
+
+        // Act
+        List<TaskResponseDTO> response = taskService.createTasks(testProject.getId(), bulkRequest, normalUser);
+
+        // Assert
+        assertEquals(2, response.size(), "A response should be returned for each task.");
+        verify(projectService, times(1)).ensureUserCanViewProject(testProject, normalUser);
+        verify(userRepository, times(1)).findAllById(any());
+        verify(userRepository, never()).findById(responsibleUser.getUserId());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Task>> tasksCaptor = ArgumentCaptor.forClass(List.class);
+        verify(taskRepository).saveAll(tasksCaptor.capture());
+        for (Task taskPassedToSave : tasksCaptor.getValue()) {
+            assertEquals(Status.TODO, taskPassedToSave.getStatus(), "The initial status of the task should be TODO.");
+            assertEquals(normalUser, taskPassedToSave.getOwner(), "The owner of the task should be the user who created it.");
+            assertEquals(List.of(responsibleUser, normalUser), taskPassedToSave.getUsersResponsability(), "The owner should be responsible only once.");
+        }
+        verify(projectStatusCounterService).add(testProject.getId(), Status.TODO, 2);
+    }
+
+    @Test
+    @DisplayName("1.6: Should not create any task when a responsible user of the batch does not exist")
+    void createTasks_shouldThrowResourceNotFoundException_whenResponsibleUserNotFound() {
+        // Arrange
+        TaskRequestDTO requestDTO = new TaskRequestDTO();
+        requestDTO.setTitle("Task with Nonexistent Responsible User");
+        requestDTO.setDueDate(LocalDateTime.now().plusDays(7));
+        requestDTO.setUsersResponsability(List.of(999L));
+
+        when(projectRepository.findById(testProject.getId())).thenReturn(Optional.of(testProject));
+        when(userRepository.findById(normalUser.getUserId())).thenReturn(Optional.of(normalUser));
+        when(userRepository.findAllById(Set.of(999L))).thenReturn(List.of());
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> {
+            taskService.createTasks(testProject.getId(), new TaskBulkRequestDTO(List.of(requestDTO)), normalUser);
+        });
+        verify(taskRepository, never()).saveAll(any());
+    }
+
     @Test
     @DisplayName("2.1: Admin should get any task")
     void getTasksById_shouldReturnTask_whenUserIsAdmin() {
@@ -298,7 +390,7 @@ public class TaskServiceTest {
         TaskResponseDTO expectedResponseDTO = new TaskResponseDTO();
         expectedResponseDTO.setId(existingTask.getId());
         expectedResponseDTO.setTitle(existingTask.getTitle());
-        when(modelMapper.map(existingTask, TaskResponseDTO.class)).thenReturn(expectedResponseDTO);
+        when(responseMapper.toTaskResponseDTO(existingTask)).thenReturn(expectedResponseDTO);
         // Act
         TaskResponseDTO actualResponseDTO = taskService.getTasksById(testProject.getId(), existingTask.getId(), adminUser);
         // Assert
@@ -306,7 +398,7 @@ public class TaskServiceTest {
         assertEquals(expectedResponseDTO.getId(), actualResponseDTO.getId(), "Task ID should match.");
         assertEquals(expectedResponseDTO.getTitle(), actualResponseDTO.getTitle(), "Task title should match.");
         verify(taskRepository, times(1)).findById(existingTask.getId());
-        verify(modelMapper, times(1)).map(existingTask, TaskResponseDTO.class);
+        verify(responseMapper, times(1)).toTaskResponseDTO(existingTask);
     }
 
     @Test
@@ -319,7 +411,7 @@ public class TaskServiceTest {
         TaskResponseDTO expectedResponseDTO = new TaskResponseDTO();
         expectedResponseDTO.setId(existingTask.getId());
         expectedResponseDTO.setTitle(existingTask.getTitle());
-        when(modelMapper.map(existingTask, TaskResponseDTO.class)).thenReturn(expectedResponseDTO);
+        when(responseMapper.toTaskResponseDTO(existingTask)).thenReturn(expectedResponseDTO);
 
         //Act
         TaskResponseDTO actualResponseDTO = taskService.getTasksById(testProject.getId(), existingTask.getId(), normalUser);
@@ -329,7 +421,7 @@ public class TaskServiceTest {
         assertEquals(expectedResponseDTO.getId(), actualResponseDTO.getId(), "Task ID should match.");
         assertEquals(expectedResponseDTO.getTitle(), actualResponseDTO.getTitle(), "Task title should match.");
         verify(taskRepository, times(1)).findById(existingTask.getId());
-        verify(modelMapper, times(1)).map(existingTask, TaskResponseDTO.class);
+        verify(responseMapper, times(1)).toTaskResponseDTO(existingTask);
 
 
     }
@@ -344,7 +436,7 @@ public class TaskServiceTest {
         TaskResponseDTO expectedResponseDTO = new TaskResponseDTO();
         expectedResponseDTO.setId(existingTask.getId());
         expectedResponseDTO.setTitle(existingTask.getTitle());
-        when(modelMapper.map(existingTask, TaskResponseDTO.class)).thenReturn(expectedResponseDTO);
+        when(responseMapper.toTaskResponseDTO(existingTask)).thenReturn(expectedResponseDTO);
 
         //act
         TaskResponseDTO actualResponseDTO = taskService.getTasksById(testProject.getId(), existingTask.getId(), responsibleUser);
@@ -354,7 +446,7 @@ public class TaskServiceTest {
         assertEquals(expectedResponseDTO.getTitle(), actualResponseDTO.getTitle(), "Task title should match.");
 
         verify(taskRepository, times(1)).findById(existingTask.getId());
-        verify(modelMapper, times(1)).map(existingTask, TaskResponseDTO.class);
+        verify(responseMapper, times(1)).toTaskResponseDTO(existingTask);
 
     }
 
@@ -370,7 +462,7 @@ public class TaskServiceTest {
         ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> {
             taskService.getTasksById(testProject.getId(), nonexistentTaskId, normalUser);
         });
-        verify(modelMapper, never()).map(any(), any());
+        verify(responseMapper, never()).toTaskResponseDTO(any());
     }
 
     @Test
@@ -387,7 +479,7 @@ public class TaskServiceTest {
             taskService.getTasksById(differentProjectId, existingTask.getId(), normalUser);
         });
 
-        verify(modelMapper, never()).map(any(), any());
+        verify(responseMapper, never()).toTaskResponseDTO(any());
 
 
     }
@@ -401,8 +493,8 @@ public class TaskServiceTest {
         AccessDeniedException exception = assertThrows(AccessDeniedException.class, () -> { 
             taskService.getTasksById(testProject.getId(), existingTask.getId(), otherUser);
         });
-        //verificando q o modelMapper não foi chamado, pois o usuário não tem permissão para acessar a tarefa
-        verify(modelMapper, never()).map(any(), any());
+        //verificando q o responseMapper não foi chamado, pois o usuário não tem permissão para acessar a tarefa
+        verify(responseMapper, never()).toTaskResponseDTO(any());
     }
 
     @Test
@@ -910,6 +1002,90 @@ public class TaskServiceTest {
         verify(pagedResponseMapper, times(1)).toPagedResponse(taskPageFromRepo, TaskResponseFilteredDTO.class);
     }
 
+    @Test
+    @DisplayName("4.10: Should check project access before streaming the export")
+    void exportTasksFiltered_shouldThrowAccessDeniedException_beforeWritingAnything() throws Exception {
+        // Arrange
+        Long projectIdFilter = testProject.getId();
+
+        when(projectRepository.findById(projectIdFilter)).thenReturn(Optional.of(testProject));
+        doThrow(new AccessDeniedException("You do not have permission to access this resource."))
+            .when(projectService).ensureUserCanViewProject(testProject, otherUser);
+
+        // Act & Assert
+        assertThrows(AccessDeniedException.class, () -> {
+            taskService.exportTasksFiltered(null, null, projectIdFilter, ExportFormat.CSV, otherUser);
+        });
+        verify(taskExportService, never()).writeTasks(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("4.11: Export should write the tasks of every user for an admin and only the user's tasks otherwise")
+    void exportTasksFiltered_shouldRestrictToUser_whenNotAdmin() throws Exception {
+        // Arrange
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // Act
+        taskService.exportTasksFiltered("done", null, null, ExportFormat.NDJSON, adminUser).writeTo(outputStream);
+        taskService.exportTasksFiltered(null, null, null, ExportFormat.CSV, normalUser).writeTo(outputStream);
+
+        // Assert
+        verify(taskExportService).writeTasks(Status.DONE, null, null, null, ExportFormat.NDJSON, outputStream);
+        verify(taskExportService).writeTasks(null, null, null, normalUser.getUserId(), ExportFormat.CSV, outputStream);
+    }
+
+    @Test
+    @DisplayName("4.12: Normal user search should be ranked by the full-text search and restricted to the user's tasks")
+    void getAllTasksFiltered_shouldSearchUserTasks_whenNormalUserSearchesText() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 10);
+        Page<Task> taskPageFromRepo = new PageImpl<>(List.of(existingTask), pageable, 1);
+        when(taskRepository.searchTasksByUser("documentation", null, null, null, normalUser.getUserId(), pageable, CountMode.EXACT))
+            .thenReturn(taskPageFromRepo);
+        when(pagedResponseMapper.toPagedResponse(taskPageFromRepo, TaskResponseFilteredDTO.class))
+            .thenReturn(new PagedResponse<>(List.of(new TaskResponseFilteredDTO()), 0, 10, 1, 1, true));
+
+        // Act
+        PagedResponse<TaskResponseFilteredDTO> actualPagedResponse = taskService.getAllTasksFiltered(
+            "  documentation ", null, null, null, pageable, normalUser);
+
+        // Assert
+        assertEquals(1, actualPagedResponse.getTotalElements());
+        verify(taskRepository, never()).searchTasks(any(), any(), any(), any(), any(Pageable.class), any(CountMode.class));
+        verify(taskRepository, never()).findTasksFilteredByUser(any(), any(), any(), any(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("4.13: Should reject a search text longer than 200 characters")
+    void getAllTasksFiltered_shouldThrowIllegalArgumentException_whenSearchTextIsTooLong() {
+        // Arrange
+        String text = "a".repeat(201);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+            () -> taskService.getAllTasksFiltered(text, null, null, null, PageRequest.of(0, 10), normalUser));
+        verify(taskRepository, never()).searchTasksByUser(any(), any(), any(), any(), any(), any(Pageable.class), any(CountMode.class));
+    }
+
+    @Test
+    @DisplayName("4.14: Should skip the count and return a slice when the count mode is NONE")
+    void getAllTasksFiltered_shouldNotCount_whenCountModeIsNone() {
+        // Arrange
+        Pageable pageable = PageRequest.of(0, 10);
+        Slice<Task> taskSliceFromRepo = new SliceImpl<>(List.of(existingTask), pageable, true);
+        when(taskRepository.findTasksFiltered(Status.TODO, null, null, pageable, CountMode.NONE)).thenReturn(taskSliceFromRepo);
+        when(pagedResponseMapper.toPagedResponse(taskSliceFromRepo, TaskResponseFilteredDTO.class))
+            .thenReturn(new PagedResponse<>(List.of(new TaskResponseFilteredDTO()), 0, 10, -1, -1, false));
+
+        // Act
+        PagedResponse<TaskResponseFilteredDTO> actualPagedResponse = taskService.getAllTasksFiltered(
+            null, "todo", null, null, pageable, CountMode.NONE, adminUser);
+
+        // Assert
+        assertTrue(actualPagedResponse.hasNext());
+        verify(taskRepository, never()).findTasksFiltered(any(), any(), any(), any(Pageable.class));
+    }
+
     @Test
     @DisplayName("5.2: Task owner should update task status successfully")
     void updateStatus_shouldUpdateStatus_whenUserIsOwner() {
@@ -934,7 +1110,7 @@ public class TaskServiceTest {
         TaskResponseDTO expectedResponse = new TaskResponseDTO();
         expectedResponse.setId(taskId);
         expectedResponse.setStatus(Status.TODO);
-        when(modelMapper.map(updatedTaskEntity, TaskResponseDTO.class)).thenReturn(expectedResponse);
+        when(responseMapper.toTaskResponseDTO(updatedTaskEntity)).thenReturn(expectedResponse);
 
         // Act
         TaskResponseDTO actualResponse = taskService.updateStatus(projectId, taskId, patchDTO, normalUser);
@@ -968,7 +1144,7 @@ public class TaskServiceTest {
         TaskResponseDTO expectedResponse = new TaskResponseDTO();
         expectedResponse.setId(taskId);
         expectedResponse.setStatus(Status.DONE);
-        when(modelMapper.map(updatedTaskEntity, TaskResponseDTO.class)).thenReturn(expectedResponse);
+        when(responseMapper.toTaskResponseDTO(updatedTaskEntity)).thenReturn(expectedResponse);
 
         // Act
         TaskResponseDTO actualResponse = taskService.updateStatus(projectId, taskId, patchDTO, responsibleUser);
@@ -977,6 +1153,8 @@ public class TaskServiceTest {
         assertNotNull(actualResponse);
         assertEquals(Status.DONE, actualResponse.getStatus());
         verify(taskRepository).save(any(Task.class));
+        verify(projectStatusCounterService).move(projectId, Status.INPROGRESS, Status.DONE);
+        verify(changeBus).publish(ChangeNotification.tasks(projectId, List.of(new TaskEventDTO(TaskEventType.STATUS_CHANGED, projectId, taskId, Status.DONE))));
     }
 
     @Test
@@ -1035,6 +1213,32 @@ public class TaskServiceTest {
         verify(taskRepository, never()).save(any(Task.class));
     }
 
+    @Test
+    @DisplayName("5.7: Should update the statuses of the allowed tasks with a single UPDATE and report the others")
+    void updateStatuses_shouldUpdateAllowedTasksOnce_andReportOthers() {
+        // Arrange
+        TaskStatusBulkRequestDTO bulkDTO = new TaskStatusBulkRequestDTO(List.of(1L, 2L, 3L, 1L), Status.DONE);
+
+        when(projectRepository.findById(testProject.getId())).thenReturn(Optional.of(testProject));
+        when(taskRepository.findIdsByIdInAndProjectId(Set.of(1L, 2L, 3L), testProject.getId())).thenReturn(List.of(1L, 2L));
+        when(taskRepository.findIdsByIdInAndProjectIdAccessibleBy(Set.of(1L, 2L), testProject.getId(), responsibleUser.getUserId())).thenReturn(List.of(1L));
+        when(taskRepository.lockStatusesByIdIn(Set.of(1L))).thenReturn(List.of(Status.INPROGRESS));
+
+        // Act
+        List<TaskStatusResultDTO> results = taskService.updateStatuses(testProject.getId(), bulkDTO, responsibleUser);
+
+        // Assert
+        assertEquals(3, results.size(), "Repeated task IDs should be reported only once.");
+        assertEquals(new TaskStatusResultDTO(1L, true, null), results.get(0));
+        assertEquals(new TaskStatusResultDTO(2L, false, "FORBIDDEN - You do not have permission to modify this task."), results.get(1));
+        assertEquals(new TaskStatusResultDTO(3L, false, "Task Not Found."), results.get(2));
+
+        verify(taskRepository, times(1)).updateStatusByIdIn(Set.of(1L), Status.DONE);
+        verify(projectStatusCounterService).moveAll(testProject.getId(), List.of(Status.INPROGRESS), Status.DONE);
+        verify(taskRepository, never()).findById(anyLong());
+        verify(taskRepository, never()).save(any(Task.class));
+    }
+
 
     @Test
     @DisplayName("6.1: Admin should update task details successfully")
@@ -1066,7 +1270,7 @@ public class TaskServiceTest {
 
         // Mock do mapeamento final da entidade Task (agora atualizada) para TaskResponseDTO.
         // Este será chamado com 'existingTask' modificado (que se tornou 'updated' no serviço).
-        when(modelMapper.map(any(Task.class), eq(TaskResponseDTO.class))).thenAnswer(invocation -> {
+        when(responseMapper.toTaskResponseDTO(any(Task.class))).thenAnswer(invocation -> {
             Task taskInput = invocation.getArgument(0);
             TaskResponseDTO responseDto = new TaskResponseDTO();
             // Mapeie todos os campos relevantes do taskInput para o responseDto
@@ -1139,7 +1343,7 @@ public class TaskServiceTest {
         expectedResponse.setDescription(requestDTO.getDescription());
         expectedResponse.setDueDate(requestDTO.getDueDate());
 
-        when(modelMapper.map(savedTaskEntity, TaskResponseDTO.class)).thenReturn(expectedResponse);
+        when(responseMapper.toTaskResponseDTO(savedTaskEntity)).thenReturn(expectedResponse);
 
         // Act
         TaskResponseDTO actualResponse = taskService.updateTask(projectId, taskId, requestDTO, normalUser);
@@ -1205,7 +1409,7 @@ public class TaskServiceTest {
         expectedResponse.setDescription(requestDTO.getDescription());
         expectedResponse.setDueDate(requestDTO.getDueDate());
 
-        when(modelMapper.map(savedTaskEntity, TaskResponseDTO.class)).thenReturn(expectedResponse);
+        when(responseMapper.toTaskResponseDTO(savedTaskEntity)).thenReturn(expectedResponse);
 
         // Act
         TaskResponseDTO actualResponse = taskService.updateTask(projectId, taskId, requestDTO, responsibleUser);
@@ -1307,6 +1511,26 @@ public class TaskServiceTest {
         verify(taskRepository, never()).save(any(Task.class));
     }
 
+    @Test
+    @DisplayName("6.8: Should throw PreconditionFailedException when If-Match does not have the current version of the task")
+    void updateTask_shouldThrowPreconditionFailedException_whenIfMatchIsStale() {
+        // Arrange
+        Long taskId = existingTask.getId();
+        Long projectId = testProject.getId();
+        existingTask.setVersion(3L);
+        TaskRequestDTO requestDTO = new TaskRequestDTO();
+        requestDTO.setTitle("Stale update");
+
+        when(taskRepository.findById(taskId)).thenReturn(Optional.of(existingTask));
+
+        // Act & Assert
+        assertThrows(PreconditionFailedException.class, () -> {
+            taskService.updateTask(projectId, taskId, requestDTO, "\"2\"", normalUser);
+        });
+        assertEquals("Existing Task", existingTask.getTitle());
+        verify(taskRepository, never()).save(any(Task.class));
+    }
+
     @Test
     @DisplayName("7.1: Admin should delete any task successfully")
     void deleteTask_shouldDeleteTask_whenUserIsAdmin() {
@@ -1322,6 +1546,8 @@ public class TaskServiceTest {
 
         // Assert
         verify(taskRepository).delete(existingTask);
+        verify(projectStatusCounterService).add(projectId, Status.INPROGRESS, -1);
+        verify(changeBus).publish(ChangeNotification.tasks(projectId, List.of(new TaskEventDTO(TaskEventType.DELETED, projectId, taskId, Status.INPROGRESS))));
     }
 
     @Test
@@ -10,8 +10,12 @@ import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teamtacles.teamtacles_api.dto.authentication.RefreshTokenRequestDTO;
 import com.teamtacles.teamtacles_api.dto.request.RoleRequestDTO;
 import com.teamtacles.teamtacles_api.dto.request.UserRequestDTO;
 import com.teamtacles.teamtacles_api.model.User;
@@ -23,14 +27,20 @@ import com.teamtacles.teamtacles_api.util.TestDataAux;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.emptyString;
 import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.greaterThan;
 
 @SpringBootTest
 @AutoConfigureMockMvc
@@ -190,6 +200,47 @@ public class UserControllerTest {
             .andExpect(jsonPath("$.totalPages").exists());
     }
 
+    @Test
+    @DisplayName("Should skip the count and report the next page when count is none")
+    void testGetAllUsers_WhenCountIsNone_ShouldReturnSliceWithoutTotals() throws Exception {
+        mockMvc.perform(get("/api/user")
+            .header("Authorization", "Bearer " + testDataAux.getAdminUserToken())
+            .param("page", "0")
+            .param("size", "1")
+            .param("count", "none"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content.length()").value(1))
+            .andExpect(jsonPath("$.totalElements").value(-1))
+            .andExpect(jsonPath("$.totalPages").value(-1))
+            .andExpect(jsonPath("$.hasNext").value(true));
+    }
+
+    @Test
+    @DisplayName("Should return the total from the count cache when count is cached")
+    void testGetAllUsers_WhenCountIsCached_ShouldReturnTotals() throws Exception {
+        long total = userRepository.count();
+
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get("/api/user")
+                .header("Authorization", "Bearer " + testDataAux.getAdminUserToken())
+                .param("page", "0")
+                .param("size", "1")
+                .param("count", "cached"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(total))
+                .andExpect(jsonPath("$.hasNext").value(total > 1));
+        }
+    }
+
+    @Test
+    @DisplayName("Should return 400 when the count mode is invalid")
+    void testGetAllUsers_WhenCountIsInvalid_ShouldReturn400() throws Exception {
+        mockMvc.perform(get("/api/user")
+            .header("Authorization", "Bearer " + testDataAux.getAdminUserToken())
+            .param("count", "approximate"))
+            .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("Should forbid paged list of all users when not admin")
     void testGetAllUsers_WhenUser_ShouldReturn403() throws Exception {
@@ -210,4 +261,173 @@ public class UserControllerTest {
             .param("size", "10"))
             .andExpect(status().isUnauthorized());
     }
+
+    @Test
+    @DisplayName("Should return a token when the password matches, whatever the case of the username")
+    void testAuthenticate_WhenPasswordMatches_ShouldReturnToken() throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/auth/authenticate")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"userName\": \"TestUser\", \"password\": \"12345\"}"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.token", not(emptyString())))
+            .andExpect(jsonPath("$.refreshToken", not(emptyString())))
+            .andExpect(jsonPath("$.tokenType").value("Bearer"))
+            .andExpect(jsonPath("$.expiresIn").value(900));
+    }
+
+    @Test
+    @DisplayName("Should return 401 when the password does not match")
+    void testAuthenticate_WhenPasswordIsWrong_ShouldReturn401() throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/auth/authenticate")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"userName\": \"testuser\", \"password\": \"wrong\"}"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("Should return 401, as for a wrong password, when the username does not exist")
+    void testAuthenticate_WhenUserDoesNotExist_ShouldReturn401() throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/auth/authenticate")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"userName\": \"nobody\", \"password\": \"12345\"}"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("Should rehash the password on login when it was hashed with another cost")
+    void testAuthenticate_WhenHashCostDiffers_ShouldRehashPassword() throws Exception {
+        User user = testDataAux.getNormalUser();
+        String oldHash = new BCryptPasswordEncoder(4).encode("12345");
+        user.setPassword(oldHash);
+        userRepository.save(user);
+
+        MvcResult result = mockMvc.perform(post("/api/auth/authenticate")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"userName\": \"testuser\", \"password\": \"12345\"}"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk());
+
+        // o novo hash é gravado em segundo plano, após a resposta
+        String newHash = oldHash;
+        for (int i = 0; i < 100 && newHash.equals(oldHash); i++) {
+            Thread.sleep(50);
+            newHash = userRepository.findById(user.getUserId()).orElseThrow().getPassword();
+        }
+        assertTrue(newHash.startsWith("$2a$10$"), "The password should be rehashed with the configured cost");
+    }
+
+    @Test
+    @DisplayName("Should rotate the refresh token and issue a new access token")
+    void testRefresh_WhenTokenIsValid_ShouldRotateTokens() throws Exception {
+        JsonNode login = login();
+
+        JsonNode refreshed = refresh(login.get("refreshToken").asText(), 200);
+
+        assertNotEquals(login.get("refreshToken").asText(), refreshed.get("refreshToken").asText());
+        mockMvc.perform(get("/api/project/all")
+            .header("Authorization", "Bearer " + refreshed.get("token").asText()))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Should revoke the whole session when a used refresh token is presented again")
+    void testRefresh_WhenTokenIsReused_ShouldRevokeFamily() throws Exception {
+        JsonNode login = login();
+        JsonNode refreshed = refresh(login.get("refreshToken").asText(), 200);
+
+        // o token antigo reapresentado indica roubo: a família inteira é revogada
+        refresh(login.get("refreshToken").asText(), 401);
+
+        refresh(refreshed.get("refreshToken").asText(), 401);
+        mockMvc.perform(get("/api/project/all")
+            .header("Authorization", "Bearer " + refreshed.get("token").asText()))
+            .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("Should reject the access token after logout")
+    void testLogout_ShouldRevokeAccessToken() throws Exception {
+        JsonNode login = login();
+        String accessToken = login.get("token").asText();
+        mockMvc.perform(get("/api/project/all")
+            .header("Authorization", "Bearer " + accessToken))
+            .andExpect(status().isOk());
+
+        mockMvc.perform(post("/api/auth/logout")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(new RefreshTokenRequestDTO(login.get("refreshToken").asText()))))
+            .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/project/all")
+            .header("Authorization", "Bearer " + accessToken))
+            .andExpect(status().isUnauthorized());
+        refresh(login.get("refreshToken").asText(), 401);
+    }
+
+    private JsonNode login() throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/auth/authenticate")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"userName\": \"testuser\", \"password\": \"12345\"}"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        String body = mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
+    private JsonNode refresh(String refreshToken, int expectedStatus) throws Exception {
+        String body = mockMvc.perform(post("/api/auth/refresh")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(new RefreshTokenRequestDTO(refreshToken))))
+            .andExpect(status().is(expectedStatus))
+            .andReturn().getResponse().getContentAsString();
+        return body.isEmpty() ? null : objectMapper.readTree(body);
+    }
+
+    @Test
+    @DisplayName("Should answer repeated role lookups from the second-level cache")
+    void testRegisterUsers_ShouldReuseCachedRole() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            UserRequestDTO dto = new UserRequestDTO();
+            dto.setUserName("cachedRole" + i);
+            dto.setEmail("cachedRole" + i + "@example.com");
+            dto.setPassword("12345");
+            dto.setPasswordConfirm("12345");
+
+            mockMvc.perform(post("/api/user/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isCreated());
+        }
+
+        mockMvc.perform(get("/api/cache/regions")
+            .header("Authorization", "Bearer " + testDataAux.getAdminUserToken()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[*].name", hasItem("project.team")))
+            .andExpect(jsonPath("$[?(@.name == 'default-query-results-region')].hitCount", everyItem(greaterThan(0))))
+            .andExpect(jsonPath("$[?(@.name == 'role')].hitCount", everyItem(greaterThan(0))));
+    }
+
+    @Test
+    @DisplayName("Should forbid the second-level cache statistics when not admin")
+    void testGetCacheRegions_WhenUser_ShouldReturn403() throws Exception {
+        mockMvc.perform(get("/api/cache/regions")
+            .header("Authorization", "Bearer " + testDataAux.getNormalUserToken()))
+            .andExpect(status().isForbidden());
+    }
 }
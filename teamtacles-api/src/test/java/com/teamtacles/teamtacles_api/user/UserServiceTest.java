@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.HashSet;
@@ -17,10 +18,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 
+import com.teamtacles.teamtacles_api.changebus.ChangeBus;
+import com.teamtacles.teamtacles_api.changebus.ChangeNotification;
 import com.teamtacles.teamtacles_api.dto.request.ProjectRequestDTO;
 import com.teamtacles.teamtacles_api.dto.request.RoleRequestDTO;
 import com.teamtacles.teamtacles_api.dto.request.UserRequestDTO;
@@ -31,11 +33,15 @@ import com.teamtacles.teamtacles_api.exception.PasswordMismatchException;
 import com.teamtacles.teamtacles_api.exception.ResourceNotFoundException;
 import com.teamtacles.teamtacles_api.exception.UsernameAlreadyExistsException;
 import com.teamtacles.teamtacles_api.mapper.PagedResponseMapper;
+import com.teamtacles.teamtacles_api.mapper.ResponseMapper;
 import com.teamtacles.teamtacles_api.model.Role;
 import com.teamtacles.teamtacles_api.model.User;
 import com.teamtacles.teamtacles_api.model.enums.ERole;
+import com.teamtacles.teamtacles_api.repository.CountCache;
 import com.teamtacles.teamtacles_api.repository.RoleRepository;
 import com.teamtacles.teamtacles_api.repository.UserRepository;
+import com.teamtacles.teamtacles_api.security.AuthenticatedUserCache;
+import com.teamtacles.teamtacles_api.security.PasswordHasher;
 import com.teamtacles.teamtacles_api.service.UserService;
 
 @ExtendWith(MockitoExtension.class)
@@ -55,7 +61,19 @@ public class UserServiceTest {
     private PagedResponseMapper pagedResponseMapper;
 
     @Mock
-    private ModelMapper modelMapper; 
+    private ResponseMapper responseMapper;
+
+    @Mock
+    private AuthenticatedUserCache authenticatedUserCache;
+
+    @Mock
+    private ChangeBus changeBus;
+
+    @Mock
+    private CountCache countCache;
+
+    @Mock
+    private PasswordHasher passwordHasher;
 
     @InjectMocks
     private UserService userService;
@@ -98,8 +116,7 @@ public class UserServiceTest {
         when(userRepository.existsByEmail(userRequestDTO.getEmail())).thenReturn(false);
         when(roleRepository.findByRoleName(ERole.USER)).thenReturn(Optional.of(userRole));
         when(userRepository.save(newUser)).thenReturn(savedNewUser);
-        when(modelMapper.map(savedNewUser, UserResponseDTO.class)).thenReturn(userResponseDTO);
-        when(modelMapper.map(userRoleReturned, RoleResponseDTO.class)).thenReturn(new RoleResponseDTO(userRoleReturned.getRoleName()));
+        when(responseMapper.toUserResponseDTO(savedNewUser)).thenReturn(userResponseDTO);
 
         UserResponseDTO response = userService.createUser(userRequestDTO);
 
@@ -190,13 +207,14 @@ public class UserServiceTest {
         when(userRepository.findById(userId)).thenReturn(Optional.of(existingUser));
         when(roleRepository.findByRoleName(ERole.valueOf(roleRequestDTO.getRole().toUpperCase()))).thenReturn(Optional.of(userRoleReturned));
         when(userRepository.save(existingUser)).thenReturn(savedNewUser);
-        when(modelMapper.map(savedNewUser, UserResponseDTO.class)).thenReturn(userResponseDTO);
-        when(modelMapper.map(userRoleReturned, RoleResponseDTO.class)).thenReturn(new RoleResponseDTO(userRoleReturned.getRoleName()));
+        when(responseMapper.toUserResponseDTO(savedNewUser)).thenReturn(userResponseDTO);
 
         UserResponseDTO response = userService.exchangepaperUser(userId, roleRequestDTO);
 
         assertNotNull(response);
         assertTrue(response.getRoles().stream().anyMatch(role -> role.getRoleName().equals(ERole.valueOf(roleRequestDTO.getRole()))));
+        verify(authenticatedUserCache).evict(userId);
+        verify(changeBus).publish(ChangeNotification.userRoles(userId));
     }
 
     @Test